@@ -18,11 +18,19 @@ public class GripConfig {
 
     public static final String DISCOVERY_ENABLED = "discovery.enabled";
     public static final String DISCOVERY_AUTO_DETECT = "discovery.auto_detect";
+    public static final String DISCOVERY_CAMPAIGN_CONCURRENCY = "discovery.campaign.concurrency";
+    public static final String DISCOVERY_CAMPAIGN_PER_HOST = "discovery.campaign.per_host";
+    public static final String DISCOVERY_CAMPAIGN_HOST_DELAY_MS = "discovery.campaign.host_delay_ms";
+    public static final String FINGERPRINT_PASSIVE = "fingerprint.passive";
+    public static final String CATALOG_ENABLED = "catalog.enabled";
+    public static final String CATALOG_MAX_OPERATIONS = "catalog.max_operations";
 
     public static final String SCHEMA_CODEGEN_DEPTH = "schema.codegen.depth";
     public static final String SCHEMA_CODEGEN_PAD = "schema.codegen.pad";
     public static final String SCHEMA_RECONSTRUCTION_BUCKET_SIZE = "schema.reconstruction.bucket_size";
     public static final String SCHEMA_RECONSTRUCTION_CONCURRENCY = "schema.reconstruction.concurrency";
+    public static final String SCHEMA_GRAMMAR_DIR = "schema.grammar_dir";
+    public static final String SCHEMA_LEARN_PASSIVE = "schema.learn.passive";
 
     public static final String SECURITY_DOS_ALIAS_COUNT = "security.dos.alias_count";
     public static final String SECURITY_DOS_BATCH_COUNT = "security.dos.batch_count";
@@ -45,6 +53,12 @@ public class GripConfig {
     public static final String HTTP_USER_AGENT = "http.user_agent";
     public static final String HTTP_INHERIT_AUTH_HEADERS = "http.inherit_auth_headers";
 
+    public static final String EVENTBUS_BUFFER_SIZE = "eventbus.buffer_size";
+    public static final String EVENTBUS_OVERFLOW = "eventbus.overflow";
+    public static final String EVENTBUS_INSTRUMENTATION = "eventbus.instrumentation";
+    public static final String EVENTBUS_SLOW_LISTENER_MS = "eventbus.slow_listener_ms";
+    public static final String EVENTBUS_BLOCK_TIMEOUT_MS = "eventbus.block_timeout_ms";
+
     public static final String SECURITY_DEPTH_LEVELS = "security.depth_levels";
     public static final String SECURITY_CIRCULAR_DEPTH = "security.circular_depth";
 
@@ -71,11 +85,19 @@ public class GripConfig {
 
         defaults.put(DISCOVERY_ENABLED, true);
         defaults.put(DISCOVERY_AUTO_DETECT, true);
+        defaults.put(DISCOVERY_CAMPAIGN_CONCURRENCY, 10);
+        defaults.put(DISCOVERY_CAMPAIGN_PER_HOST, 2);
+        defaults.put(DISCOVERY_CAMPAIGN_HOST_DELAY_MS, 200);
+        defaults.put(FINGERPRINT_PASSIVE, true);
+        defaults.put(CATALOG_ENABLED, true);
+        defaults.put(CATALOG_MAX_OPERATIONS, 5000);
 
         defaults.put(SCHEMA_CODEGEN_DEPTH, 2);
         defaults.put(SCHEMA_CODEGEN_PAD, 4);
         defaults.put(SCHEMA_RECONSTRUCTION_BUCKET_SIZE, 64);
         defaults.put(SCHEMA_RECONSTRUCTION_CONCURRENCY, 8);
+        defaults.put(SCHEMA_GRAMMAR_DIR, System.getProperty("user.home") + "/.grip/grammars");
+        defaults.put(SCHEMA_LEARN_PASSIVE, true);
 
         defaults.put(SECURITY_DOS_ALIAS_COUNT, 100);
         defaults.put(SECURITY_DOS_BATCH_COUNT, 10);
@@ -98,6 +120,12 @@ public class GripConfig {
         defaults.put(HTTP_USER_AGENT, "");
         defaults.put(HTTP_INHERIT_AUTH_HEADERS, true);
 
+        defaults.put(EVENTBUS_BUFFER_SIZE, 1024);
+        defaults.put(EVENTBUS_OVERFLOW, "block");
+        defaults.put(EVENTBUS_INSTRUMENTATION, false);
+        defaults.put(EVENTBUS_SLOW_LISTENER_MS, 100);
+        defaults.put(EVENTBUS_BLOCK_TIMEOUT_MS, 1000);
+
         defaults.put(SECURITY_DEPTH_LEVELS, 15);
         defaults.put(SECURITY_CIRCULAR_DEPTH, 10);
 
@@ -4,11 +4,19 @@ import burp.api.montoya.MontoyaApi;
 import com.grip.graphql.api.GripModule;
 import com.grip.graphql.event.GripEventBus;
 import com.grip.graphql.http.GripHttpClient;
+import com.grip.graphql.schema.GripSchemaIndex;
+import com.grip.graphql.schema.regex.GripGrammarRegistry;
+import com.grip.graphql.discovery.GripEndpointIndexer;
+import com.grip.graphql.security.GripPassiveFingerprinter;
+import com.grip.graphql.traffic.GripBundleMiner;
+import com.grip.graphql.traffic.GripOperationCatalog;
+import com.grip.graphql.traffic.GripSchemaLearner;
 import com.grip.graphql.ui.GripMainTab;
 import com.grip.graphql.ui.GripTheme;
 import com.grip.graphql.ui.GripContextMenu;
 import com.grip.graphql.editor.GripRequestEditorProvider;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,6 +43,33 @@ public class GripCore {
 
         httpClient = new GripHttpClient(api);
 
+        String overflow = config.getString(GripConfig.EVENTBUS_OVERFLOW);
+        eventBus.setDefaults(config.getInteger(GripConfig.EVENTBUS_BUFFER_SIZE),
+            "drop_oldest".equalsIgnoreCase(overflow) ? GripEventBus.OverflowPolicy.DROP_OLDEST : GripEventBus.OverflowPolicy.BLOCK);
+        eventBus.setInstrumentation(Boolean.TRUE.equals(config.getBoolean(GripConfig.EVENTBUS_INSTRUMENTATION)));
+        eventBus.setSlowListenerThreshold(config.getInteger(GripConfig.EVENTBUS_SLOW_LISTENER_MS));
+        eventBus.setBlockTimeout(config.getInteger(GripConfig.EVENTBUS_BLOCK_TIMEOUT_MS));
+        config.registerHook(GripConfig.EVENTBUS_INSTRUMENTATION, value -> eventBus.setInstrumentation(Boolean.TRUE.equals(value)));
+
+        GripGrammarRegistry grammars = GripGrammarRegistry.getInstance();
+        grammars.setErrorLogger(msg -> api.logging().logToError(msg));
+        String grammarDir = config.getString(GripConfig.SCHEMA_GRAMMAR_DIR);
+        if (grammarDir != null && !grammarDir.isBlank()) {
+            int loaded = grammars.loadDirectory(Paths.get(grammarDir));
+            if (loaded > 0) {
+                api.logging().logToOutput("[GraphQL Grip] Loaded " + loaded + " error grammar pack(s) from " + grammarDir);
+            }
+        }
+
+        registerModule(new GripPassiveFingerprinter());
+        registerModule(new GripEndpointIndexer());
+        GripOperationCatalog catalog = new GripOperationCatalog();
+        registerModule(catalog);
+        GripBundleMiner bundleMiner = new GripBundleMiner();
+        bundleMiner.setCatalog(catalog);
+        registerModule(bundleMiner);
+        registerModule(new GripSchemaLearner());
+
         for (GripModule module : modules) {
             try {
                 module.initialize(api, eventBus);
@@ -63,6 +98,10 @@ public class GripCore {
     public void shutdown() {
         api.logging().logToOutput("[GraphQL Grip] Shutting down...");
 
+        if (mainTab != null) {
+            mainTab.dispose();
+        }
+
         for (int i = modules.size() - 1; i >= 0; i--) {
             GripModule module = modules.get(i);
             try {
@@ -78,6 +117,7 @@ public class GripCore {
             httpClient.shutdown();
         }
 
+        GripSchemaIndex.shutdown();
         eventBus.shutdown();
 
         api.logging().logToOutput("[GraphQL Grip] Shutdown complete");
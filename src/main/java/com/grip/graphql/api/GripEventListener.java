@@ -2,8 +2,16 @@ package com.grip.graphql.api;
 
 import com.grip.graphql.event.GripEvent;
 
+import java.util.List;
+
 @FunctionalInterface
 public interface GripEventListener<T extends GripEvent> {
 
     void onEvent(T event);
+
+    default void onEvents(List<T> events) {
+        for (T event : events) {
+            onEvent(event);
+        }
+    }
 }
@@ -0,0 +1,270 @@
+package com.grip.graphql.discovery;
+
+import com.grip.graphql.http.GripHttpClient;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class GripDiscoveryCampaign {
+
+    private static final long IDLE_WAIT_MS = 100;
+
+    public interface Listener {
+        void onFinding(String baseUrl, GripEndpointDiscoverer.Finding finding);
+
+        void onHostComplete(String baseUrl, int findings);
+
+        void onProgress(int completed, int total);
+    }
+
+    private static class HostQueue {
+        final String baseUrl;
+        final Deque<String> paths;
+        GripEndpointDiscoverer.Baseline baseline;
+        boolean baselineStarted;
+        int inFlight;
+        long nextAllowed;
+        int findings;
+        boolean done;
+
+        HostQueue(String baseUrl) {
+            this.baseUrl = baseUrl;
+            this.paths = new ArrayDeque<>(Arrays.asList(GripEndpointDiscoverer.GRAPHQL_PATHS));
+        }
+
+        boolean isReady(long now, int perHostLimit) {
+            if (done || inFlight >= perHostLimit || now < nextAllowed) {
+                return false;
+            }
+            return baseline == null ? !baselineStarted : !paths.isEmpty();
+        }
+
+        boolean isFinished() {
+            return baseline != null && paths.isEmpty() && inFlight == 0;
+        }
+    }
+
+    private final GripEndpointDiscoverer discoverer;
+    private final int globalLimit;
+    private final int perHostLimit;
+    private final long hostDelayMs;
+    private final ExecutorService pool;
+    private final Object lock = new Object();
+    private final List<HostQueue> hosts = new ArrayList<>();
+    private final Set<String> knownHosts = new HashSet<>();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger totalFindings = new AtomicInteger();
+    private int cursor = 0;
+    private int total = 0;
+    private Listener listener;
+    private Consumer<String> progressCallback;
+    private volatile boolean cancelled = false;
+
+    public GripDiscoveryCampaign(GripHttpClient httpClient, int globalLimit, int perHostLimit, long hostDelayMs) {
+        this.discoverer = new GripEndpointDiscoverer(httpClient);
+        this.globalLimit = Math.max(1, globalLimit);
+        this.perHostLimit = Math.max(1, perHostLimit);
+        this.hostDelayMs = Math.max(0, hostDelayMs);
+        this.pool = Executors.newFixedThreadPool(this.globalLimit, r -> {
+            Thread t = new Thread(r, "grip-campaign-" + System.nanoTime());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public GripEndpointDiscoverer getDiscoverer() {
+        return discoverer;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    public void setProgressCallback(Consumer<String> callback) {
+        this.progressCallback = callback;
+        discoverer.setProgressCallback(callback);
+    }
+
+    private void log(String message) {
+        if (progressCallback != null) {
+            progressCallback.accept(message);
+        }
+    }
+
+    public boolean addHost(String url) {
+        String baseUrl = GripEndpointDiscoverer.normalizeBaseUrl(url);
+        synchronized (lock) {
+            if (!knownHosts.add(baseUrl)) {
+                return false;
+            }
+            hosts.add(new HostQueue(baseUrl));
+            total += GripEndpointDiscoverer.GRAPHQL_PATHS.length;
+            lock.notifyAll();
+        }
+        return true;
+    }
+
+    public int getHostCount() {
+        synchronized (lock) {
+            return hosts.size();
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+        discoverer.cancel();
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        pool.shutdownNow();
+    }
+
+    public CompletableFuture<Integer> start(java.util.concurrent.Executor executor) {
+        return CompletableFuture.supplyAsync(this::dispatch, executor);
+    }
+
+    private int dispatch() {
+        Semaphore budget = new Semaphore(globalLimit);
+        try {
+            while (!cancelled) {
+                budget.acquire();
+
+                HostQueue host;
+                Runnable job;
+                synchronized (lock) {
+                    while (true) {
+                        if (cancelled) {
+                            return totalFindings.get();
+                        }
+                        long now = System.currentTimeMillis();
+                        host = pick(now);
+                        if (host != null) {
+                            job = reserve(host, now);
+                            break;
+                        }
+                        if (allFinished()) {
+                            return totalFindings.get();
+                        }
+                        lock.wait(waitTime(now));
+                    }
+                }
+
+                HostQueue owner = host;
+                try {
+                    pool.execute(() -> {
+                        try {
+                            job.run();
+                        } finally {
+                            release(owner);
+                            budget.release();
+                        }
+                    });
+                } catch (java.util.concurrent.RejectedExecutionException e) {
+                    release(owner);
+                    budget.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdown();
+        }
+        return totalFindings.get();
+    }
+
+    private HostQueue pick(long now) {
+        int size = hosts.size();
+        for (int i = 0; i < size; i++) {
+            HostQueue host = hosts.get((cursor + i) % size);
+            if (host.isReady(now, perHostLimit)) {
+                cursor = (cursor + i + 1) % size;
+                return host;
+            }
+        }
+        return null;
+    }
+
+    private Runnable reserve(HostQueue host, long now) {
+        host.inFlight++;
+        host.nextAllowed = now + hostDelayMs;
+
+        if (host.baseline == null) {
+            host.baselineStarted = true;
+            return () -> {
+                GripEndpointDiscoverer.Baseline baseline = discoverer.baseline(host.baseUrl, hostDelayMs);
+                if (baseline.isCatchAll()) {
+                    log("[!] " + host.baseUrl + " answers random paths; matching responses are ignored");
+                }
+                synchronized (lock) {
+                    host.baseline = baseline;
+                }
+            };
+        }
+
+        String path = host.paths.poll();
+        GripEndpointDiscoverer.Baseline baseline = host.baseline;
+        return () -> {
+            GripEndpointDiscoverer.Finding finding = discoverer.probe(host.baseUrl, path, baseline);
+            if (finding != null) {
+                synchronized (lock) {
+                    host.findings++;
+                }
+                totalFindings.incrementAndGet();
+                if (listener != null) listener.onFinding(host.baseUrl, finding);
+            }
+            int done = completed.incrementAndGet();
+            if (listener != null) listener.onProgress(done, currentTotal());
+        };
+    }
+
+    private void release(HostQueue host) {
+        boolean finished;
+        int findings;
+        synchronized (lock) {
+            host.inFlight--;
+            finished = !host.done && host.isFinished();
+            if (finished) {
+                host.done = true;
+            }
+            findings = host.findings;
+            lock.notifyAll();
+        }
+        if (finished && listener != null) {
+            listener.onHostComplete(host.baseUrl, findings);
+        }
+    }
+
+    private boolean allFinished() {
+        for (HostQueue host : hosts) {
+            if (!host.done) return false;
+        }
+        return true;
+    }
+
+    private long waitTime(long now) {
+        long wait = IDLE_WAIT_MS;
+        for (HostQueue host : hosts) {
+            if (!host.done && host.inFlight < perHostLimit && host.nextAllowed > now) {
+                wait = Math.min(wait, host.nextAllowed - now);
+            }
+        }
+        return Math.max(1, wait);
+    }
+
+    private int currentTotal() {
+        synchronized (lock) {
+            return total;
+        }
+    }
+}
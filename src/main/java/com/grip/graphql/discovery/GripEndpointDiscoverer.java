@@ -0,0 +1,301 @@
+package com.grip.graphql.discovery;
+
+import burp.api.montoya.http.message.HttpRequestResponse;
+import com.google.gson.JsonObject;
+import com.grip.graphql.http.GripHttpClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+public class GripEndpointDiscoverer {
+
+    public static final String[] GRAPHQL_PATHS = {
+        "graphql", "graphiql", "playground", "altair", "explorer",
+        "graphql/console", "graphql-explorer", "subscriptions", "api/graphql", "graph",
+        "graphiql.css", "graphiql/finland", "graphiql.js", "graphiql.min.css",
+        "graphiql.min.js", "graphiql.php", "graphql.php",
+        "graphql/schema.json", "graphql/schema.xml", "graphql/schema.yaml",
+        "v1/graphql", "v1/graphiql", "v1/playground", "v1/altair", "v1/explorer",
+        "v1/graphql/console", "v1/graphql-explorer", "v1/api/graphql", "v1/graph",
+        "v2/graphql", "v2/graphiql", "v2/playground", "v2/altair", "v2/explorer",
+        "v2/graphql/console", "v2/graphql-explorer", "v2/api/graphql", "v2/graph",
+        "v3/graphql", "v3/graphiql", "v3/playground", "v3/api/graphql",
+        "v4/graphql", "v4/graphiql", "v4/playground", "v4/api/graphql",
+        "api/v1/graphql", "api/v2/graphql", "api/v3/graphql",
+        "query", "gql", "data", "api/data", "api/query",
+        "console", "dev/graphql", "test/graphql", "staging/graphql",
+        "__graphql", "_graphql", "graphql-api", "graphql/v1", "graphql/v2"
+    };
+
+    private static final int BASELINE_SAMPLES = 2;
+    private static final int FUZZY_MIN_LENGTH = 256;
+    private static final Pattern VOLATILE_DIGITS = Pattern.compile("\\d+");
+
+    public static class Finding {
+        public final String url;
+        public final String evidence;
+        public final boolean ui;
+        public final int status;
+
+        Finding(String url, String evidence, boolean ui, int status) {
+            this.url = url;
+            this.evidence = evidence;
+            this.ui = ui;
+            this.status = status;
+        }
+    }
+
+    public static class Baseline {
+        private final List<Sample> samples;
+        private final boolean graphQLLike;
+
+        Baseline(List<Sample> samples, boolean graphQLLike) {
+            this.samples = samples;
+            this.graphQLLike = graphQLLike;
+        }
+
+        public boolean isCatchAll() {
+            return !samples.isEmpty();
+        }
+
+        public boolean isGraphQLLike() {
+            return graphQLLike;
+        }
+
+        boolean matches(String path, int status, String body) {
+            if (samples.isEmpty() || (!graphQLLike && looksLikeGraphQL(body))) {
+                return false;
+            }
+            String normalized = normalize(body, path);
+            for (Sample sample : samples) {
+                if (sample.status != status) continue;
+                if (sample.normalized.equals(normalized)) return true;
+                if (sample.length >= FUZZY_MIN_LENGTH &&
+                    Math.abs(sample.length - body.length()) <= sample.length / 50) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class Sample {
+        final int status;
+        final int length;
+        final String normalized;
+
+        Sample(int status, int length, String normalized) {
+            this.status = status;
+            this.length = length;
+            this.normalized = normalized;
+        }
+    }
+
+    private final GripHttpClient httpClient;
+    private final Map<String, String> headers = new HashMap<>();
+    private Consumer<String> progressCallback;
+    private BiConsumer<Integer, Integer> countCallback;
+    private volatile boolean cancelled = false;
+
+    public GripEndpointDiscoverer(GripHttpClient httpClient) {
+        this.httpClient = httpClient;
+        this.headers.put("Content-Type", "application/json");
+    }
+
+    public void setProgressCallback(Consumer<String> callback) {
+        this.progressCallback = callback;
+    }
+
+    public void setCountCallback(BiConsumer<Integer, Integer> callback) {
+        this.countCallback = callback;
+    }
+
+    public void setHeaders(Map<String, String> extraHeaders) {
+        headers.putAll(extraHeaders);
+        headers.put("Content-Type", "application/json");
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    private void log(String message) {
+        if (progressCallback != null) {
+            progressCallback.accept(message);
+        }
+    }
+
+    public static String normalizeBaseUrl(String url) {
+        String baseUrl = url.endsWith("/") ? url : url + "/";
+        try {
+            java.net.URI uri = new java.net.URI(baseUrl);
+            baseUrl = uri.getScheme() + "://" + uri.getHost();
+            if (uri.getPort() > 0 && uri.getPort() != 80 && uri.getPort() != 443) {
+                baseUrl += ":" + uri.getPort();
+            }
+            baseUrl += "/";
+        } catch (Exception ignored) {
+        }
+        return baseUrl;
+    }
+
+    public CompletableFuture<List<Finding>> discover(String baseUrl, Consumer<Finding> onFinding) {
+        return CompletableFuture.supplyAsync(() -> {
+            Baseline baseline = baseline(baseUrl);
+            if (baseline.isCatchAll()) {
+                log("[!] Host answers random paths (" + (baseline.isGraphQLLike() ? "GraphQL-like catch-all" : "soft 404") +
+                    "); responses matching that baseline are ignored");
+            }
+
+            CompletionService<Finding> completion = new ExecutorCompletionService<>(httpClient.getProbeExecutor());
+            List<Future<Finding>> futures = new ArrayList<>(GRAPHQL_PATHS.length);
+            for (String path : GRAPHQL_PATHS) {
+                futures.add(completion.submit(() -> cancelled ? null : probe(baseUrl, path, baseline)));
+            }
+
+            Map<String, Finding> found = new HashMap<>();
+            try {
+                for (int tested = 1; tested <= futures.size(); tested++) {
+                    Finding finding;
+                    try {
+                        finding = completion.take().get();
+                    } catch (ExecutionException e) {
+                        finding = null;
+                    }
+                    if (finding != null) {
+                        found.put(finding.url, finding);
+                        if (onFinding != null) onFinding.accept(finding);
+                    }
+                    if (countCallback != null) {
+                        countCallback.accept(tested, futures.size());
+                    }
+                    if (cancelled) break;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                for (Future<Finding> future : futures) {
+                    future.cancel(true);
+                }
+            }
+
+            List<Finding> ordered = new ArrayList<>();
+            for (String path : GRAPHQL_PATHS) {
+                Finding finding = found.get(baseUrl + path);
+                if (finding != null) ordered.add(finding);
+            }
+            return ordered;
+        }, httpClient.getExecutor());
+    }
+
+    public Baseline baseline(String baseUrl) {
+        return baseline(baseUrl, 0);
+    }
+
+    public Baseline baseline(String baseUrl, long sampleDelayMs) {
+        List<Sample> samples = new ArrayList<>();
+        boolean graphQLLike = false;
+        for (int i = 0; i < BASELINE_SAMPLES && !cancelled; i++) {
+            if (i > 0 && sampleDelayMs > 0) {
+                try {
+                    Thread.sleep(sampleDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            String path = "grip-" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+            HttpRequestResponse response;
+            try {
+                response = send(baseUrl + path);
+            } catch (Exception ignored) {
+                continue;
+            }
+            if (response == null || response.response() == null) continue;
+            String body = response.response().bodyToString();
+            Sample sample = new Sample(response.response().statusCode(), body.length(), normalize(body, path));
+            if (sample.status != 404) {
+                samples.add(sample);
+                graphQLLike |= looksLikeGraphQL(sample.normalized);
+            }
+        }
+        return new Baseline(samples, graphQLLike);
+    }
+
+    public Finding probe(String baseUrl, String path, Baseline baseline) {
+        String url = baseUrl + path;
+        HttpRequestResponse response;
+        try {
+            response = send(url);
+        } catch (Exception e) {
+            return null;
+        }
+        if (response == null || response.response() == null) {
+            return null;
+        }
+
+        int status = response.response().statusCode();
+        String body = response.response().bodyToString();
+        if (baseline != null && baseline.matches(path, status, body)) {
+            return null;
+        }
+
+        Finding finding = classify(url, status, body);
+        if (finding != null) {
+            log("[+] FOUND" + (finding.ui ? " UI" : "") + ": " + url + " (" + finding.evidence + ")");
+        }
+        return finding;
+    }
+
+    static boolean looksLikeGraphQL(String body) {
+        return body.contains("\"data\"") || body.contains("\"errors\"");
+    }
+
+    public static Finding classify(String url, int status, String body) {
+        if (looksLikeGraphQL(body)) {
+            return new Finding(url, "GraphQL response structure", false, status);
+        }
+        if (body.contains("__typename") || body.contains("__schema")) {
+            return new Finding(url, "Introspection response", false, status);
+        }
+        if (body.contains("Must provide query string") ||
+            body.contains("GraphQL") ||
+            body.contains("query must be a string")) {
+            return new Finding(url, "GraphQL error message", false, status);
+        }
+        if (status == 200 && body.contains("{") &&
+            (body.contains("query") || body.contains("mutation"))) {
+            return new Finding(url, "Possible GraphQL (200 + JSON)", false, status);
+        }
+        if (status == 200 && (body.contains("GraphiQL") || body.contains("graphql-playground") ||
+                body.contains("Apollo") || body.contains("Altair"))) {
+            return new Finding(url, "GraphQL IDE detected", true, status);
+        }
+        return null;
+    }
+
+    private HttpRequestResponse send(String url) throws Exception {
+        JsonObject queryBody = new JsonObject();
+        queryBody.addProperty("query", "query{__typename}");
+        return httpClient.sendRaw(url, "POST", queryBody.toString(), headers);
+    }
+
+    private static String normalize(String body, String path) {
+        String normalized = body;
+        if (path != null && !path.isEmpty()) {
+            normalized = normalized.replace(path, "");
+        }
+        return VOLATILE_DIGITS.matcher(normalized).replaceAll("0");
+    }
+}
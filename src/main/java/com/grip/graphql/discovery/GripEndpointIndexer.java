@@ -0,0 +1,314 @@
+package com.grip.graphql.discovery;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.core.Registration;
+import burp.api.montoya.http.message.MimeType;
+import burp.api.montoya.http.message.params.HttpParameterType;
+import burp.api.montoya.http.message.requests.HttpRequest;
+import burp.api.montoya.http.message.responses.HttpResponse;
+import burp.api.montoya.proxy.ProxyHttpRequestResponse;
+import burp.api.montoya.proxy.http.InterceptedResponse;
+import burp.api.montoya.proxy.http.ProxyResponseHandler;
+import burp.api.montoya.proxy.http.ProxyResponseReceivedAction;
+import burp.api.montoya.proxy.http.ProxyResponseToBeSentAction;
+import com.grip.graphql.GripConfig;
+import com.grip.graphql.api.GripModule;
+import com.grip.graphql.event.EndpointDetectedEvent;
+import com.grip.graphql.event.GripEventBus;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+public class GripEndpointIndexer implements GripModule, ProxyResponseHandler {
+
+    public static final String MODULE_ID = "endpoint-indexer";
+
+    private static final String EVENT_SOURCE = "EndpointIndexer";
+    private static final int HISTORY_CHUNK = 500;
+    private static final long CHUNK_PAUSE_MS = 5;
+    private static final int MAX_REQUEST_BODY = 64 * 1024;
+    private static final int MAX_PAGE_BODY = 256 * 1024;
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int EXPECTED_ENDPOINTS = 100_000;
+
+    private static final Pattern GRAPHQL_DOCUMENT = Pattern.compile(
+        "^\\s*(?:query\\b|mutation\\b|subscription\\b|fragment\\b|\\{)");
+    private static final Pattern JSON_QUERY = Pattern.compile(
+        "\"query\"\\s*:\\s*\"\\s*(?:query\\b|mutation\\b|subscription\\b|fragment\\b|\\{)");
+    private static final String[] IDE_MARKERS = {
+        "graphiql", "graphql-playground", "altair-graphql", "apollo-sandbox", "graphql-voyager"
+    };
+
+    public static class DetectedEndpoint {
+        public final String url;
+        public final String method;
+        public final String evidence;
+        public final String origin;
+        public final long firstSeen;
+
+        DetectedEndpoint(String url, String method, String evidence, String origin) {
+            this.url = url;
+            this.method = method;
+            this.evidence = evidence;
+            this.origin = origin;
+            this.firstSeen = System.currentTimeMillis();
+        }
+    }
+
+    private final Map<String, DetectedEndpoint> endpoints = new ConcurrentHashMap<>();
+    private final GripBloomFilter seen = new GripBloomFilter(EXPECTED_ENDPOINTS, 0.001);
+    private MontoyaApi api;
+    private GripEventBus eventBus;
+    private ThreadPoolExecutor liveExecutor;
+    private Registration registration;
+    private Thread historyThread;
+    private volatile int historyCursor = 0;
+    private volatile boolean enabled = true;
+    private volatile boolean autoDetect = true;
+    private volatile boolean stopped = false;
+
+    @Override
+    public String getModuleId() {
+        return MODULE_ID;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "Endpoint Auto-Detection";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Detects GraphQL endpoints in proxy history and live traffic without sending requests";
+    }
+
+    @Override
+    public void initialize(MontoyaApi api, GripEventBus eventBus) {
+        this.api = api;
+        this.eventBus = eventBus;
+
+        GripConfig config = GripConfig.getInstance();
+        this.enabled = config == null || Boolean.TRUE.equals(config.getBoolean(GripConfig.DISCOVERY_ENABLED));
+        this.autoDetect = config == null || Boolean.TRUE.equals(config.getBoolean(GripConfig.DISCOVERY_AUTO_DETECT));
+        if (config != null) {
+            config.registerHook(GripConfig.DISCOVERY_ENABLED, value -> setEnabled(Boolean.TRUE.equals(value)));
+            config.registerHook(GripConfig.DISCOVERY_AUTO_DETECT, value -> autoDetect = Boolean.TRUE.equals(value));
+        }
+
+        this.liveExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+                Thread t = new Thread(r, "grip-endpoint-indexer");
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+        this.registration = api.proxy().registerResponseHandler(this);
+
+        if (enabled && autoDetect) {
+            scanHistory();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        stopped = true;
+        if (registration != null && registration.isRegistered()) {
+            registration.deregister();
+        }
+        if (liveExecutor != null) {
+            liveExecutor.shutdownNow();
+        }
+        if (historyThread != null) {
+            historyThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<DetectedEndpoint> getEndpoints() {
+        return new ArrayList<>(endpoints.values());
+    }
+
+    public void clear() {
+        endpoints.clear();
+        seen.clear();
+        historyCursor = 0;
+    }
+
+    public int getHistoryCursor() {
+        return historyCursor;
+    }
+
+    public synchronized boolean isScanningHistory() {
+        return historyThread != null && historyThread.isAlive();
+    }
+
+    public synchronized boolean scanHistory() {
+        if (!enabled || stopped || isScanningHistory()) {
+            return false;
+        }
+        historyThread = new Thread(this::indexHistory, "grip-history-indexer");
+        historyThread.setDaemon(true);
+        historyThread.setPriority(Thread.MIN_PRIORITY);
+        historyThread.start();
+        return true;
+    }
+
+    @Override
+    public ProxyResponseReceivedAction handleResponseReceived(InterceptedResponse response) {
+        if (enabled && autoDetect) {
+            try {
+                HttpRequest request = response.initiatingRequest();
+                if (request != null && isCandidate(request, response)) {
+                    liveExecutor.execute(() -> inspect(request, response, "Live"));
+                }
+            } catch (Exception e) {
+                api.logging().logToError("[GraphQL Grip] Endpoint detection failed: " + e.getMessage());
+            }
+        }
+        return ProxyResponseReceivedAction.continueWith(response);
+    }
+
+    @Override
+    public ProxyResponseToBeSentAction handleResponseToBeSent(InterceptedResponse response) {
+        return ProxyResponseToBeSentAction.continueWith(response);
+    }
+
+    private void indexHistory() {
+        int found = endpoints.size();
+        try {
+            List<ProxyHttpRequestResponse> history = api.proxy().history();
+            int start = historyCursor;
+            for (int i = start; i < history.size() && enabled && !stopped; i++) {
+                ProxyHttpRequestResponse item = history.get(i);
+                HttpRequest request = item.finalRequest();
+                HttpResponse response = item.hasResponse() ? item.response() : null;
+                if (request != null && isCandidate(request, response)) {
+                    inspect(request, response, "History");
+                }
+                historyCursor = i + 1;
+                if ((i - start + 1) % HISTORY_CHUNK == 0) {
+                    Thread.sleep(CHUNK_PAUSE_MS);
+                }
+            }
+            found = endpoints.size() - found;
+            if (found > 0) {
+                api.logging().logToOutput("[GraphQL Grip] Indexed proxy history up to item " + historyCursor +
+                    ", " + found + " new GraphQL endpoint(s)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            api.logging().logToError("[GraphQL Grip] Proxy history indexing failed: " + e.getMessage());
+        }
+    }
+
+    private boolean isCandidate(HttpRequest request, HttpResponse response) {
+        String url = endpointUrl(request);
+        if (url == null || seen.mightContain(url)) {
+            return false;
+        }
+        String path = request.path();
+        if (path != null) {
+            String lower = path.toLowerCase(Locale.ROOT);
+            if (lower.contains("graphql") || lower.contains("query=") || lower.contains("extensions=")) {
+                return true;
+            }
+        }
+        if ("POST".equalsIgnoreCase(request.method()) && request.body() != null &&
+            request.body().length() > 0 && request.body().length() <= MAX_REQUEST_BODY) {
+            return true;
+        }
+        return response != null && response.mimeType() == MimeType.HTML &&
+            response.body() != null && response.body().length() <= MAX_PAGE_BODY;
+    }
+
+    private void inspect(HttpRequest request, HttpResponse response, String origin) {
+        String evidence = classify(request, response);
+        if (evidence == null) {
+            return;
+        }
+        String url = endpointUrl(request);
+        if (url == null || !seen.add(url)) {
+            return;
+        }
+        DetectedEndpoint endpoint = new DetectedEndpoint(url, request.method(), evidence, origin);
+        if (endpoints.putIfAbsent(url, endpoint) == null && eventBus != null) {
+            eventBus.publish(new EndpointDetectedEvent(EVENT_SOURCE, url, endpoint.method, evidence, origin));
+        }
+    }
+
+    static String classify(HttpRequest request, HttpResponse response) {
+        if (request.body() != null && request.body().length() > 0 && request.body().length() <= MAX_REQUEST_BODY) {
+            String body = request.bodyToString();
+            if (body.contains("\"persistedQuery\"") && body.contains("sha256Hash")) {
+                return "Persisted query extension";
+            }
+            if (JSON_QUERY.matcher(body).find()) {
+                return body.trim().startsWith("[") ? "Batched JSON query body" : "JSON query body";
+            }
+            String contentType = request.headerValue("Content-Type");
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("application/graphql") &&
+                GRAPHQL_DOCUMENT.matcher(body).find()) {
+                return "application/graphql body";
+            }
+        }
+
+        String query = request.parameterValue("query", HttpParameterType.URL);
+        if (query != null && GRAPHQL_DOCUMENT.matcher(decode(query)).find()) {
+            return "query= parameter";
+        }
+        String extensions = request.parameterValue("extensions", HttpParameterType.URL);
+        if (extensions != null && decode(extensions).contains("persistedQuery")) {
+            return "Persisted query parameter";
+        }
+
+        if (response != null && response.mimeType() == MimeType.HTML && response.body() != null &&
+            response.body().length() <= MAX_PAGE_BODY) {
+            String page = response.bodyToString().toLowerCase(Locale.ROOT);
+            for (String marker : IDE_MARKERS) {
+                if (page.contains(marker)) {
+                    return "GraphQL IDE page (" + marker + ")";
+                }
+            }
+        }
+        return null;
+    }
+
+    static String endpointUrl(HttpRequest request) {
+        if (request.httpService() == null) {
+            return null;
+        }
+        String path = request.pathWithoutQuery();
+        boolean secure = request.httpService().secure();
+        int port = request.httpService().port();
+        boolean defaultPort = (secure && port == 443) || (!secure && port == 80);
+        return (secure ? "https://" : "http://") + request.httpService().host() +
+            (defaultPort ? "" : ":" + port) + (path == null || path.isEmpty() ? "/" : path);
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+}
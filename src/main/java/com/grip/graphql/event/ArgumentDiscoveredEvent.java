@@ -0,0 +1,30 @@
+package com.grip.graphql.event;
+
+import com.grip.graphql.model.schema.GripTypeRef;
+
+public class ArgumentDiscoveredEvent extends SchemaDiscoveryEvent {
+
+    private final String fieldName;
+    private final String argumentName;
+    private final GripTypeRef argumentType;
+
+    public ArgumentDiscoveredEvent(String source, long runId, String endpoint, String typeName,
+                                   String fieldName, String argumentName, GripTypeRef argumentType) {
+        super(source, runId, endpoint, typeName);
+        this.fieldName = fieldName;
+        this.argumentName = argumentName;
+        this.argumentType = argumentType;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getArgumentName() {
+        return argumentName;
+    }
+
+    public GripTypeRef getArgumentType() {
+        return argumentType;
+    }
+}
@@ -0,0 +1,33 @@
+package com.grip.graphql.event;
+
+public class EndpointDetectedEvent extends GripEvent {
+
+    private final String url;
+    private final String method;
+    private final String evidence;
+    private final String origin;
+
+    public EndpointDetectedEvent(String source, String url, String method, String evidence, String origin) {
+        super(source);
+        this.url = url;
+        this.method = method;
+        this.evidence = evidence;
+        this.origin = origin;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getEvidence() {
+        return evidence;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+}
@@ -0,0 +1,40 @@
+package com.grip.graphql.event;
+
+public class EngineVerdictEvent extends GripEvent {
+
+    private final String host;
+    private final String engine;
+    private final String version;
+    private final String confidence;
+    private final int score;
+
+    public EngineVerdictEvent(String source, String host, String engine, String version,
+                              String confidence, int score) {
+        super(source);
+        this.host = host;
+        this.engine = engine;
+        this.version = version;
+        this.confidence = confidence;
+        this.score = score;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getConfidence() {
+        return confidence;
+    }
+
+    public int getScore() {
+        return score;
+    }
+}
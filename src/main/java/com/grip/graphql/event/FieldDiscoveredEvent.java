@@ -0,0 +1,37 @@
+package com.grip.graphql.event;
+
+import com.grip.graphql.model.schema.GripTypeKind;
+import com.grip.graphql.model.schema.GripTypeRef;
+
+public class FieldDiscoveredEvent extends SchemaDiscoveryEvent {
+
+    private final GripTypeKind typeKind;
+    private final String fieldName;
+    private final GripTypeRef fieldType;
+    private final boolean inputField;
+
+    public FieldDiscoveredEvent(String source, long runId, String endpoint, String typeName, GripTypeKind typeKind,
+                                String fieldName, GripTypeRef fieldType, boolean inputField) {
+        super(source, runId, endpoint, typeName);
+        this.typeKind = typeKind;
+        this.fieldName = fieldName;
+        this.fieldType = fieldType;
+        this.inputField = inputField;
+    }
+
+    public GripTypeKind getTypeKind() {
+        return typeKind;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public GripTypeRef getFieldType() {
+        return fieldType;
+    }
+
+    public boolean isInputField() {
+        return inputField;
+    }
+}
@@ -2,18 +2,212 @@ package com.grip.graphql.event;
 
 import com.grip.graphql.api.GripEventListener;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 
 public class GripEventBus {
 
-    private final Map<Class<? extends GripEvent>, Set<GripEventListener<?>>> listeners;
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP_OLDEST
+    }
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+    public static final long COALESCE_INTERVAL_MS = 50;
+    public static final long DEFAULT_SLOW_LISTENER_MS = 100;
+    public static final long DEFAULT_BLOCK_TIMEOUT_MS = 1000;
+
+    private static final int MAX_BATCH = 256;
+    private static final int MAX_BATCHES_PER_RUN = 8;
+    private static final long WORKER_BLOCK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final ThreadLocal<Boolean> DELIVERING = new ThreadLocal<>();
+    private static final long SLOW_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final Subscription<?>[] NO_SUBSCRIPTIONS = new Subscription<?>[0];
+
+    private final Map<Class<?>, List<Subscription<?>>> listeners;
+    private final Map<Class<?>, Dispatch> dispatchTables = new ConcurrentHashMap<>();
+    private final AtomicLong dispatchVersion = new AtomicLong();
+    private final Map<Class<?>, TypeCounter> typeCounters = new ConcurrentHashMap<>();
+    private volatile boolean instrumented = false;
+    private volatile long slowListenerNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_LISTENER_MS);
+    private volatile long blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_BLOCK_TIMEOUT_MS);
     private final ExecutorService executor;
+    private final ScheduledExecutorService coalescer;
+    private final Map<String, GripEvent> coalescing = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
     private volatile boolean shutdown = false;
+    private volatile int defaultBufferSize = DEFAULT_BUFFER_SIZE;
+    private volatile OverflowPolicy defaultPolicy = OverflowPolicy.BLOCK;
     private Consumer<String> errorLogger;
 
+    public static class Stats {
+        public final boolean instrumented;
+        public final long droppedEvents;
+        public final List<TypeStats> types;
+        public final List<ListenerStats> listeners;
+
+        Stats(boolean instrumented, long droppedEvents, List<TypeStats> types, List<ListenerStats> listeners) {
+            this.instrumented = instrumented;
+            this.droppedEvents = droppedEvents;
+            this.types = types;
+            this.listeners = listeners;
+        }
+    }
+
+    public static class TypeStats {
+        public final String eventType;
+        public final long published;
+        public final double ratePerSecond;
+
+        TypeStats(String eventType, long published, double ratePerSecond) {
+            this.eventType = eventType;
+            this.published = published;
+            this.ratePerSecond = ratePerSecond;
+        }
+    }
+
+    public static class ListenerStats {
+        public final String listener;
+        public final String eventType;
+        public final OverflowPolicy policy;
+        public final long queueDepth;
+        public final int capacity;
+        public final long dropped;
+        public final long delivered;
+        public final long p50Nanos;
+        public final long p99Nanos;
+        public final long maxNanos;
+        public final long slowBatches;
+
+        ListenerStats(String listener, String eventType, OverflowPolicy policy, long queueDepth, int capacity,
+                      long dropped, long delivered, long p50Nanos, long p99Nanos, long maxNanos, long slowBatches) {
+            this.listener = listener;
+            this.eventType = eventType;
+            this.policy = policy;
+            this.queueDepth = queueDepth;
+            this.capacity = capacity;
+            this.dropped = dropped;
+            this.delivered = delivered;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+            this.slowBatches = slowBatches;
+        }
+    }
+
+    private static final class TypeCounter {
+        final LongAdder published = new LongAdder();
+        long lastCount;
+        long lastNanos = System.nanoTime();
+    }
+
+    private static final class Dispatch {
+        final long version;
+        final Subscription<?>[] subscriptions;
+
+        Dispatch(long version, Subscription<?>[] subscriptions) {
+            this.version = version;
+            this.subscriptions = subscriptions;
+        }
+    }
+
+    private final class Subscription<T extends GripEvent> implements Runnable {
+        final Class<?> eventType;
+        final GripEventListener<T> listener;
+        final GripEventRing<T> ring;
+        final OverflowPolicy policy;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final GripLatencyHistogram latency = new GripLatencyHistogram();
+        final LongAdder slowBatches = new LongAdder();
+        volatile long lastSlowLog;
+        volatile boolean stalled;
+
+        Subscription(Class<?> eventType, GripEventListener<T> listener, int bufferSize, OverflowPolicy policy) {
+            this.eventType = eventType;
+            this.listener = listener;
+            this.ring = new GripEventRing<>(bufferSize);
+            this.policy = policy;
+        }
+
+        void offer(T event) {
+            boolean onWorker = DELIVERING.get() != null;
+            long blockNanos = stalled ? 0 : onWorker ? Math.min(WORKER_BLOCK_NANOS, blockTimeoutNanos) : blockTimeoutNanos;
+            long droppedBefore = policy == OverflowPolicy.BLOCK ? ring.dropped() : 0;
+            if (ring.offer(event, policy == OverflowPolicy.DROP_OLDEST, blockNanos, () -> shutdown)) {
+                if (policy == OverflowPolicy.BLOCK && !stalled && ring.dropped() != droppedBefore) {
+                    stalled = true;
+                    logError("[GripEventBus] Listener " + listenerName(listener) + " on " + eventType.getSimpleName() +
+                        " did not drain for " + TimeUnit.NANOSECONDS.toMillis(blockNanos) +
+                        " ms; dropping its oldest events until it catches up");
+                }
+                schedule();
+            }
+        }
+
+        void schedule() {
+            if (!shutdown && scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        void recordDelivery(long nanos, int events) {
+            latency.record(nanos, events);
+            if (nanos > slowListenerNanos) {
+                slowBatches.increment();
+                long now = System.nanoTime();
+                if (now - lastSlowLog > SLOW_LOG_INTERVAL_NANOS) {
+                    lastSlowLog = now;
+                    logError("[GripEventBus] Slow listener " + listenerName(listener) + " on " +
+                        eventType.getSimpleName() + ": " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms for " +
+                        events + " event(s), " + ring.size() + " queued");
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            DELIVERING.set(Boolean.TRUE);
+            try {
+                for (int run = 0; run < MAX_BATCHES_PER_RUN && !shutdown; run++) {
+                    List<T> batch = new ArrayList<>(Math.min(MAX_BATCH, (int) Math.max(1, ring.size())));
+                    if (ring.drainTo(batch, MAX_BATCH) == 0) {
+                        break;
+                    }
+                    stalled = false;
+                    long start = instrumented ? System.nanoTime() : 0;
+                    try {
+                        listener.onEvents(batch);
+                    } catch (Exception e) {
+                        logError("[GripEventBus] Error in listener: " + e.getMessage());
+                    }
+                    if (start != 0) {
+                        recordDelivery(System.nanoTime() - start, batch.size());
+                    }
+                }
+            } finally {
+                DELIVERING.remove();
+                scheduled.set(false);
+                if (ring.size() > 0) {
+                    schedule();
+                }
+            }
+        }
+    }
+
     public GripEventBus() {
         this(4);
     }
@@ -25,12 +219,46 @@ public class GripEventBus {
             t.setDaemon(true);
             return t;
         });
+        this.coalescer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "GripEventBus-Coalescer");
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     public void setErrorLogger(Consumer<String> logger) {
         this.errorLogger = logger;
     }
 
+    public void setInstrumentation(boolean enabled) {
+        this.instrumented = enabled;
+    }
+
+    public boolean isInstrumented() {
+        return instrumented;
+    }
+
+    public void setSlowListenerThreshold(long millis) {
+        if (millis > 0) {
+            this.slowListenerNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+    }
+
+    public void setBlockTimeout(long millis) {
+        if (millis > 0) {
+            this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+    }
+
+    public void setDefaults(int bufferSize, OverflowPolicy policy) {
+        if (bufferSize > 1) {
+            this.defaultBufferSize = bufferSize;
+        }
+        if (policy != null) {
+            this.defaultPolicy = policy;
+        }
+    }
+
     private void logError(String message) {
         if (errorLogger != null) {
             errorLogger.accept(message);
@@ -38,16 +266,67 @@ public class GripEventBus {
     }
 
     public <T extends GripEvent> void subscribe(Class<T> eventType, GripEventListener<T> listener) {
+        subscribe(eventType, listener, defaultBufferSize, defaultPolicy);
+    }
+
+    public <T extends GripEvent> void subscribe(Class<T> eventType, GripEventListener<T> listener,
+                                                int bufferSize, OverflowPolicy policy) {
         if (shutdown) {
             throw new IllegalStateException("EventBus is shutdown");
         }
-        listeners.computeIfAbsent(eventType, k -> ConcurrentHashMap.newKeySet()).add(listener);
+        List<Subscription<?>> subscriptions = listeners.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>());
+        synchronized (subscriptions) {
+            for (Subscription<?> subscription : subscriptions) {
+                if (subscription.listener.equals(listener)) {
+                    return;
+                }
+            }
+            subscriptions.add(new Subscription<>(eventType, listener, bufferSize, policy));
+        }
+        invalidateDispatch();
     }
 
     public <T extends GripEvent> void unsubscribe(Class<T> eventType, GripEventListener<T> listener) {
-        Set<GripEventListener<?>> eventListeners = listeners.get(eventType);
-        if (eventListeners != null) {
-            eventListeners.remove(listener);
+        List<Subscription<?>> subscriptions = listeners.get(eventType);
+        if (subscriptions != null && subscriptions.removeIf(subscription -> subscription.listener.equals(listener))) {
+            invalidateDispatch();
+        }
+    }
+
+    private void invalidateDispatch() {
+        dispatchVersion.incrementAndGet();
+        dispatchTables.clear();
+    }
+
+    private Subscription<?>[] dispatchFor(Class<?> eventClass) {
+        long version = dispatchVersion.get();
+        Dispatch dispatch = dispatchTables.get(eventClass);
+        if (dispatch != null && dispatch.version == version) {
+            return dispatch.subscriptions;
+        }
+
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> type = eventClass; type != null && GripEvent.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            types.add(type);
+            collectInterfaces(type, types);
+        }
+        List<Subscription<?>> resolved = new ArrayList<>();
+        for (Class<?> type : types) {
+            List<Subscription<?>> subscriptions = listeners.get(type);
+            if (subscriptions != null) {
+                resolved.addAll(subscriptions);
+            }
+        }
+        Subscription<?>[] table = resolved.isEmpty() ? NO_SUBSCRIPTIONS : resolved.toArray(NO_SUBSCRIPTIONS);
+        dispatchTables.put(eventClass, new Dispatch(version, table));
+        return table;
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> types) {
+        for (Class<?> iface : type.getInterfaces()) {
+            if (types.add(iface)) {
+                collectInterfaces(iface, types);
+            }
         }
     }
 
@@ -57,17 +336,37 @@ public class GripEventBus {
             return;
         }
 
-        Set<GripEventListener<?>> eventListeners = listeners.get(event.getClass());
-        if (eventListeners != null && !eventListeners.isEmpty()) {
-            for (GripEventListener<?> listener : eventListeners) {
-                executor.submit(() -> {
-                    try {
-                        ((GripEventListener<T>) listener).onEvent(event);
-                    } catch (Exception e) {
+        if (instrumented) {
+            typeCounters.computeIfAbsent(event.getClass(), k -> new TypeCounter()).published.increment();
+        }
+        for (Subscription<?> subscription : dispatchFor(event.getClass())) {
+            ((Subscription<T>) subscription).offer(event);
+        }
+    }
 
-                        logError("[GripEventBus] Error in listener: " + e.getMessage());
-                    }
-                });
+    @SuppressWarnings("unchecked")
+    public <T extends GripEvent> void publishCoalesced(T event, BinaryOperator<T> merge) {
+        if (shutdown) {
+            return;
+        }
+
+        String key = event.getClass().getName() + '\u0000' + event.getSource();
+        coalescing.merge(key, event, (older, newer) -> merge.apply((T) older, (T) newer));
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                coalescer.schedule(this::flushCoalesced, COALESCE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    private void flushCoalesced() {
+        flushScheduled.set(false);
+        for (String key : coalescing.keySet()) {
+            GripEvent event = coalescing.remove(key);
+            if (event != null) {
+                publish(event);
             }
         }
     }
@@ -78,16 +377,16 @@ public class GripEventBus {
             return false;
         }
 
-        Set<GripEventListener<?>> eventListeners = listeners.get(event.getClass());
-        if (eventListeners == null || eventListeners.isEmpty()) {
+        Subscription<?>[] subscriptions = dispatchFor(event.getClass());
+        if (subscriptions.length == 0) {
             return true;
         }
 
-        CountDownLatch latch = new CountDownLatch(eventListeners.size());
-        for (GripEventListener<?> listener : eventListeners) {
+        CountDownLatch latch = new CountDownLatch(subscriptions.length);
+        for (Subscription<?> subscription : subscriptions) {
             executor.submit(() -> {
                 try {
-                    ((GripEventListener<T>) listener).onEvent(event);
+                    ((GripEventListener<T>) subscription.listener).onEvent(event);
                 } catch (Exception e) {
                     logError("[GripEventBus] Error in listener: " + e.getMessage());
                 } finally {
@@ -105,12 +404,61 @@ public class GripEventBus {
     }
 
     public int getListenerCount(Class<? extends GripEvent> eventType) {
-        Set<GripEventListener<?>> eventListeners = listeners.get(eventType);
-        return eventListeners != null ? eventListeners.size() : 0;
+        List<Subscription<?>> subscriptions = listeners.get(eventType);
+        return subscriptions != null ? subscriptions.size() : 0;
+    }
+
+    public long getDroppedCount() {
+        long dropped = 0;
+        for (List<Subscription<?>> subscriptions : listeners.values()) {
+            for (Subscription<?> subscription : subscriptions) {
+                dropped += subscription.ring.dropped();
+            }
+        }
+        return dropped;
+    }
+
+    public Stats getStats() {
+        List<TypeStats> types = new ArrayList<>();
+        long now = System.nanoTime();
+        for (Map.Entry<Class<?>, TypeCounter> entry : typeCounters.entrySet()) {
+            TypeCounter counter = entry.getValue();
+            long count = counter.published.sum();
+            double rate;
+            synchronized (counter) {
+                long elapsed = now - counter.lastNanos;
+                rate = elapsed > 0 ? (count - counter.lastCount) * 1e9 / elapsed : 0;
+                counter.lastCount = count;
+                counter.lastNanos = now;
+            }
+            types.add(new TypeStats(entry.getKey().getSimpleName(), count, rate));
+        }
+
+        List<ListenerStats> listenerStats = new ArrayList<>();
+        long dropped = 0;
+        for (List<Subscription<?>> subscriptions : listeners.values()) {
+            for (Subscription<?> subscription : subscriptions) {
+                GripLatencyHistogram latency = subscription.latency;
+                dropped += subscription.ring.dropped();
+                listenerStats.add(new ListenerStats(listenerName(subscription.listener),
+                    subscription.eventType.getSimpleName(), subscription.policy, subscription.ring.size(),
+                    subscription.ring.capacity(), subscription.ring.dropped(), latency.count(),
+                    latency.percentile(0.5), latency.percentile(0.99), latency.max(), subscription.slowBatches.sum()));
+            }
+        }
+        return new Stats(instrumented, dropped, types, listenerStats);
+    }
+
+    static String listenerName(Object listener) {
+        String name = listener.getClass().getName();
+        int lambda = name.indexOf("$$Lambda");
+        return lambda > 0 ? name.substring(0, lambda) + " (lambda)" : name;
     }
 
     public void shutdown() {
         shutdown = true;
+        coalescer.shutdownNow();
+        coalescing.clear();
         executor.shutdown();
         try {
             if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -121,5 +469,6 @@ public class GripEventBus {
             Thread.currentThread().interrupt();
         }
         listeners.clear();
+        invalidateDispatch();
     }
 }
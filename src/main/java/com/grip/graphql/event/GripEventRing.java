@@ -0,0 +1,112 @@
+package com.grip.graphql.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+final class GripEventRing<T> {
+
+    private static final long WRITING = -1L;
+    private static final int SPIN_TRIES = 64;
+    private static final long PARK_NANOS = 20_000L;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    GripEventRing(int requestedCapacity) {
+        int size = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, WRITING - 1);
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long size() {
+        return Math.max(0, claimed.get() - consumed.get());
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+
+    boolean offer(T event, boolean dropOldest, long blockNanos, BooleanSupplier aborted) {
+        long deadline = 0;
+        int spins = 0;
+        while (true) {
+            long sequence = claimed.get();
+            long head = consumed.get();
+            if (sequence - head >= capacity) {
+                if (!dropOldest && spins == 0) {
+                    deadline = System.nanoTime() + Math.max(0, blockNanos);
+                }
+                if (dropOldest || System.nanoTime() >= deadline) {
+                    if (consumed.compareAndSet(head, head + 1)) {
+                        dropped.incrementAndGet();
+                    }
+                    continue;
+                }
+                if (aborted.getAsBoolean()) {
+                    return false;
+                }
+                if (++spins < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+                continue;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                int index = (int) (sequence & mask);
+                published.set(index, WRITING);
+                slots.set(index, event);
+                published.set(index, sequence);
+                return true;
+            }
+        }
+    }
+
+    int drainTo(List<T> batch, int max) {
+        long next = consumed.get();
+        int taken = 0;
+        while (taken < max) {
+            long floor = consumed.get();
+            if (next < floor) next = floor;
+            if (next >= claimed.get()) break;
+
+            int index = (int) (next & mask);
+            long sequence = published.get(index);
+            if (sequence != next) {
+                if (sequence > next) {
+                    next++;
+                    continue;
+                }
+                if (consumed.get() > next) continue;
+                break;
+            }
+            T event = slots.get(index);
+            if (published.get(index) != next) continue;
+            batch.add(event);
+            taken++;
+            next++;
+        }
+        if (taken > 0) {
+            consumed.accumulateAndGet(next, Math::max);
+        }
+        return taken;
+    }
+}
@@ -0,0 +1,44 @@
+package com.grip.graphql.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class GripLatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos, int events) {
+        long perEvent = Math.max(1, nanos / Math.max(1, events));
+        counts.addAndGet(BUCKETS - Long.numberOfLeadingZeros(perEvent) - 1, events);
+        total.addAndGet(events);
+        max.accumulateAndGet(perEvent, Math::max);
+    }
+
+    long count() {
+        return total.get();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    long percentile(double fraction) {
+        long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * fraction);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(max.get(), (2L << bucket) - 1);
+            }
+        }
+        return max.get();
+    }
+}
@@ -0,0 +1,34 @@
+package com.grip.graphql.event;
+
+public class OperationCatalogedEvent extends GripEvent {
+
+    private final String signature;
+    private final String operationType;
+    private final String operationName;
+    private final String endpoint;
+
+    public OperationCatalogedEvent(String source, String signature, String operationType,
+                                   String operationName, String endpoint) {
+        super(source);
+        this.signature = signature;
+        this.operationType = operationType;
+        this.operationName = operationName;
+        this.endpoint = endpoint;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public String getOperationType() {
+        return operationType;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,54 @@
+package com.grip.graphql.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ProgressEvent extends GripEvent {
+
+    private final List<String> lines;
+    private final Map<String, Long> counters;
+    private final boolean merged;
+
+    public ProgressEvent(String source, String line) {
+        this(source, List.of(line), Map.of(), false);
+    }
+
+    public ProgressEvent(String source, Map<String, Long> counters) {
+        this(source, List.of(), counters, false);
+    }
+
+    private ProgressEvent(String source, List<String> lines, Map<String, Long> counters, boolean merged) {
+        super(source);
+        this.lines = lines;
+        this.counters = counters;
+        this.merged = merged;
+    }
+
+    public List<String> getLines() {
+        return Collections.unmodifiableList(lines);
+    }
+
+    public Map<String, Long> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    public long getCounter(String name) {
+        Long value = counters.get(name);
+        return value != null ? value : -1;
+    }
+
+    public boolean hasCounters() {
+        return !counters.isEmpty();
+    }
+
+    public static ProgressEvent merge(ProgressEvent older, ProgressEvent newer) {
+        List<String> lines = older.merged ? older.lines : new ArrayList<>(older.lines);
+        Map<String, Long> counters = older.merged ? older.counters : new LinkedHashMap<>(older.counters);
+        lines.addAll(newer.lines);
+        counters.putAll(newer.counters);
+        return new ProgressEvent(newer.getSource(), lines, counters, true);
+    }
+}
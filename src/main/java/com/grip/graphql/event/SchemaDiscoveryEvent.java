@@ -0,0 +1,27 @@
+package com.grip.graphql.event;
+
+public abstract class SchemaDiscoveryEvent extends GripEvent {
+
+    private final long runId;
+    private final String endpoint;
+    private final String typeName;
+
+    protected SchemaDiscoveryEvent(String source, long runId, String endpoint, String typeName) {
+        super(source);
+        this.runId = runId;
+        this.endpoint = endpoint;
+        this.typeName = typeName;
+    }
+
+    public long getRunId() {
+        return runId;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+}
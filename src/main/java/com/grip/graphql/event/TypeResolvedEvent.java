@@ -0,0 +1,24 @@
+package com.grip.graphql.event;
+
+import com.grip.graphql.model.schema.GripTypeRef;
+
+public class TypeResolvedEvent extends SchemaDiscoveryEvent {
+
+    private final String fieldName;
+    private final GripTypeRef resolvedType;
+
+    public TypeResolvedEvent(String source, long runId, String endpoint, String typeName,
+                             String fieldName, GripTypeRef resolvedType) {
+        super(source, runId, endpoint, typeName);
+        this.fieldName = fieldName;
+        this.resolvedType = resolvedType;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public GripTypeRef getResolvedType() {
+        return resolvedType;
+    }
+}
@@ -24,8 +24,10 @@ public class GripHttpClient {
     private final int maxRetries;
     private final ExecutorService taskExecutor;
     private final ExecutorService sendExecutor;
+    private final ExecutorService probeExecutor;
 
     private static final Set<Integer> AUTH_ERROR_CODES = Set.of(401, 403);
+    private static final int PROBE_THREADS = 8;
 
     private final AtomicLong lastRequestTime = new AtomicLong(0);
 
@@ -59,6 +61,11 @@ public class GripHttpClient {
             t.setDaemon(true);
             return t;
         });
+        this.probeExecutor = Executors.newFixedThreadPool(PROBE_THREADS, r -> {
+            Thread t = new Thread(r, "grip-probe-" + System.nanoTime());
+            t.setDaemon(true);
+            return t;
+        });
         this.defaultHeaders = new ConcurrentHashMap<>();
 
         defaultHeaders.put("Content-Type", "application/json");
@@ -77,6 +84,10 @@ public class GripHttpClient {
         return taskExecutor;
     }
 
+    public ExecutorService getProbeExecutor() {
+        return probeExecutor;
+    }
+
     private HttpRequestResponse sendWithTimeout(HttpRequest request) throws Exception {
         Future<HttpRequestResponse> future = sendExecutor.submit(() -> api.http().sendRequest(request));
         try {
@@ -456,9 +467,13 @@ public class GripHttpClient {
     }
 
     public void shutdown() {
+        probeExecutor.shutdown();
         taskExecutor.shutdown();
         sendExecutor.shutdown();
         try {
+            if (!probeExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                probeExecutor.shutdownNow();
+            }
             if (!taskExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
                 taskExecutor.shutdownNow();
             }
@@ -466,6 +481,7 @@ public class GripHttpClient {
                 sendExecutor.shutdownNow();
             }
         } catch (InterruptedException e) {
+            probeExecutor.shutdownNow();
             taskExecutor.shutdownNow();
             sendExecutor.shutdownNow();
             Thread.currentThread().interrupt();
@@ -13,6 +13,7 @@ public class GripSchema {
 
     private String sourceEndpoint;
     private String sdlCache;
+    private volatile long version;
     private final long createdAt;
     private boolean isPartial;
     private boolean isReconstructed;
@@ -31,6 +32,7 @@ public class GripSchema {
     public void setQueryTypeName(String name) {
         this.queryTypeName = name;
         this.sdlCache = null;
+        version++;
     }
 
     public String getMutationTypeName() {
@@ -40,6 +42,7 @@ public class GripSchema {
     public void setMutationTypeName(String name) {
         this.mutationTypeName = name;
         this.sdlCache = null;
+        version++;
     }
 
     public String getSubscriptionTypeName() {
@@ -49,6 +52,7 @@ public class GripSchema {
     public void setSubscriptionTypeName(String name) {
         this.subscriptionTypeName = name;
         this.sdlCache = null;
+        version++;
     }
 
     public GripType getQueryType() {
@@ -66,6 +70,16 @@ public class GripSchema {
     public void addType(GripType type) {
         types.put(type.getName(), type);
         sdlCache = null;
+        version++;
+    }
+
+    public void invalidateCache() {
+        sdlCache = null;
+        version++;
+    }
+
+    public long getVersion() {
+        return version;
     }
 
     public GripType getType(String name) {
@@ -122,6 +136,7 @@ public class GripSchema {
     public void addDirective(GripDirective directive) {
         directives.add(directive);
         this.sdlCache = null;
+        version++;
     }
 
     public List<GripDirective> getDirectives() {
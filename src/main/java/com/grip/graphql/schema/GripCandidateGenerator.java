@@ -0,0 +1,279 @@
+package com.grip.graphql.schema;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+public class GripCandidateGenerator implements Iterator<String> {
+
+    private static final Pattern VALID_NAME = Pattern.compile("[_A-Za-z][_0-9A-Za-z]*");
+
+    private static final Set<String> VERB_TOKENS = Set.of(
+        "get", "find", "search", "list", "all", "fetch", "query", "lookup",
+        "create", "update", "delete", "add", "remove", "set", "upsert", "edit", "save", "insert"
+    );
+
+    private static final Set<String> TRAILING_TOKENS = Set.of(
+        "connection", "count", "list", "aggregate", "edge", "edges", "search", "info", "details"
+    );
+
+    private static final String[] QUERY_VERBS = {"get", "find", "search", "list", "all", "fetch"};
+    private static final String[] KEYED_QUERY_SUFFIXES = {"ById", "ByName", "Details"};
+    private static final String[] COLLECTION_SUFFIXES = {"Count", "Connection", "List", "Aggregate"};
+    private static final String[] MUTATION_VERBS = {"create", "update", "delete", "add", "remove", "set", "upsert", "edit"};
+    private static final String[] BULK_VERBS = {"delete", "update", "remove", "create"};
+    private static final String[] KEYED_VERBS = {"update", "delete"};
+    private static final String[] KEYED_SUFFIXES = {"ById"};
+    private static final String[] NONE = {""};
+
+    private static final int STEM = 0;
+    private static final int PLURAL = 1;
+
+    private static final Family[] QUERY_FAMILIES = {
+        new Family(NONE, new int[]{STEM, PLURAL}, NONE, false),
+        new Family(QUERY_VERBS, new int[]{STEM, PLURAL}, NONE, false),
+        new Family(NONE, new int[]{STEM}, KEYED_QUERY_SUFFIXES, false),
+        new Family(NONE, new int[]{STEM, PLURAL}, COLLECTION_SUFFIXES, false),
+        new Family(NONE, new int[]{STEM, PLURAL}, NONE, true)
+    };
+
+    private static final Family[] MUTATION_FAMILIES = {
+        new Family(MUTATION_VERBS, new int[]{STEM}, NONE, false),
+        new Family(BULK_VERBS, new int[]{PLURAL}, NONE, false),
+        new Family(KEYED_VERBS, new int[]{STEM}, KEYED_SUFFIXES, false),
+        new Family(MUTATION_VERBS, new int[]{STEM}, NONE, true)
+    };
+
+    private static class Family {
+        final String[] prefixes;
+        final int[] nouns;
+        final String[] suffixes;
+        final boolean flipStyle;
+
+        Family(String[] prefixes, int[] nouns, String[] suffixes, boolean flipStyle) {
+            this.prefixes = prefixes;
+            this.nouns = nouns;
+            this.suffixes = suffixes;
+            this.flipStyle = flipStyle;
+        }
+
+        int size() {
+            return prefixes.length * nouns.length * suffixes.length;
+        }
+    }
+
+    private static class Seed {
+        final List<String> stem;
+        final boolean snake;
+        int family;
+        int index;
+
+        Seed(List<String> stem, boolean snake) {
+            this.stem = stem;
+            this.snake = snake;
+        }
+    }
+
+    private final Family[] families;
+    private final Predicate<String> accept;
+    private final Deque<Seed> seeds = new ArrayDeque<>();
+    private final Set<String> seededStems = new HashSet<>();
+    private String lookahead;
+
+    public GripCandidateGenerator(boolean mutation, Predicate<String> accept) {
+        this.families = mutation ? MUTATION_FAMILIES : QUERY_FAMILIES;
+        this.accept = accept;
+    }
+
+    public synchronized void seed(String name) {
+        if (name == null || name.startsWith("__") || !VALID_NAME.matcher(name).matches()) {
+            return;
+        }
+
+        List<String> stem = stemTokens(tokenize(name));
+        if (stem.isEmpty() || !seededStems.add(String.join("_", stem))) {
+            return;
+        }
+        seeds.add(new Seed(stem, name.indexOf('_') > 0 && name.equals(name.toLowerCase(Locale.ROOT))));
+    }
+
+    public synchronized void seedAll(Iterable<String> names) {
+        for (String name : names) {
+            seed(name);
+        }
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (lookahead == null) {
+            lookahead = advance();
+        }
+        return lookahead != null;
+    }
+
+    @Override
+    public synchronized String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String candidate = lookahead;
+        lookahead = null;
+        return candidate;
+    }
+
+    public synchronized List<String> take(int max) {
+        List<String> batch = new ArrayList<>(max);
+        while (batch.size() < max && hasNext()) {
+            batch.add(next());
+        }
+        return batch;
+    }
+
+    private String advance() {
+        while (!seeds.isEmpty()) {
+            Seed seed = seeds.peek();
+            while (seed.family < families.length) {
+                Family family = families[seed.family];
+                if (seed.index >= family.size()) {
+                    seed.family++;
+                    seed.index = 0;
+                    continue;
+                }
+                String candidate = render(seed, family, seed.index++);
+                if (candidate != null && VALID_NAME.matcher(candidate).matches() && accept.test(candidate)) {
+                    return candidate;
+                }
+            }
+            seeds.poll();
+        }
+        return null;
+    }
+
+    private String render(Seed seed, Family family, int index) {
+        int suffix = index % family.suffixes.length;
+        index /= family.suffixes.length;
+        int noun = family.nouns[index % family.nouns.length];
+        int prefix = index / family.nouns.length;
+
+        List<String> tokens = new ArrayList<>();
+        addTokens(tokens, family.prefixes[prefix]);
+        List<String> nounTokens = nounForm(seed.stem, noun);
+        if (nounTokens == null) return null;
+        tokens.addAll(nounTokens);
+        addTokens(tokens, family.suffixes[suffix]);
+
+        boolean snake = seed.snake != family.flipStyle;
+        return snake ? String.join("_", tokens) : camelCase(tokens);
+    }
+
+    private static List<String> nounForm(List<String> stem, int form) {
+        String last = stem.get(stem.size() - 1);
+        String inflected = form == PLURAL ? pluralize(last) : last;
+        if (form != STEM && inflected.equals(last)) {
+            return null;
+        }
+        List<String> tokens = new ArrayList<>(stem.subList(0, stem.size() - 1));
+        tokens.add(inflected);
+        return tokens;
+    }
+
+    private static void addTokens(List<String> tokens, String affix) {
+        if (!affix.isEmpty()) {
+            tokens.addAll(tokenize(affix));
+        }
+    }
+
+    static List<String> tokenize(String name) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_' || c == '-') {
+                flush(tokens, current);
+            } else if (Character.isUpperCase(c) && current.length() > 0 &&
+                    (!Character.isUpperCase(name.charAt(i - 1)) ||
+                     (i + 1 < name.length() && Character.isLowerCase(name.charAt(i + 1))))) {
+                flush(tokens, current);
+                current.append(c);
+            } else {
+                current.append(c);
+            }
+        }
+        flush(tokens, current);
+        return tokens;
+    }
+
+    private static void flush(List<String> tokens, StringBuilder current) {
+        if (current.length() > 0) {
+            tokens.add(current.toString().toLowerCase(Locale.ROOT));
+            current.setLength(0);
+        }
+    }
+
+    private static List<String> stemTokens(List<String> tokens) {
+        List<String> stem = new ArrayList<>(tokens);
+        if (stem.size() > 1 && VERB_TOKENS.contains(stem.get(0))) {
+            stem.remove(0);
+        }
+        int by = stem.indexOf("by");
+        if (by > 0) {
+            stem = new ArrayList<>(stem.subList(0, by));
+        }
+        while (stem.size() > 1 && TRAILING_TOKENS.contains(stem.get(stem.size() - 1))) {
+            stem.remove(stem.size() - 1);
+        }
+        if (!stem.isEmpty()) {
+            String last = stem.remove(stem.size() - 1);
+            stem.add(singularize(last));
+        }
+        return stem;
+    }
+
+    private static String camelCase(List<String> tokens) {
+        StringBuilder sb = new StringBuilder(tokens.get(0));
+        for (int i = 1; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            sb.append(Character.toUpperCase(token.charAt(0))).append(token, 1, token.length());
+        }
+        return sb.toString();
+    }
+
+    static String pluralize(String word) {
+        if (word.length() < 2) return word;
+        if (word.endsWith("y") && !isVowel(word.charAt(word.length() - 2))) {
+            return word.substring(0, word.length() - 1) + "ies";
+        }
+        if (word.endsWith("s") || word.endsWith("x") || word.endsWith("z") ||
+            word.endsWith("ch") || word.endsWith("sh")) {
+            return word + "es";
+        }
+        return word + "s";
+    }
+
+    static String singularize(String word) {
+        if (word.length() < 4) return word;
+        if (word.endsWith("ies")) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.endsWith("sses") || word.endsWith("xes") || word.endsWith("zes") ||
+            word.endsWith("ches") || word.endsWith("shes")) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    private static boolean isVowel(char c) {
+        return "aeiou".indexOf(c) >= 0;
+    }
+}
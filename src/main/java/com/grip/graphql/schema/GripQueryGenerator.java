@@ -0,0 +1,247 @@
+package com.grip.graphql.schema;
+
+import com.grip.graphql.GripConfig;
+import com.grip.graphql.model.schema.*;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class GripQueryGenerator {
+
+    private static final int DEFAULT_DEPTH = 2;
+    private static final int DEFAULT_PAD = 4;
+    private static final int BASE_LEVEL = 2;
+    private static final int INPUT_PLACEHOLDER_FIELDS = 3;
+    private static final String INDENT = "  ";
+
+    private static final Map<GripSchema, GripQueryGenerator> GENERATORS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WeakReference<GripSchema> schema;
+    private volatile Cache cache = new Cache(-1, 0, 0);
+
+    private static class Cache {
+        final long version;
+        final int depth;
+        final int pad;
+        final Map<String, String[]> fragments = new ConcurrentHashMap<>();
+
+        Cache(long version, int depth, int pad) {
+            this.version = version;
+            this.depth = depth;
+            this.pad = pad;
+        }
+    }
+
+    private GripQueryGenerator(GripSchema schema) {
+        this.schema = new WeakReference<>(schema);
+    }
+
+    private GripSchema schema() {
+        GripSchema current = schema.get();
+        if (current == null) {
+            throw new IllegalStateException("Schema for this generator was released");
+        }
+        return current;
+    }
+
+    public static GripQueryGenerator forSchema(GripSchema schema, GripConfig config) {
+        Integer depth = config != null ? config.getInteger(GripConfig.SCHEMA_CODEGEN_DEPTH) : null;
+        Integer pad = config != null ? config.getInteger(GripConfig.SCHEMA_CODEGEN_PAD) : null;
+        return forSchema(schema, depth != null ? depth : DEFAULT_DEPTH, pad != null ? pad : DEFAULT_PAD);
+    }
+
+    public static GripQueryGenerator forSchema(GripSchema schema, int depth, int pad) {
+        GripQueryGenerator generator = GENERATORS.computeIfAbsent(schema, GripQueryGenerator::new);
+        generator.validate(Math.max(1, depth), Math.max(0, pad));
+        return generator;
+    }
+
+    private synchronized void validate(int depth, int pad) {
+        Cache current = cache;
+        if (current.version != schema().getVersion() || current.depth != depth || current.pad != pad) {
+            cache = new Cache(schema().getVersion(), depth, pad);
+        }
+    }
+
+    public int getDepth() {
+        return cache.depth;
+    }
+
+    public int getPad() {
+        return cache.pad;
+    }
+
+    public int getCachedFragmentCount() {
+        int count = 0;
+        for (String[] byDepth : cache.fragments.values()) {
+            for (String fragment : byDepth) {
+                if (fragment != null) count++;
+            }
+        }
+        return count;
+    }
+
+    public String operationKeyword(String rootTypeName) {
+        if (rootTypeName != null) {
+            if (rootTypeName.equals(schema().getMutationTypeName())) return "mutation";
+            if (rootTypeName.equals(schema().getSubscriptionTypeName())) return "subscription";
+        }
+        return "query";
+    }
+
+    public String generateOperation(String operationType, GripField field) {
+        return generateOperation(operationType, List.of(field));
+    }
+
+    public String generateOperation(String operationType, List<GripField> fields) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(operationType.toLowerCase()).append(" {\n");
+        for (GripField field : fields) {
+            sb.append(INDENT).append(field.getName());
+            appendArguments(sb, field);
+            String selection = selection(field.getType());
+            if (selection != null) {
+                sb.append(" {\n").append(selection).append(INDENT).append("}\n");
+            } else {
+                sb.append("\n");
+            }
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    public Map<String, String> generateAll() {
+        Map<String, String> operations = new LinkedHashMap<>();
+        addOperations(operations, "query", schema().getQueryType());
+        addOperations(operations, "mutation", schema().getMutationType());
+        addOperations(operations, "subscription", schema().getSubscriptionType());
+        return operations;
+    }
+
+    private void addOperations(Map<String, String> operations, String keyword, GripType root) {
+        if (root == null) return;
+        for (GripField field : root.getFields()) {
+            operations.put(keyword + " " + field.getName(), generateOperation(keyword, field));
+        }
+    }
+
+    public String selection(GripTypeRef typeRef) {
+        if (typeRef == null || typeRef.getName() == null) {
+            return INDENT.repeat(BASE_LEVEL) + "__typename\n";
+        }
+        GripType type = schema().getType(typeRef.getName());
+        if (type == null) {
+            return typeRef.getKind() == GripTypeKind.SCALAR || typeRef.getKind() == GripTypeKind.ENUM
+                ? null : INDENT.repeat(BASE_LEVEL) + "__typename\n";
+        }
+        if (isLeaf(type)) return null;
+        Cache current = cache;
+        return fragment(current, type, current.depth);
+    }
+
+    private String fragment(Cache cache, GripType type, int remaining) {
+        String[] byDepth = cache.fragments.get(type.getName());
+        if (byDepth == null) {
+            byDepth = new String[cache.depth + 1];
+            String[] existing = cache.fragments.putIfAbsent(type.getName(), byDepth);
+            if (existing != null) byDepth = existing;
+        }
+        if (byDepth[remaining] != null) {
+            return byDepth[remaining];
+        }
+
+        String indent = INDENT.repeat(BASE_LEVEL + cache.depth - remaining);
+        StringBuilder sb = new StringBuilder();
+        int nested = 0;
+        for (GripField f : type.getFields()) {
+            String subName = f.getType() != null ? f.getType().getName() : null;
+            GripType subType = subName != null ? schema().getType(subName) : null;
+            if (subType == null || isLeaf(subType)) {
+                sb.append(indent).append(f.getName()).append("\n");
+            } else if (remaining > 1 && nested < cache.pad && subType != type) {
+                sb.append(indent).append(f.getName()).append(" {\n")
+                    .append(fragment(cache, subType, remaining - 1))
+                    .append(indent).append("}\n");
+                nested++;
+            }
+        }
+        if (sb.length() == 0) {
+            sb.append(indent).append("__typename\n");
+        }
+
+        String result = sb.toString();
+        byDepth[remaining] = result;
+        return result;
+    }
+
+    private boolean isLeaf(GripType type) {
+        return type.getKind() == GripTypeKind.SCALAR || type.getKind() == GripTypeKind.ENUM;
+    }
+
+    private void appendArguments(StringBuilder sb, GripField field) {
+        List<GripArgument> arguments = field.getArguments();
+        if (arguments.isEmpty()) return;
+
+        sb.append("(");
+        for (int i = 0; i < arguments.size(); i++) {
+            if (i > 0) sb.append(", ");
+            GripArgument arg = arguments.get(i);
+            sb.append(arg.getName()).append(": ").append(placeholder(arg.getType()));
+        }
+        sb.append(")");
+    }
+
+    public String placeholder(GripTypeRef type) {
+        if (type == null) return "\"placeholder\"";
+        String name = type.getName();
+        if (name == null) name = "String";
+
+        if (type.isList()) {
+            return "[" + scalarPlaceholder(name) + "]";
+        }
+
+        GripType inputType = schema().getType(name);
+        if (inputType != null && (inputType.getKind() == GripTypeKind.INPUT_OBJECT || name.endsWith("Input"))) {
+            return inputPlaceholder(inputType);
+        }
+
+        return scalarPlaceholder(name);
+    }
+
+    private String scalarPlaceholder(String typeName) {
+        return switch (typeName) {
+            case "String" -> "\"example\"";
+            case "ID" -> "\"1\"";
+            case "Int" -> "0";
+            case "Float" -> "0.0";
+            case "Boolean" -> "true";
+            default -> "\"placeholder\"";
+        };
+    }
+
+    private String inputPlaceholder(GripType inputType) {
+        List<GripField> fields = inputType.getInputFields();
+        if (fields.isEmpty()) {
+            fields = inputType.getFields();
+        }
+        if (fields.isEmpty()) {
+            return "{}";
+        }
+        StringBuilder sb = new StringBuilder("{ ");
+        for (int i = 0; i < Math.min(fields.size(), INPUT_PLACEHOLDER_FIELDS); i++) {
+            if (i > 0) sb.append(", ");
+            GripField f = fields.get(i);
+            sb.append(f.getName()).append(": ");
+            String tn = (f.getType() != null && f.getType().getName() != null) ? f.getType().getName() : "String";
+            sb.append(scalarPlaceholder(tn));
+        }
+        sb.append(" }");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,871 @@
+package com.grip.graphql.schema;
+
+import com.grip.graphql.model.schema.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+public class GripSchemaIndex {
+
+    private static final int MAX_DESCRIPTION_CHARS = 512;
+    private static final int CANCEL_CHECK_MASK = 0x3FF;
+    private static final int MAX_SCORE = 1 << 20;
+    private static final int EXACT_BONUS = 400;
+    private static final int PREFIX_BONUS = 250;
+    private static final int SUBSTRING_BONUS = 100;
+    private static final int MAX_LENGTH_PENALTY = 40;
+    private static final int FUZZY_MIN_LENGTH = 3;
+    private static final int TOKEN_EXACT = 70;
+    private static final int TOKEN_PREFIX = 55;
+    private static final int TOKEN_PREFIX_MIN = 40;
+    private static final int TOKEN_EDIT_1 = 40;
+    private static final int TOKEN_EDIT_2 = 25;
+    private static final int EXTRA_TOKEN_PENALTY = 5;
+    private static final int MAX_EXTRA_TOKEN_PENALTY = 20;
+    private static final int REACH_BONUS = 30;
+    private static final int REACH_STEP = 6;
+
+    private static final ExecutorService BUILD_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "grip-schema-index");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final ExecutorService SEARCH_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "grip-schema-search");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public enum MatchKind {
+        OPERATION("operation", 60),
+        TYPE("type", 50),
+        FIELD("field", 30),
+        INPUT_FIELD("input field", 30),
+        ENUM_VALUE("enum value", 30),
+        RETURN_TYPE("returns", 20),
+        ARGUMENT("argument", 20),
+        DESCRIPTION("description", 0);
+
+        private final String label;
+        private final int weight;
+
+        MatchKind(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final MatchKind[] KINDS = MatchKind.values();
+
+    public static class Hit {
+        public final GripType type;
+        public final GripField field;
+        public final String operation;
+        public final MatchKind match;
+        public final String matched;
+        public final boolean fuzzy;
+        public final int depth;
+        public final int score;
+
+        Hit(GripType type, GripField field, String operation, MatchKind match, String matched,
+            boolean fuzzy, int depth, int score) {
+            this.type = type;
+            this.field = field;
+            this.operation = operation;
+            this.match = match;
+            this.matched = matched;
+            this.fuzzy = fuzzy;
+            this.depth = depth;
+            this.score = score;
+        }
+
+        public boolean isOperation() {
+            return operation != null;
+        }
+    }
+
+    public class Result {
+        private final String query;
+        private final int[] items;
+        private final int[] scores;
+        private final int[] entries;
+        private final boolean[] fuzzy;
+        private final long tookNanos;
+
+        Result(String query, int[] items, int[] scores, int[] entries, boolean[] fuzzy, long tookNanos) {
+            this.query = query;
+            this.items = items;
+            this.scores = scores;
+            this.entries = entries;
+            this.fuzzy = fuzzy;
+            this.tookNanos = tookNanos;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public int size() {
+            return items.length;
+        }
+
+        public long getTookMillis() {
+            return tookNanos / 1_000_000;
+        }
+
+        public GripSchemaIndex getIndex() {
+            return GripSchemaIndex.this;
+        }
+
+        public List<Hit> page(int offset, int limit) {
+            int end = Math.min(items.length, offset + limit);
+            if (offset >= end) return Collections.emptyList();
+            List<Hit> page = new ArrayList<>(end - offset);
+            for (int i = offset; i < end; i++) {
+                page.add(get(i));
+            }
+            return page;
+        }
+
+        public Hit get(int index) {
+            int item = items[index];
+            int entry = entries[index];
+            return new Hit(itemTypes[item], itemFields[item], itemOperations[item],
+                KINDS[entryKinds[entry]], entryLabels[entry], fuzzy[index], itemDepths[item], scores[index]);
+        }
+    }
+
+    private final GripSchema schema;
+    private final long version;
+    private final long buildNanos;
+
+    private final GripType[] itemTypes;
+    private final GripField[] itemFields;
+    private final String[] itemOperations;
+    private final int[] itemNameRanks;
+    private final int[] itemsByRank;
+    private final int[] itemDepths;
+
+    private final int[] entryItems;
+    private final byte[] entryKinds;
+    private final String[] entryLabels;
+
+    private final String[] terms;
+    private final int[][] termEntries;
+    private final int[] termTokenCounts;
+    private final TrigramTable trigrams;
+
+    private final String[] tokens;
+    private final int[][] tokenTerms;
+    private final Map<String, Integer> tokenIds;
+    private final int[] tokensByName;
+    private final BkTree tokenTree;
+
+    public GripSchemaIndex(GripSchema schema) {
+        long start = System.nanoTime();
+        this.schema = schema;
+        this.version = schema.getVersion();
+
+        Builder builder = new Builder();
+        String queryType = schema.getQueryTypeName();
+        String mutationType = schema.getMutationTypeName();
+        String subscriptionType = schema.getSubscriptionTypeName();
+
+        for (GripType type : new ArrayList<>(schema.getAllTypes())) {
+            if (type.getName().startsWith("__")) continue;
+
+            String operation = type.getName().equals(queryType) ? "Query" :
+                type.getName().equals(mutationType) ? "Mutation" :
+                type.getName().equals(subscriptionType) ? "Subscription" : null;
+
+            int typeItem = builder.addItem(type, null, null);
+            builder.addEntry(typeItem, MatchKind.TYPE, type.getName(), type.getName());
+            builder.addDescription(typeItem, type.getName(), type.getDescription());
+
+            for (GripField field : type.getFields()) {
+                int item = typeItem;
+                if (operation != null) {
+                    item = builder.addItem(type, field, operation);
+                    builder.addEntry(item, MatchKind.OPERATION, field.getName(), field.getName());
+                    GripTypeRef returnType = field.getType();
+                    if (returnType != null && returnType.getName() != null) {
+                        builder.addEntry(item, MatchKind.RETURN_TYPE, returnType.getName(), returnType.getName());
+                    }
+                } else {
+                    builder.addEntry(item, MatchKind.FIELD, field.getName(), field.getName());
+                }
+                builder.addDescription(item, field.getName(), field.getDescription());
+                for (GripArgument argument : field.getArguments()) {
+                    builder.addEntry(item, MatchKind.ARGUMENT, argument.getName(),
+                        field.getName() + "(" + argument.getName() + ")");
+                    builder.addDescription(item, field.getName() + "(" + argument.getName() + ")",
+                        argument.getDescription());
+                }
+            }
+            for (GripField field : type.getInputFields()) {
+                builder.addEntry(typeItem, MatchKind.INPUT_FIELD, field.getName(), field.getName());
+                builder.addDescription(typeItem, field.getName(), field.getDescription());
+            }
+            for (GripEnumValue value : type.getEnumValues()) {
+                builder.addEntry(typeItem, MatchKind.ENUM_VALUE, value.getName(), value.getName());
+                builder.addDescription(typeItem, value.getName(), value.getDescription());
+            }
+        }
+
+        int itemCount = builder.itemTypes.size();
+        this.itemTypes = builder.itemTypes.toArray(new GripType[0]);
+        this.itemFields = builder.itemFields.toArray(new GripField[0]);
+        this.itemOperations = builder.itemOperations.toArray(new String[0]);
+        this.itemNameRanks = rankByName(itemCount);
+        this.itemsByRank = new int[itemCount];
+        for (int item = 0; item < itemCount; item++) {
+            itemsByRank[itemNameRanks[item]] = item;
+        }
+        this.itemDepths = reachability(schema, itemCount);
+
+        this.entryItems = builder.entryItems.toArray();
+        this.entryKinds = Arrays.copyOf(builder.entryKinds, builder.entryCount);
+        this.entryLabels = builder.entryLabels.toArray(new String[0]);
+
+        this.terms = builder.terms.toArray(new String[0]);
+        this.termEntries = new int[terms.length][];
+        for (int i = 0; i < terms.length; i++) {
+            termEntries[i] = builder.termEntries.get(i).toArray();
+        }
+        this.termTokenCounts = Arrays.copyOf(builder.termTokenCounts, terms.length);
+        this.trigrams = builder.buildTrigrams(terms);
+
+        this.tokens = builder.tokens.toArray(new String[0]);
+        this.tokenIds = builder.tokenIds;
+        this.tokenTerms = new int[tokens.length][];
+        for (int i = 0; i < tokens.length; i++) {
+            tokenTerms[i] = builder.tokenTerms.get(i).toArray();
+        }
+        Integer[] byName = new Integer[tokens.length];
+        for (int i = 0; i < byName.length; i++) {
+            byName[i] = i;
+        }
+        Arrays.sort(byName, (a, b) -> tokens[a].compareTo(tokens[b]));
+        this.tokensByName = new int[tokens.length];
+        for (int i = 0; i < byName.length; i++) {
+            tokensByName[i] = byName[i];
+        }
+        this.tokenTree = new BkTree(tokens);
+        this.buildNanos = System.nanoTime() - start;
+    }
+
+    public static CompletableFuture<GripSchemaIndex> buildAsync(GripSchema schema) {
+        return CompletableFuture.supplyAsync(() -> new GripSchemaIndex(schema), BUILD_EXECUTOR);
+    }
+
+    public CompletableFuture<Result> searchAsync(String query, BooleanSupplier cancelled) {
+        return CompletableFuture.supplyAsync(() -> search(query, cancelled), SEARCH_EXECUTOR);
+    }
+
+    public static void shutdown() {
+        BUILD_EXECUTOR.shutdownNow();
+        SEARCH_EXECUTOR.shutdownNow();
+    }
+
+    public GripSchema getSchema() {
+        return schema;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isCurrent(GripSchema schema) {
+        return this.schema == schema && version == schema.getVersion();
+    }
+
+    public int getItemCount() {
+        return itemTypes.length;
+    }
+
+    public int getTermCount() {
+        return terms.length;
+    }
+
+    public int getTokenCount() {
+        return tokens.length;
+    }
+
+    public long getBuildMillis() {
+        return buildNanos / 1_000_000;
+    }
+
+    public Result search(String query, BooleanSupplier cancelled) {
+        long start = System.nanoTime();
+        String needle = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (needle.isEmpty()) {
+            return new Result(needle, new int[0], new int[0], new int[0], new boolean[0], 0);
+        }
+        checkCancelled(cancelled);
+
+        int[] candidates = candidateTerms(needle, cancelled);
+        int[] best = new int[itemTypes.length];
+        int[] bestEntry = new int[itemTypes.length];
+        boolean[] fuzzy = new boolean[itemTypes.length];
+
+        int limit = candidates != null ? candidates.length : terms.length;
+        for (int i = 0; i < limit; i++) {
+            if ((i & CANCEL_CHECK_MASK) == 0) checkCancelled(cancelled);
+            int termId = candidates != null ? candidates[i] : i;
+            String term = terms[termId];
+            int at = term.indexOf(needle);
+            if (at < 0) continue;
+
+            int nameScore = MAX_LENGTH_PENALTY + 1 - Math.min(term.length() - needle.length(), MAX_LENGTH_PENALTY) +
+                (term.length() == needle.length() ? EXACT_BONUS : at == 0 ? PREFIX_BONUS : SUBSTRING_BONUS);
+
+            for (int entry : termEntries[termId]) {
+                MatchKind kind = KINDS[entryKinds[entry]];
+                int score = kind == MatchKind.DESCRIPTION ? 1 : nameScore + kind.weight;
+                int item = entryItems[entry];
+                if (score > best[item]) {
+                    best[item] = score;
+                    bestEntry[item] = entry;
+                }
+            }
+        }
+
+        if (needle.length() >= FUZZY_MIN_LENGTH) {
+            fuzzyMatch(query, best, bestEntry, fuzzy, cancelled);
+        }
+        checkCancelled(cancelled);
+
+        int matched = 0;
+        for (int item = 0; item < best.length; item++) {
+            if (best[item] > 0) {
+                int depth = itemDepths[item];
+                best[item] += depth < 0 ? 0 : Math.max(0, REACH_BONUS - REACH_STEP * depth);
+                matched++;
+            }
+        }
+
+        long[] order = new long[matched];
+        int n = 0;
+        for (int item = 0; item < best.length; item++) {
+            if (best[item] > 0) {
+                order[n++] = ((long) (MAX_SCORE - best[item]) << 32) | itemNameRanks[item];
+            }
+        }
+        Arrays.sort(order);
+
+        int[] items = new int[matched];
+        int[] scores = new int[matched];
+        int[] entries = new int[matched];
+        boolean[] fuzzyHits = new boolean[matched];
+        for (int i = 0; i < matched; i++) {
+            int item = itemsByRank[(int) order[i]];
+            items[i] = item;
+            scores[i] = best[item];
+            entries[i] = bestEntry[item];
+            fuzzyHits[i] = fuzzy[item];
+        }
+        return new Result(needle, items, scores, entries, fuzzyHits, System.nanoTime() - start);
+    }
+
+    private void fuzzyMatch(String query, int[] best, int[] bestEntry, boolean[] fuzzy, BooleanSupplier cancelled) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) return;
+
+        int[] termQuality = null;
+        IntList matchedTerms = null;
+        int[] tokenQuality = new int[tokens.length];
+        for (String queryToken : queryTokens) {
+            checkCancelled(cancelled);
+            IntList matchedTokens = matchToken(queryToken, tokenQuality);
+
+            int[] next = new int[terms.length];
+            IntList nextTerms = new IntList();
+            for (int i = 0; i < matchedTokens.size; i++) {
+                int token = matchedTokens.values[i];
+                int quality = tokenQuality[token];
+                tokenQuality[token] = 0;
+                for (int term : tokenTerms[token]) {
+                    int combined = termQuality == null ? quality : Math.min(quality, termQuality[term]);
+                    if (combined <= 0) continue;
+                    if (next[term] == 0) nextTerms.add(term);
+                    if (combined > next[term]) next[term] = combined;
+                }
+            }
+            termQuality = next;
+            matchedTerms = nextTerms;
+            if (matchedTerms.size == 0) return;
+        }
+
+        for (int i = 0; i < matchedTerms.size; i++) {
+            if ((i & CANCEL_CHECK_MASK) == 0) checkCancelled(cancelled);
+            int term = matchedTerms.values[i];
+            int extra = Math.max(0, termTokenCounts[term] - queryTokens.size());
+            int quality = Math.max(1, termQuality[term] + 1 -
+                Math.min(extra * EXTRA_TOKEN_PENALTY, MAX_EXTRA_TOKEN_PENALTY));
+            for (int entry : termEntries[term]) {
+                MatchKind kind = KINDS[entryKinds[entry]];
+                if (kind == MatchKind.DESCRIPTION) continue;
+                int score = quality + kind.weight;
+                int item = entryItems[entry];
+                if (score > best[item]) {
+                    best[item] = score;
+                    bestEntry[item] = entry;
+                    fuzzy[item] = true;
+                }
+            }
+        }
+    }
+
+    private IntList matchToken(String queryToken, int[] quality) {
+        IntList matched = new IntList();
+
+        Integer exact = tokenIds.get(queryToken);
+        if (exact != null) {
+            quality[exact] = TOKEN_EXACT;
+            matched.add(exact);
+        }
+
+        if (queryToken.length() >= 2) {
+            int low = 0, high = tokensByName.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (tokens[tokensByName[mid]].compareTo(queryToken) < 0) low = mid + 1; else high = mid;
+            }
+            for (int i = low; i < tokensByName.length && tokens[tokensByName[i]].startsWith(queryToken); i++) {
+                int token = tokensByName[i];
+                int score = Math.max(TOKEN_PREFIX_MIN, TOKEN_PREFIX - (tokens[token].length() - queryToken.length()));
+                if (quality[token] == 0) matched.add(token);
+                if (score > quality[token]) quality[token] = score;
+            }
+        }
+
+        int maxDistance = queryToken.length() <= 2 ? 0 : queryToken.length() <= 4 ? 1 : 2;
+        if (maxDistance > 0) {
+            tokenTree.search(queryToken, maxDistance, (token, distance) -> {
+                int score = distance == 0 ? TOKEN_EXACT : distance == 1 ? TOKEN_EDIT_1 : TOKEN_EDIT_2;
+                if (quality[token] == 0) matched.add(token);
+                if (score > quality[token]) quality[token] = score;
+            });
+        }
+        return matched;
+    }
+
+    private int[] reachability(GripSchema schema, int itemCount) {
+        Map<String, Integer> depths = new HashMap<>();
+        java.util.ArrayDeque<String> queue = new java.util.ArrayDeque<>();
+        for (String root : new String[]{
+                schema.getQueryTypeName(), schema.getMutationTypeName(), schema.getSubscriptionTypeName()}) {
+            if (root != null && depths.putIfAbsent(root, 0) == null) {
+                queue.add(root);
+            }
+        }
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            GripType type = schema.getType(name);
+            if (type == null) continue;
+            int next = depths.get(name) + 1;
+            for (GripField field : type.getFields()) {
+                GripTypeRef ref = field.getType();
+                if (ref != null && ref.getName() != null && depths.putIfAbsent(ref.getName(), next) == null) {
+                    queue.add(ref.getName());
+                }
+            }
+            for (GripType possible : type.getPossibleTypes()) {
+                if (depths.putIfAbsent(possible.getName(), next) == null) {
+                    queue.add(possible.getName());
+                }
+            }
+        }
+
+        int[] result = new int[itemCount];
+        for (int item = 0; item < itemCount; item++) {
+            result[item] = itemOperations[item] != null ? 0 : depths.getOrDefault(itemTypes[item].getName(), -1);
+        }
+        return result;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> result = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (!Character.isLetterOrDigit(c)) {
+                addToken(result, text, start, i);
+                start = -1;
+                continue;
+            }
+            if (start < 0) {
+                start = i;
+                continue;
+            }
+            char prev = text.charAt(i - 1);
+            boolean boundary = Character.isDigit(c) != Character.isDigit(prev) ||
+                (Character.isUpperCase(c) && Character.isLowerCase(prev)) ||
+                (Character.isUpperCase(c) && Character.isUpperCase(prev) &&
+                    i + 1 < text.length() && Character.isLowerCase(text.charAt(i + 1)));
+            if (boundary) {
+                addToken(result, text, start, i);
+                start = i;
+            }
+        }
+        return result;
+    }
+
+    private static void addToken(List<String> result, String text, int start, int end) {
+        if (start < 0 || end <= start) return;
+        String token = text.substring(start, end).toLowerCase(Locale.ROOT);
+        if (!Character.isDigit(token.charAt(0))) {
+            result.add(token);
+        }
+    }
+
+    static int distance(String a, String b, int[] previous, int[] current) {
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private int[] candidateTerms(String needle, BooleanSupplier cancelled) {
+        if (needle.length() < 3) {
+            return null;
+        }
+        int[][] lists = new int[needle.length() - 2][];
+        for (int i = 0; i + 3 <= needle.length(); i++) {
+            int[] postings = trigrams.get(trigram(needle, i));
+            if (postings == null) {
+                return new int[0];
+            }
+            lists[i] = postings;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            checkCancelled(cancelled);
+            if (lists[i] == lists[i - 1]) continue;
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private int[] rankByName(int itemCount) {
+        Integer[] order = new Integer[itemCount];
+        String[] names = new String[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            order[i] = i;
+            names[i] = itemFields[i] != null ? itemFields[i].getName() : itemTypes[i].getName();
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byLength = Integer.compare(names[a].length(), names[b].length());
+            return byLength != 0 ? byLength : names[a].compareTo(names[b]);
+        });
+        int[] ranks = new int[itemCount];
+        for (int rank = 0; rank < itemCount; rank++) {
+            ranks[order[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    private static void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled != null && cancelled.getAsBoolean()) {
+            throw new CancellationException("Superseded schema search");
+        }
+    }
+
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private static class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int last() {
+            return size > 0 ? values[size - 1] : -1;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private interface TokenMatch {
+        void accept(int token, int distance);
+    }
+
+    private static class BkTree {
+        private final String[] words;
+        private final int[] firstChild;
+        private final int[] nextSibling;
+        private final int[] edge;
+        private final int maxLength;
+
+        BkTree(String[] words) {
+            this.words = words;
+            this.firstChild = new int[words.length];
+            this.nextSibling = new int[words.length];
+            this.edge = new int[words.length];
+            Arrays.fill(firstChild, -1);
+            Arrays.fill(nextSibling, -1);
+
+            int longest = 0;
+            for (String word : words) {
+                longest = Math.max(longest, word.length());
+            }
+            this.maxLength = longest;
+
+            int[] previous = new int[longest + 1];
+            int[] current = new int[longest + 1];
+            for (int word = 1; word < words.length; word++) {
+                int node = 0;
+                while (true) {
+                    int d = distance(words[word], words[node], previous, current);
+                    int child = firstChild[node];
+                    while (child >= 0 && edge[child] != d) {
+                        child = nextSibling[child];
+                    }
+                    if (child < 0) {
+                        edge[word] = d;
+                        nextSibling[word] = firstChild[node];
+                        firstChild[node] = word;
+                        break;
+                    }
+                    node = child;
+                }
+            }
+        }
+
+        void search(String query, int maxDistance, TokenMatch match) {
+            if (words.length == 0) return;
+            int size = Math.max(maxLength, query.length()) + 1;
+            int[] previous = new int[size];
+            int[] current = new int[size];
+            int[] stack = new int[words.length];
+            int top = 0;
+            stack[top++] = 0;
+            while (top > 0) {
+                int node = stack[--top];
+                int d = distance(query, words[node], previous, current);
+                if (d <= maxDistance) {
+                    match.accept(node, d);
+                }
+                for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                    if (Math.abs(edge[child] - d) <= maxDistance) {
+                        stack[top++] = child;
+                    }
+                }
+            }
+        }
+    }
+
+    private static class TrigramTable {
+        private static final long EMPTY = -1L;
+
+        long[] keys = newKeys(1 << 12);
+        IntList[] building = new IntList[keys.length];
+        int[][] values;
+        int size;
+
+        IntList postings(long key) {
+            if (size * 2 >= keys.length) {
+                grow();
+            }
+            int slot = slot(keys, key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                building[slot] = new IntList();
+                size++;
+            }
+            return building[slot];
+        }
+
+        int[] get(long key) {
+            int slot = slot(keys, key);
+            return keys[slot] == EMPTY ? null : values[slot];
+        }
+
+        void freeze() {
+            values = new int[keys.length][];
+            for (int i = 0; i < keys.length; i++) {
+                if (building[i] != null) {
+                    values[i] = building[i].toArray();
+                }
+            }
+            building = null;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            IntList[] oldValues = building;
+            keys = newKeys(oldKeys.length * 2);
+            building = new IntList[keys.length];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = slot(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    building[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        private static int slot(long[] keys, long key) {
+            int mask = keys.length - 1;
+            int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    private static class Builder {
+        final List<GripType> itemTypes = new ArrayList<>();
+        final List<GripField> itemFields = new ArrayList<>();
+        final List<String> itemOperations = new ArrayList<>();
+
+        final IntList entryItems = new IntList();
+        byte[] entryKinds = new byte[1024];
+        int entryCount;
+        final List<String> entryLabels = new ArrayList<>();
+
+        final Map<String, Integer> termIds = new HashMap<>();
+        final List<String> terms = new ArrayList<>();
+        final List<IntList> termEntries = new ArrayList<>();
+        int[] termTokenCounts = new int[1024];
+
+        final Map<String, Integer> tokenIds = new HashMap<>();
+        final List<String> tokens = new ArrayList<>();
+        final List<IntList> tokenTerms = new ArrayList<>();
+
+        int addItem(GripType type, GripField field, String operation) {
+            itemTypes.add(type);
+            itemFields.add(field);
+            itemOperations.add(operation);
+            return itemTypes.size() - 1;
+        }
+
+        void addDescription(int item, String label, String description) {
+            if (description == null || description.isBlank()) return;
+            String text = description.length() > MAX_DESCRIPTION_CHARS ?
+                description.substring(0, MAX_DESCRIPTION_CHARS) : description;
+            addEntry(item, MatchKind.DESCRIPTION, text, label);
+        }
+
+        void addEntry(int item, MatchKind kind, String text, String label) {
+            if (text == null || text.isEmpty()) return;
+            String term = text.toLowerCase(Locale.ROOT);
+            Integer termId = termIds.get(term);
+            if (termId == null) {
+                termId = terms.size();
+                termIds.put(term, termId);
+                terms.add(term);
+                termEntries.add(new IntList());
+                if (termId == termTokenCounts.length) {
+                    termTokenCounts = Arrays.copyOf(termTokenCounts, termId * 2);
+                }
+            }
+            if (kind != MatchKind.DESCRIPTION && termTokenCounts[termId] == 0) {
+                addTokens(termId, text);
+            }
+
+            int entry = entryCount++;
+            if (entry == entryKinds.length) {
+                entryKinds = Arrays.copyOf(entryKinds, entry * 2);
+            }
+            entryItems.add(item);
+            entryKinds[entry] = (byte) kind.ordinal();
+            entryLabels.add(label);
+            termEntries.get(termId).add(entry);
+        }
+
+        void addTokens(int termId, String text) {
+            List<String> parts = tokenize(text);
+            termTokenCounts[termId] = Math.max(1, parts.size());
+            for (String part : parts) {
+                Integer tokenId = tokenIds.get(part);
+                if (tokenId == null) {
+                    tokenId = tokens.size();
+                    tokenIds.put(part, tokenId);
+                    tokens.add(part);
+                    tokenTerms.add(new IntList());
+                }
+                IntList postings = tokenTerms.get(tokenId);
+                if (postings.last() != termId) {
+                    postings.add(termId);
+                }
+            }
+        }
+
+        TrigramTable buildTrigrams(String[] terms) {
+            TrigramTable table = new TrigramTable();
+            for (int termId = 0; termId < terms.length; termId++) {
+                String term = terms[termId];
+                for (int i = 0; i + 3 <= term.length(); i++) {
+                    IntList list = table.postings(trigram(term, i));
+                    if (list.last() != termId) {
+                        list.add(termId);
+                    }
+                }
+            }
+            table.freeze();
+            return table;
+        }
+    }
+}
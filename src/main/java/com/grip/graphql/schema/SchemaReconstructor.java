@@ -1,7 +1,15 @@
 package com.grip.graphql.schema;
 
+import com.grip.graphql.event.ArgumentDiscoveredEvent;
+import com.grip.graphql.event.FieldDiscoveredEvent;
+import com.grip.graphql.event.GripEvent;
+import com.grip.graphql.event.GripEventBus;
+import com.grip.graphql.event.ProgressEvent;
+import com.grip.graphql.event.TypeResolvedEvent;
 import com.grip.graphql.http.GripHttpClient;
 import com.grip.graphql.model.schema.*;
+import com.grip.graphql.schema.regex.GripErrorGrammar;
+import com.grip.graphql.schema.regex.GripGrammarRegistry;
 import com.grip.graphql.schema.regex.GripRegexStore;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -13,6 +21,7 @@ import java.io.InputStreamReader;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 public class SchemaReconstructor {
@@ -21,20 +30,37 @@ public class SchemaReconstructor {
     private static final int MAX_CONCURRENT = 8;
     private static final int MAX_DEPTH = 10;
     private static final int REQUEST_DELAY_MS = 50;
+    private static final int MAX_INPUT_DEPTH = 3;
+    private static final int MAX_EXPANSION_BUCKETS = 24;
+    private static final String PROBE_VALUE = "7";
+    private static final String CONFIRM_VALUE = "{}";
+    private static final String VALIDATION_GUARD = "__gripGuard";
+    public static final String EVENT_SOURCE = "SchemaReconstructor";
+    public static final String PROGRESS_PROBES = "probes";
+    public static final String PROGRESS_SUCCESSFUL = "successful";
+    public static final String PROGRESS_TYPES = "types";
+    private static final AtomicLong RUN_IDS = new AtomicLong();
 
     private final GripHttpClient httpClient;
     private final ExecutorService executor;
     private final Semaphore semaphore;
     private final List<String> wordlist;
+    private final List<String> argumentWordlist;
 
     private final Map<String, GripType> discoveredTypes;
     private final Set<String> exploredTypes;
     private final Queue<TypeExplorationTask> explorationQueue;
 
     private Consumer<String> progressCallback;
+    private GripEventBus eventBus;
+    private final long runId = RUN_IDS.incrementAndGet();
+    private volatile String currentEndpoint;
+    private volatile GripErrorGrammar grammar = GripGrammarRegistry.getInstance().getDefault();
     private volatile boolean cancelled = false;
+    private volatile GripSchema seedSchema;
     private final AtomicInteger totalProbes = new AtomicInteger(0);
     private final AtomicInteger successfulProbes = new AtomicInteger(0);
+    private final AtomicInteger discoveredArguments = new AtomicInteger(0);
 
     private static class TypeExplorationTask {
         final String typeName;
@@ -48,6 +74,66 @@ public class SchemaReconstructor {
         }
     }
 
+    private static class InputExplorationTask {
+        final String typeName;
+        final GripField carrierField;
+        final boolean isMutation;
+        final String argumentName;
+        final String valuePrefix;
+        final String valueSuffix;
+        final int depth;
+
+        InputExplorationTask(String typeName, GripField carrierField, boolean isMutation, String argumentName,
+                             String valuePrefix, String valueSuffix, int depth) {
+            this.typeName = typeName;
+            this.carrierField = carrierField;
+            this.isMutation = isMutation;
+            this.argumentName = argumentName;
+            this.valuePrefix = valuePrefix;
+            this.valueSuffix = valueSuffix;
+            this.depth = depth;
+        }
+    }
+
+    private static class ProbeDocument {
+        private final StringBuilder query = new StringBuilder();
+        private final List<String> names = new ArrayList<>();
+        private final List<int[]> spans = new ArrayList<>();
+
+        ProbeDocument append(String text) {
+            query.append(text);
+            return this;
+        }
+
+        ProbeDocument segment(String name, String text) {
+            int start = query.length();
+            query.append(text);
+            names.add(name);
+            spans.add(new int[]{start, query.length()});
+            return this;
+        }
+
+        List<String> getNames() {
+            return names;
+        }
+
+        String nameAtColumn(int column) {
+            int offset = column - 1;
+            for (int i = 0; i < spans.size(); i++) {
+                int[] span = spans.get(i);
+                if (offset >= span[0] && offset < span[1]) {
+                    return names.get(i);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return query.toString();
+        }
+    }
+
     public SchemaReconstructor(GripHttpClient httpClient) {
         this.httpClient = httpClient;
         this.executor = Executors.newFixedThreadPool(MAX_CONCURRENT, r -> {
@@ -56,7 +142,8 @@ public class SchemaReconstructor {
             return t;
         });
         this.semaphore = new Semaphore(MAX_CONCURRENT);
-        this.wordlist = loadWordlist();
+        this.wordlist = loadWordlist("/wordlists/graphql-fields.txt", getDefaultWordlist());
+        this.argumentWordlist = loadWordlist("/wordlists/graphql-arguments.txt", getDefaultArgumentWordlist());
         this.discoveredTypes = new ConcurrentHashMap<>();
         this.exploredTypes = ConcurrentHashMap.newKeySet();
         this.explorationQueue = new ConcurrentLinkedQueue<>();
@@ -66,6 +153,29 @@ public class SchemaReconstructor {
         this.progressCallback = callback;
     }
 
+    public void setEventBus(GripEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    public long getRunId() {
+        return runId;
+    }
+
+    public void setEngine(String engine) {
+        GripGrammarRegistry registry = GripGrammarRegistry.getInstance();
+        if (registry.hasGrammarFor(engine)) {
+            this.grammar = registry.forEngine(engine);
+            reportProgress("Using " + grammar.getName() + " error grammar for " + engine +
+                " (" + grammar.getRuleCount() + " rules)");
+        } else {
+            this.grammar = registry.getDefault();
+        }
+    }
+
+    public void setSeedSchema(GripSchema seed) {
+        this.seedSchema = seed;
+    }
+
     public void cancel() {
         this.cancelled = true;
     }
@@ -81,42 +191,53 @@ public class SchemaReconstructor {
                 cancelled = false;
                 totalProbes.set(0);
                 successfulProbes.set(0);
+                discoveredArguments.set(0);
+                currentEndpoint = endpoint;
+                applySeed();
 
                 reportProgress("Phase 1: Discovering Query type fields...");
                 Set<String> queryFields = probeRootType(endpoint, "Query");
 
-                if (queryFields.isEmpty()) {
+                if (queryFields.isEmpty() && !discoveredTypes.containsKey("Query")) {
                     reportProgress("No Query fields discovered. Schema may be protected.");
                     return createEmptySchema(endpoint);
                 }
 
                 reportProgress("Discovered " + queryFields.size() + " Query fields");
-
-                GripType queryType = new GripType("Query", GripTypeKind.OBJECT);
-                for (String fieldName : queryFields) {
-                    GripField field = new GripField(fieldName, GripTypeRef.simple("Unknown"));
-                    queryType.addField(field);
-                }
-                discoveredTypes.put("Query", queryType);
+                GripType queryType = mergeRootFields("Query", queryFields);
 
                 reportProgress("Phase 2: Discovering Mutation type...");
                 Set<String> mutationFields = probeRootType(endpoint, "Mutation");
                 if (!mutationFields.isEmpty()) {
                     reportProgress("Discovered " + mutationFields.size() + " Mutation fields");
-                    GripType mutationType = new GripType("Mutation", GripTypeKind.OBJECT);
-                    for (String fieldName : mutationFields) {
-                        GripField field = new GripField(fieldName, GripTypeRef.simple("Unknown"));
-                        mutationType.addField(field);
-                    }
-                    discoveredTypes.put("Mutation", mutationType);
+                    mergeRootFields("Mutation", mutationFields);
                 }
 
                 reportProgress("Phase 3: Probing field return types...");
-                probeFieldTypes(endpoint);
+                List<GripField> untyped = new ArrayList<>();
+                for (GripField field : queryType.getFields()) {
+                    GripTypeRef type = field.getType();
+                    if (type == null || "Unknown".equals(type.getName())) {
+                        untyped.add(field);
+                    } else if (!type.isScalar() && !exploredTypes.contains(type.getName())) {
+                        explorationQueue.add(new TypeExplorationTask(type.getName(), field.getName(), 1));
+                    }
+                }
+                probeFieldTypes(endpoint, untyped);
 
-                reportProgress("Phase 4: Exploring nested types...");
+                reportProgress("Phase 4: Expanding discovered names...");
+                expandDiscoveredNames(endpoint);
+
+                reportProgress("Phase 5: Exploring nested types...");
                 exploreDiscoveredTypes(endpoint);
 
+                reportProgress("Phase 6: Probing field arguments...");
+                probeFieldArguments(endpoint);
+                reportProgress("Discovered " + discoveredArguments.get() + " arguments");
+
+                reportProgress("Phase 7: Discovering input object fields...");
+                exploreInputTypes(endpoint);
+
                 GripSchema schema = buildSchema(endpoint);
                 schema.setReconstructed(true);
 
@@ -133,10 +254,56 @@ public class SchemaReconstructor {
         }, executor);
     }
 
+    private void applySeed() {
+        GripSchema seed = seedSchema;
+        if (seed == null) {
+            return;
+        }
+        int fields = 0;
+        for (GripType type : seed.getAllTypes()) {
+            if (type.getKind() == GripTypeKind.SCALAR || type.isIntrospectionType() || !type.hasFields()) {
+                continue;
+            }
+            discoveredTypes.put(type.getName(), type);
+            fields += type.getFields().size();
+            publishFields(type);
+        }
+        reportProgress("Seeded " + discoveredTypes.size() + " types and " + fields +
+            " fields from observed traffic; probing only for the gaps");
+    }
+
+    private GripType mergeRootFields(String rootName, Set<String> fieldNames) {
+        GripType rootType = discoveredTypes.computeIfAbsent(rootName, name -> new GripType(name, GripTypeKind.OBJECT));
+        GripType added = new GripType(rootName, GripTypeKind.OBJECT);
+        for (String fieldName : fieldNames) {
+            if (rootType.getField(fieldName) == null) {
+                GripField field = new GripField(fieldName, GripTypeRef.simple("Unknown"));
+                rootType.addField(field);
+                added.addField(field);
+            }
+        }
+        publishFields(added);
+        return rootType;
+    }
+
+    private List<String> unknownNames(String typeName) {
+        GripType known = discoveredTypes.get(typeName);
+        if (known == null || !known.hasFields()) {
+            return wordlist;
+        }
+        List<String> names = new ArrayList<>(wordlist.size());
+        for (String name : wordlist) {
+            if (known.getField(name) == null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
     private Set<String> probeRootType(String endpoint, String rootType) {
         Set<String> discoveredFields = ConcurrentHashMap.newKeySet();
 
-        List<List<String>> buckets = createBuckets(wordlist, BUCKET_SIZE);
+        List<List<String>> buckets = createBuckets(unknownNames(rootType), BUCKET_SIZE);
 
         List<CompletableFuture<Void>> futures = new ArrayList<>();
 
@@ -148,8 +315,7 @@ public class SchemaReconstructor {
                     semaphore.acquire();
                     Set<String> found = probeBucket(endpoint, bucket, rootType.equals("Mutation"));
                     discoveredFields.addAll(found);
-                    totalProbes.incrementAndGet();
-                    if (!found.isEmpty()) successfulProbes.incrementAndGet();
+                    countProbe(!found.isEmpty());
                 } catch (Exception e) {
                     reportProgress("Probe failed: " + e.getMessage());
                 } finally {
@@ -196,17 +362,17 @@ public class SchemaReconstructor {
                 for (JsonElement errorElement : errors) {
                     if (errorElement.isJsonObject()) {
                         String message = getErrorMessage(errorElement.getAsJsonObject());
+                        GripRegexStore.Classification classification = grammar.classify(message);
 
-                        if (GripRegexStore.indicatesValidField(message)) {
+                        if (classification.indicatesValidField()) {
 
-                            GripRegexStore.MatchResult result = GripRegexStore.extractFieldInfo(message);
+                            GripRegexStore.MatchResult result = classification.getFieldInfo();
                             if (result != null && result.getField() != null) {
                                 discovered.add(result.getField());
                             }
                         }
 
-                        List<String> suggestions = GripRegexStore.extractSuggestions(message);
-                        discovered.addAll(suggestions);
+                        discovered.addAll(classification.getSuggestions());
                     }
                 }
             }
@@ -220,11 +386,8 @@ public class SchemaReconstructor {
         return discovered;
     }
 
-    private void probeFieldTypes(String endpoint) {
-        GripType queryType = discoveredTypes.get("Query");
-        if (queryType == null) return;
-
-        for (GripField field : queryType.getFields()) {
+    private void probeFieldTypes(String endpoint, List<GripField> fields) {
+        for (GripField field : fields) {
             if (cancelled) break;
 
             try {
@@ -233,6 +396,8 @@ public class SchemaReconstructor {
                 JsonObject response = httpClient.sendQuery(endpoint, query);
 
                 String errorMessage = getFirstErrorMessage(response);
+                GripRegexStore.Classification classification = grammar.classify(errorMessage);
+                recordRequiredArguments("Query", field, response);
 
                 if (errorMessage == null && response != null && response.has("data") && !response.get("data").isJsonNull()) {
 
@@ -243,7 +408,7 @@ public class SchemaReconstructor {
                             JsonObject fieldObj = fieldData.getAsJsonObject();
                             if (fieldObj.has("__typename") && !fieldObj.get("__typename").isJsonNull()) {
                                 String typeName = fieldObj.get("__typename").getAsString();
-                                field.setType(GripTypeRef.simple(typeName));
+                                resolveFieldType("Query", field, GripTypeRef.simple(typeName));
 
                                 if (!exploredTypes.contains(typeName)) {
                                     explorationQueue.add(new TypeExplorationTask(typeName, field.getName(), 1));
@@ -251,27 +416,27 @@ public class SchemaReconstructor {
                             }
                         }
                     }
-                } else if (GripRegexStore.indicatesObjectType(errorMessage)) {
+                } else if (classification.indicatesObjectType()) {
 
-                    GripRegexStore.MatchResult result = GripRegexStore.extractFieldInfo(errorMessage);
+                    GripRegexStore.MatchResult result = classification.getFieldInfo();
                     if (result != null && result.getType() != null) {
                         String typeName = GripRegexStore.normalizeTypeName(result.getType());
-                        field.setType(GripTypeRef.simple(typeName));
+                        resolveFieldType("Query", field, GripTypeRef.simple(typeName));
 
                         if (!exploredTypes.contains(typeName)) {
                             explorationQueue.add(new TypeExplorationTask(typeName, field.getName(), 1));
                         }
                     }
-                } else if (GripRegexStore.indicatesScalarType(errorMessage)) {
+                } else if (classification.indicatesScalarType()) {
 
-                    GripRegexStore.MatchResult result = GripRegexStore.extractFieldInfo(errorMessage);
+                    GripRegexStore.MatchResult result = classification.getFieldInfo();
                     if (result != null && result.getType() != null) {
                         String typeName = GripRegexStore.normalizeTypeName(result.getType());
-                        field.setType(new GripTypeRef(typeName, GripTypeKind.SCALAR, false, false, false));
+                        resolveFieldType("Query", field, new GripTypeRef(typeName, GripTypeKind.SCALAR, false, false, false));
                     }
                 }
 
-                totalProbes.incrementAndGet();
+                countProbe(false);
                 delay();
 
             } catch (Exception e) {
@@ -281,6 +446,75 @@ public class SchemaReconstructor {
         }
     }
 
+    private void expandDiscoveredNames(String endpoint) {
+        Set<String> seeds = new LinkedHashSet<>();
+        for (String rootName : Arrays.asList("Query", "Mutation")) {
+            GripType rootType = discoveredTypes.get(rootName);
+            if (rootType == null) continue;
+            for (GripField field : rootType.getFields()) {
+                seeds.add(field.getName());
+                GripTypeRef type = field.getType();
+                if (type != null && !type.isScalar() && !"Unknown".equals(type.getName())) {
+                    seeds.add(type.getName());
+                }
+            }
+        }
+
+        for (String rootName : Arrays.asList("Query", "Mutation")) {
+            GripType rootType = discoveredTypes.get(rootName);
+            if (rootType == null || cancelled) continue;
+
+            List<GripField> added = expandRootType(endpoint, rootType, seeds);
+            if (!added.isEmpty()) {
+                reportProgress("Expanded " + rootName + " with " + added.size() + " derived fields");
+                if (rootName.equals("Query")) {
+                    probeFieldTypes(endpoint, added);
+                }
+            }
+        }
+    }
+
+    private List<GripField> expandRootType(String endpoint, GripType rootType, Set<String> seeds) {
+        boolean isMutation = rootType.getName().equals("Mutation");
+        Set<String> seen = new HashSet<>(wordlist);
+        for (GripField field : rootType.getFields()) {
+            seen.add(field.getName());
+        }
+
+        GripCandidateGenerator generator = new GripCandidateGenerator(isMutation, seen::add);
+        generator.seedAll(seeds);
+
+        List<GripField> added = new ArrayList<>();
+        for (int round = 0; round < MAX_EXPANSION_BUCKETS && !cancelled; round++) {
+            List<String> bucket = generator.take(BUCKET_SIZE);
+            if (bucket.isEmpty()) break;
+
+            try {
+                semaphore.acquire();
+                Set<String> found = probeBucket(endpoint, bucket, isMutation);
+
+                for (String name : found) {
+                    if (rootType.getField(name) != null) continue;
+                    GripField field = new GripField(name, GripTypeRef.simple("Unknown"));
+                    rootType.addField(field);
+                    added.add(field);
+                    seen.add(name);
+                    generator.seed(name);
+                    publish(new FieldDiscoveredEvent(EVENT_SOURCE, runId, currentEndpoint, rootType.getName(),
+                        rootType.getKind(), name, field.getType(), false));
+                }
+                countProbe(!found.isEmpty());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                semaphore.release();
+                delay();
+            }
+        }
+        return added;
+    }
+
     private void exploreDiscoveredTypes(String endpoint) {
         while (!explorationQueue.isEmpty() && !cancelled) {
             TypeExplorationTask task = explorationQueue.poll();
@@ -290,23 +524,28 @@ public class SchemaReconstructor {
             exploredTypes.add(task.typeName);
             reportProgress("Exploring type: " + task.typeName + " (depth " + task.depth + ")");
 
-            Set<String> typeFields = probeTypeFields(endpoint, task.parentPath);
+            Set<String> typeFields = probeTypeFields(endpoint, task.parentPath, unknownNames(task.typeName));
 
             if (!typeFields.isEmpty()) {
-                GripType type = new GripType(task.typeName, GripTypeKind.OBJECT);
+                GripType type = discoveredTypes.computeIfAbsent(task.typeName,
+                    name -> new GripType(name, GripTypeKind.OBJECT));
+                GripType added = new GripType(task.typeName, GripTypeKind.OBJECT);
                 for (String fieldName : typeFields) {
-                    GripField field = new GripField(fieldName, GripTypeRef.simple("Unknown"));
-                    type.addField(field);
+                    if (type.getField(fieldName) == null) {
+                        GripField field = new GripField(fieldName, GripTypeRef.simple("Unknown"));
+                        type.addField(field);
+                        added.addField(field);
+                    }
                 }
-                discoveredTypes.put(task.typeName, type);
+                publishFields(added);
             }
         }
     }
 
-    private Set<String> probeTypeFields(String endpoint, String parentPath) {
+    private Set<String> probeTypeFields(String endpoint, String parentPath, List<String> candidates) {
         Set<String> discoveredFields = ConcurrentHashMap.newKeySet();
 
-        List<List<String>> buckets = createBuckets(wordlist, BUCKET_SIZE / 2);
+        List<List<String>> buckets = createBuckets(candidates, BUCKET_SIZE / 2);
 
         for (List<String> bucket : buckets) {
             if (cancelled) break;
@@ -332,20 +571,19 @@ public class SchemaReconstructor {
                     for (JsonElement errorElement : errors) {
                         if (errorElement.isJsonObject()) {
                             String message = getErrorMessage(errorElement.getAsJsonObject());
-                            if (GripRegexStore.indicatesValidField(message)) {
-                                GripRegexStore.MatchResult result = GripRegexStore.extractFieldInfo(message);
+                            GripRegexStore.Classification classification = grammar.classify(message);
+                            if (classification.indicatesValidField()) {
+                                GripRegexStore.MatchResult result = classification.getFieldInfo();
                                 if (result != null && result.getField() != null) {
                                     discoveredFields.add(result.getField());
                                 }
                             }
-                            List<String> suggestions = GripRegexStore.extractSuggestions(message);
-                            discoveredFields.addAll(suggestions);
+                            discoveredFields.addAll(classification.getSuggestions());
                         }
                     }
                 }
 
-                totalProbes.incrementAndGet();
-                if (!discoveredFields.isEmpty()) successfulProbes.incrementAndGet();
+                countProbe(!discoveredFields.isEmpty());
 
             } catch (Exception e) {
 
@@ -386,6 +624,423 @@ public class SchemaReconstructor {
         return fields;
     }
 
+    private void probeFieldArguments(String endpoint) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (String rootName : Arrays.asList("Query", "Mutation")) {
+            GripType rootType = discoveredTypes.get(rootName);
+            if (rootType == null) continue;
+
+            boolean isMutation = rootName.equals("Mutation");
+            for (GripField field : rootType.getFields()) {
+                if (cancelled) break;
+                futures.add(CompletableFuture.runAsync(() -> probeArguments(endpoint, field, isMutation), executor));
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    private void probeArguments(String endpoint, GripField field, boolean isMutation) {
+        String ownerType = isMutation ? "Mutation" : "Query";
+        Deque<String> pending = new ArrayDeque<>(argumentWordlist);
+        Set<String> probed = new HashSet<>();
+        Set<String> silent = new LinkedHashSet<>();
+        boolean needsSelection = field.getType() == null || !field.getType().isScalar();
+
+        while (!pending.isEmpty() && !cancelled) {
+            List<String> bucket = new ArrayList<>();
+            while (!pending.isEmpty() && bucket.size() < BUCKET_SIZE) {
+                String candidate = pending.poll();
+                if (probed.add(candidate) && field.getArgument(candidate) == null) {
+                    bucket.add(candidate);
+                }
+            }
+            if (bucket.isEmpty()) continue;
+
+            ProbeDocument probe = new ProbeDocument()
+                .append(isMutation ? "mutation GripArgProbe {" : "query GripArgProbe {");
+            for (int i = 0; i < bucket.size(); i++) {
+                String segment = " g" + i + ": " + field.getName() + "(" + bucket.get(i) + ": " + PROBE_VALUE + ")" +
+                    (needsSelection ? " { __typename }" : "");
+                probe.segment(bucket.get(i), segment);
+            }
+            probe.append(" " + VALIDATION_GUARD + " }");
+
+            try {
+                semaphore.acquire();
+                JsonObject response = httpClient.sendQuery(endpoint, probe.toString());
+
+                Set<String> rejected = new HashSet<>();
+                Map<String, GripTypeRef> typed = new HashMap<>();
+                boolean reportsUnknown = false;
+
+                for (JsonObject error : getErrors(response)) {
+                    String message = getErrorMessage(error);
+                    GripRegexStore.MatchResult argInfo = grammar.classify(message).getArgumentInfo();
+                    if (argInfo != null) {
+                        switch (argInfo.getErrorType()) {
+                            case "UNKNOWN_ARGUMENT" -> {
+                                reportsUnknown = true;
+                                rejected.add(argInfo.getField());
+                                for (String suggestion : argInfo.getSuggestions()) {
+                                    if (!probed.contains(suggestion)) pending.add(suggestion);
+                                }
+                            }
+                            case "REQUIRED_ARGUMENT" -> {
+                                String declared = argInfo.getType().substring(argInfo.getType().indexOf(':') + 1);
+                                recordArgument(ownerType, field, argInfo.getField(), GripTypeRef.fromString(declared));
+                            }
+                            default -> typed.put(argInfo.getField(), GripTypeRef.fromString(argInfo.getType()));
+                        }
+                        continue;
+                    }
+
+                    String owner = probe.nameAtColumn(getErrorColumn(error));
+                    GripTypeRef valueType = typeRefFromValueError(message);
+                    if (owner != null && valueType != null) {
+                        typed.put(owner, valueType);
+                    }
+                }
+
+                for (String candidate : probe.getNames()) {
+                    if (rejected.contains(candidate)) continue;
+                    if (typed.containsKey(candidate)) {
+                        recordArgument(ownerType, field, candidate, typed.get(candidate));
+                    } else if (reportsUnknown) {
+                        silent.add(candidate);
+                    }
+                }
+
+                countProbe(rejected.size() < bucket.size() && reportsUnknown);
+
+            } catch (Exception e) {
+                reportProgress("Argument probe failed for field " + field.getName() + ": " + e.getMessage());
+            } finally {
+                semaphore.release();
+                delay();
+            }
+        }
+
+        for (String candidate : silent) {
+            if (cancelled) break;
+            if (field.getArgument(candidate) != null) continue;
+            ProbeDocument probe = new ProbeDocument()
+                .append(isMutation ? "mutation GripArgConfirm {" : "query GripArgConfirm {")
+                .segment(candidate, " " + field.getName() + "(" + candidate + ": " + CONFIRM_VALUE + ")" +
+                    (needsSelection ? " { __typename }" : ""))
+                .append(" " + VALIDATION_GUARD + " }");
+            GripTypeRef type = confirmCandidate(endpoint, probe, candidate, false, null);
+            if (type != null) {
+                recordArgument(ownerType, field, candidate, type);
+            }
+        }
+    }
+
+    private GripTypeRef confirmCandidate(String endpoint, ProbeDocument probe, String candidate,
+                                         boolean inputField, String inputType) {
+        try {
+            semaphore.acquire();
+            JsonObject response = httpClient.sendQuery(endpoint, probe.toString());
+            GripTypeRef confirmed = null;
+
+            for (JsonObject error : getErrors(response)) {
+                String message = getErrorMessage(error);
+                GripRegexStore.Classification classification = grammar.classify(message);
+                GripRegexStore.MatchResult info = inputField
+                    ? classification.getInputFieldInfo()
+                    : classification.getArgumentInfo();
+                if (info != null) {
+                    if (!candidate.equals(info.getField())) continue;
+                    if (inputField) {
+                        String[] owner = info.getType().split(":", 2);
+                        if (!inputType.equals(owner[0])) continue;
+                        if ("INPUT_FIELD_NOT_DEFINED".equals(info.getErrorType())) return null;
+                        if (owner.length < 2) continue;
+                        confirmed = GripTypeRef.fromString(owner[1]);
+                    } else if ("UNKNOWN_ARGUMENT".equals(info.getErrorType())) {
+                        return null;
+                    } else if ("REQUIRED_ARGUMENT".equals(info.getErrorType())) {
+                        confirmed = GripTypeRef.fromString(info.getType().substring(info.getType().indexOf(':') + 1));
+                    } else {
+                        confirmed = GripTypeRef.fromString(info.getType());
+                    }
+                    continue;
+                }
+
+                String owner = probe.nameAtColumn(getErrorColumn(error));
+                GripTypeRef valueType = typeRefFromValueError(message);
+                if (valueType != null && (owner == null || owner.equals(candidate)) && confirmed == null) {
+                    confirmed = valueType;
+                }
+            }
+
+            countProbe(confirmed != null);
+            return confirmed;
+        } catch (Exception e) {
+            reportProgress("Confirmation probe failed for " + candidate + ": " + e.getMessage());
+            return null;
+        } finally {
+            semaphore.release();
+            delay();
+        }
+    }
+
+    private void recordRequiredArguments(String ownerType, GripField field, JsonObject response) {
+        for (JsonObject error : getErrors(response)) {
+            GripRegexStore.MatchResult argInfo = grammar.classify(getErrorMessage(error)).getArgumentInfo();
+            if (argInfo != null && "REQUIRED_ARGUMENT".equals(argInfo.getErrorType())) {
+                String declared = argInfo.getType().substring(argInfo.getType().indexOf(':') + 1);
+                recordArgument(ownerType, field, argInfo.getField(), GripTypeRef.fromString(declared));
+            }
+        }
+    }
+
+    private void recordArgument(String ownerType, GripField field, String name, GripTypeRef type) {
+        synchronized (field) {
+            GripArgument existing = field.getArgument(name);
+            if (existing == null) {
+                field.addArgument(new GripArgument(name, type));
+                discoveredArguments.incrementAndGet();
+            } else if (type != null && (existing.getType() == null || type.isNonNull())) {
+                existing.setType(type);
+            } else {
+                return;
+            }
+        }
+        publish(new ArgumentDiscoveredEvent(EVENT_SOURCE, runId, currentEndpoint, ownerType, field.getName(), name, type));
+    }
+
+    private void resolveFieldType(String ownerType, GripField field, GripTypeRef type) {
+        field.setType(type);
+        publish(new TypeResolvedEvent(EVENT_SOURCE, runId, currentEndpoint, ownerType, field.getName(), type));
+    }
+
+    private void publishFields(GripType type) {
+        List<GripField> fields = type.getKind() == GripTypeKind.INPUT_OBJECT ? type.getInputFields() : type.getFields();
+        for (GripField field : fields) {
+            publish(new FieldDiscoveredEvent(EVENT_SOURCE, runId, currentEndpoint, type.getName(), type.getKind(),
+                field.getName(), field.getType(), type.getKind() == GripTypeKind.INPUT_OBJECT));
+        }
+    }
+
+    private void publish(GripEvent event) {
+        if (eventBus != null) {
+            eventBus.publish(event);
+        }
+    }
+
+    private void exploreInputTypes(String endpoint) {
+        List<InputExplorationTask> level = new ArrayList<>();
+
+        for (String rootName : Arrays.asList("Query", "Mutation")) {
+            GripType rootType = discoveredTypes.get(rootName);
+            if (rootType == null) continue;
+
+            for (GripField field : rootType.getFields()) {
+                for (GripArgument argument : field.getArguments()) {
+                    GripTypeRef argType = argument.getType();
+                    if (isProbeableInputType(argType) && exploredTypes.add(argType.getName())) {
+                        level.add(new InputExplorationTask(argType.getName(), field, rootName.equals("Mutation"),
+                            argument.getName(), argType.isList() ? "[{" : "{", argType.isList() ? "}]" : "}", 1));
+                    }
+                }
+            }
+        }
+
+        while (!level.isEmpty() && !cancelled) {
+            List<InputExplorationTask> nextLevel = Collections.synchronizedList(new ArrayList<>());
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+            for (InputExplorationTask task : level) {
+                futures.add(CompletableFuture.runAsync(() -> nextLevel.addAll(probeInputFields(endpoint, task)), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+            level = new ArrayList<>(nextLevel);
+        }
+    }
+
+    private List<InputExplorationTask> probeInputFields(String endpoint, InputExplorationTask task) {
+        List<InputExplorationTask> nested = new ArrayList<>();
+        Map<String, GripTypeRef> accepted = new LinkedHashMap<>();
+
+        Deque<String> pending = new ArrayDeque<>(argumentWordlist);
+        pending.addAll(wordlist);
+        Set<String> probed = new HashSet<>();
+        Set<String> silent = new LinkedHashSet<>();
+        boolean needsSelection = task.carrierField.getType() == null || !task.carrierField.getType().isScalar();
+
+        while (!pending.isEmpty() && !cancelled) {
+            List<String> bucket = new ArrayList<>();
+            while (!pending.isEmpty() && bucket.size() < BUCKET_SIZE) {
+                String candidate = pending.poll();
+                if (probed.add(candidate) && !accepted.containsKey(candidate)) {
+                    bucket.add(candidate);
+                }
+            }
+            if (bucket.isEmpty()) continue;
+
+            ProbeDocument probe = new ProbeDocument()
+                .append(task.isMutation ? "mutation GripInputProbe {" : "query GripInputProbe {")
+                .append(" " + task.carrierField.getName() + "(" + task.argumentName + ": " + task.valuePrefix);
+            for (int i = 0; i < bucket.size(); i++) {
+                probe.segment(bucket.get(i), (i > 0 ? ", " : " ") + bucket.get(i) + ": " + PROBE_VALUE);
+            }
+            probe.append(" " + task.valueSuffix + ")")
+                .append(needsSelection ? " { __typename }" : "")
+                .append(" " + VALIDATION_GUARD + " }");
+
+            try {
+                semaphore.acquire();
+                JsonObject response = httpClient.sendQuery(endpoint, probe.toString());
+
+                Set<String> rejected = new HashSet<>();
+                Map<String, GripTypeRef> typed = new HashMap<>();
+                boolean reportsUnknown = false;
+
+                for (JsonObject error : getErrors(response)) {
+                    String message = getErrorMessage(error);
+                    GripRegexStore.MatchResult inputInfo = grammar.classify(message).getInputFieldInfo();
+                    if (inputInfo != null) {
+                        if ("INPUT_FIELD_NOT_DEFINED".equals(inputInfo.getErrorType())) {
+                            if (!task.typeName.equals(inputInfo.getType())) continue;
+                            reportsUnknown = true;
+                            rejected.add(inputInfo.getField());
+                            for (String suggestion : inputInfo.getSuggestions()) {
+                                if (!probed.contains(suggestion)) pending.add(suggestion);
+                            }
+                        } else {
+                            String[] owner = inputInfo.getType().split(":", 2);
+                            if (owner.length < 2) continue;
+                            if (task.typeName.equals(owner[0])) {
+                                accepted.put(inputInfo.getField(), GripTypeRef.fromString(owner[1]));
+                            }
+                        }
+                        continue;
+                    }
+
+                    String owner = probe.nameAtColumn(getErrorColumn(error));
+                    GripTypeRef valueType = typeRefFromValueError(message);
+                    if (owner != null && valueType != null) {
+                        typed.put(owner, valueType);
+                    }
+                }
+
+                for (String candidate : probe.getNames()) {
+                    if (rejected.contains(candidate)) continue;
+                    if (typed.containsKey(candidate)) {
+                        accepted.putIfAbsent(candidate, typed.get(candidate));
+                    } else if (reportsUnknown) {
+                        silent.add(candidate);
+                    }
+                }
+
+                countProbe(rejected.size() < bucket.size() && reportsUnknown);
+
+            } catch (Exception e) {
+                reportProgress("Input probe failed for type " + task.typeName + ": " + e.getMessage());
+            } finally {
+                semaphore.release();
+                delay();
+            }
+        }
+
+        for (String candidate : silent) {
+            if (cancelled) break;
+            if (accepted.containsKey(candidate)) continue;
+            ProbeDocument probe = new ProbeDocument()
+                .append(task.isMutation ? "mutation GripInputConfirm {" : "query GripInputConfirm {")
+                .append(" " + task.carrierField.getName() + "(" + task.argumentName + ": " + task.valuePrefix)
+                .segment(candidate, " " + candidate + ": " + CONFIRM_VALUE)
+                .append(" " + task.valueSuffix + ")")
+                .append(needsSelection ? " { __typename }" : "")
+                .append(" " + VALIDATION_GUARD + " }");
+            GripTypeRef type = confirmCandidate(endpoint, probe, candidate, true, task.typeName);
+            if (type != null) {
+                accepted.put(candidate, type);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return nested;
+        }
+
+        GripType inputType = new GripType(task.typeName, GripTypeKind.INPUT_OBJECT);
+        for (Map.Entry<String, GripTypeRef> entry : accepted.entrySet()) {
+            GripTypeRef fieldType = entry.getValue();
+            inputType.addInputField(new GripField(entry.getKey(), fieldType));
+
+            if (task.depth < MAX_INPUT_DEPTH && isProbeableInputType(fieldType) && exploredTypes.add(fieldType.getName())) {
+                String open = fieldType.isList() ? "[{" : "{";
+                String close = fieldType.isList() ? "}]" : "}";
+                nested.add(new InputExplorationTask(fieldType.getName(), task.carrierField, task.isMutation,
+                    task.argumentName, task.valuePrefix + " " + entry.getKey() + ": " + open,
+                    close + " " + task.valueSuffix, task.depth + 1));
+            }
+        }
+        discoveredTypes.put(task.typeName, inputType);
+        markInputObjectReferences(task.typeName);
+        publishFields(inputType);
+
+        reportProgress("Input type " + task.typeName + ": " + accepted.size() + " fields");
+        return nested;
+    }
+
+    private void markInputObjectReferences(String typeName) {
+        for (GripType type : discoveredTypes.values()) {
+            for (GripField field : type.getFields()) {
+                List<GripArgument> changed = new ArrayList<>();
+                synchronized (field) {
+                    for (GripArgument argument : field.getArguments()) {
+                        GripTypeRef marked = withKind(argument.getType(), typeName, GripTypeKind.INPUT_OBJECT);
+                        if (marked != argument.getType()) {
+                            argument.setType(marked);
+                            changed.add(argument);
+                        }
+                    }
+                }
+                for (GripArgument argument : changed) {
+                    publish(new ArgumentDiscoveredEvent(EVENT_SOURCE, runId, currentEndpoint, type.getName(),
+                        field.getName(), argument.getName(), argument.getType()));
+                }
+            }
+            for (GripField inputField : type.getInputFields()) {
+                GripTypeRef marked = withKind(inputField.getType(), typeName, GripTypeKind.INPUT_OBJECT);
+                if (marked != inputField.getType()) {
+                    inputField.setType(marked);
+                    publish(new FieldDiscoveredEvent(EVENT_SOURCE, runId, currentEndpoint, type.getName(), type.getKind(),
+                        inputField.getName(), marked, true));
+                }
+            }
+        }
+    }
+
+    private GripTypeRef withKind(GripTypeRef ref, String typeName, GripTypeKind kind) {
+        if (ref == null || !typeName.equals(ref.getName()) || ref.getKind() == kind) {
+            return ref;
+        }
+        return new GripTypeRef(ref.getName(), kind, ref.isList(), ref.isNonNull(), ref.isNonNullItem());
+    }
+
+    private GripTypeRef typeRefFromValueError(String message) {
+        GripRegexStore.MatchResult typeInfo = grammar.classify(message).getTypeInfo();
+        if (typeInfo == null || typeInfo.getType() == null) {
+            return null;
+        }
+
+        return switch (typeInfo.getErrorType()) {
+            case "EXPECTED_TYPE", "SCALAR_COERCION" -> GripTypeRef.fromString(typeInfo.getType());
+            case "ENUM_TYPE" -> new GripTypeRef(typeInfo.getType(), GripTypeKind.ENUM, false, false, false);
+            default -> null;
+        };
+    }
+
+    private boolean isProbeableInputType(GripTypeRef type) {
+        return type != null && !type.isScalar() && type.getKind() != GripTypeKind.ENUM &&
+               !"Unknown".equals(type.getName());
+    }
+
     private GripSchema buildSchema(String endpoint) {
         GripSchema schema = new GripSchema();
         schema.setSourceEndpoint(endpoint);
@@ -401,6 +1056,9 @@ public class SchemaReconstructor {
         if (discoveredTypes.containsKey("Mutation")) {
             schema.setMutationTypeName("Mutation");
         }
+        if (discoveredTypes.containsKey("Subscription")) {
+            schema.setSubscriptionTypeName("Subscription");
+        }
 
         for (String scalarName : Arrays.asList("String", "Int", "Float", "Boolean", "ID")) {
             GripType scalar = new GripType(scalarName, GripTypeKind.SCALAR);
@@ -433,6 +1091,32 @@ public class SchemaReconstructor {
         return null;
     }
 
+    private List<JsonObject> getErrors(JsonObject response) {
+        List<JsonObject> errors = new ArrayList<>();
+        if (response != null && response.has("errors") && response.get("errors").isJsonArray()) {
+            for (JsonElement element : response.getAsJsonArray("errors")) {
+                if (element.isJsonObject()) {
+                    errors.add(element.getAsJsonObject());
+                }
+            }
+        }
+        return errors;
+    }
+
+    private int getErrorColumn(JsonObject error) {
+        if (error.has("locations") && error.get("locations").isJsonArray()) {
+            JsonArray locations = error.getAsJsonArray("locations");
+            if (locations.size() > 0 && locations.get(0).isJsonObject()) {
+                JsonObject location = locations.get(0).getAsJsonObject();
+                boolean firstLine = !location.has("line") || location.get("line").getAsInt() == 1;
+                if (firstLine && location.has("column")) {
+                    return location.get("column").getAsInt();
+                }
+            }
+        }
+        return -1;
+    }
+
     private String getFirstErrorMessage(JsonObject response) {
         if (response.has("errors") && response.get("errors").isJsonArray()) {
             JsonArray errors = response.getAsJsonArray("errors");
@@ -443,13 +1127,13 @@ public class SchemaReconstructor {
         return null;
     }
 
-    private List<String> loadWordlist() {
+    private List<String> loadWordlist(String resourcePath, List<String> fallback) {
         List<String> words = new ArrayList<>();
 
-        java.io.InputStream resourceStream = getClass().getResourceAsStream("/wordlists/graphql-fields.txt");
+        java.io.InputStream resourceStream = getClass().getResourceAsStream(resourcePath);
         if (resourceStream == null) {
             reportProgress("Wordlist resource not found, using default wordlist");
-            return getDefaultWordlist();
+            return fallback;
         }
 
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(resourceStream))) {
@@ -462,10 +1146,10 @@ public class SchemaReconstructor {
             }
         } catch (IOException e) {
             reportProgress("Error loading wordlist: " + e.getMessage());
-            return getDefaultWordlist();
+            return fallback;
         }
 
-        return words.isEmpty() ? getDefaultWordlist() : words;
+        return words.isEmpty() ? fallback : words;
     }
 
     private List<String> getDefaultWordlist() {
@@ -479,12 +1163,32 @@ public class SchemaReconstructor {
         ));
     }
 
+    private List<String> getDefaultArgumentWordlist() {
+        return new ArrayList<>(Arrays.asList(
+                "id", "ids", "input", "data", "filter", "where", "name", "email",
+                "first", "last", "after", "before", "limit", "offset", "page",
+                "orderBy", "sort", "search", "query", "status", "type"
+        ));
+    }
+
     private void reportProgress(String message) {
         if (progressCallback != null) {
             progressCallback.accept(message);
         }
     }
 
+    private void countProbe(boolean successful) {
+        long probes = totalProbes.incrementAndGet();
+        long successes = successful ? successfulProbes.incrementAndGet() : successfulProbes.get();
+        if (eventBus != null) {
+            Map<String, Long> counters = new LinkedHashMap<>();
+            counters.put(PROGRESS_PROBES, probes);
+            counters.put(PROGRESS_SUCCESSFUL, successes);
+            counters.put(PROGRESS_TYPES, (long) discoveredTypes.size());
+            eventBus.publishCoalesced(new ProgressEvent(EVENT_SOURCE, counters), ProgressEvent::merge);
+        }
+    }
+
     private void delay() {
         try {
             Thread.sleep(REQUEST_DELAY_MS);
@@ -520,7 +1224,17 @@ public class SchemaReconstructor {
     }
 
     public void addToWordlist(Collection<String> words) {
-        wordlist.addAll(words);
+        Set<String> known = new HashSet<>(wordlist);
+        for (String word : words) {
+            if (known.add(word)) wordlist.add(word);
+        }
+    }
+
+    public void addToArgumentWordlist(Collection<String> words) {
+        Set<String> known = new HashSet<>(argumentWordlist);
+        for (String word : words) {
+            if (known.add(word)) argumentWordlist.add(word);
+        }
     }
 
     public void setWordlist(List<String> words) {
@@ -0,0 +1,261 @@
+package com.grip.graphql.schema.regex;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class GripErrorGrammar {
+
+    static class Rule {
+        final GripRegexStore.Category category;
+        final String errorType;
+        final Pattern pattern;
+        final String fieldTemplate;
+        final String typeTemplate;
+        final boolean normalizeType;
+        final boolean withSuggestions;
+        final List<String> anchors;
+
+        Rule(GripRegexStore.Category category, String errorType, Pattern pattern, String fieldTemplate,
+             String typeTemplate, boolean normalizeType, boolean withSuggestions, List<String> anchors) {
+            this.category = category;
+            this.errorType = errorType;
+            this.pattern = pattern;
+            this.fieldTemplate = fieldTemplate;
+            this.typeTemplate = typeTemplate;
+            this.normalizeType = normalizeType;
+            this.withSuggestions = withSuggestions;
+            this.anchors = List.copyOf(anchors);
+        }
+
+        GripRegexStore.MatchResult apply(String message, List<String> suggestions) {
+            Matcher matcher = pattern.matcher(message);
+            if (!matcher.find()) {
+                return null;
+            }
+            String type = render(typeTemplate, matcher);
+            return new GripRegexStore.MatchResult(
+                render(fieldTemplate, matcher),
+                normalizeType ? GripRegexStore.normalizeTypeName(type) : type,
+                withSuggestions ? suggestions : List.of(),
+                errorType);
+        }
+
+        private static String render(String template, Matcher matcher) {
+            if (template == null) return null;
+            if (template.length() == 2 && template.charAt(0) == '$' && Character.isDigit(template.charAt(1))) {
+                int group = template.charAt(1) - '0';
+                return group <= matcher.groupCount() ? matcher.group(group) : null;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < template.length(); i++) {
+                char c = template.charAt(i);
+                if (c == '$' && i + 1 < template.length() && Character.isDigit(template.charAt(i + 1))) {
+                    int group = template.charAt(++i) - '0';
+                    if (group <= matcher.groupCount() && matcher.group(group) != null) {
+                        sb.append(matcher.group(group));
+                    }
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final Pattern DID_YOU_MEAN = Pattern.compile(
+        "Did you mean [\"']?([\\w]+)[\"']?(?:,\\s*[\"']?([\\w]+)[\"']?)*(?:\\s*(?:,\\s*)?or [\"']?([\\w]+)[\"']?)?"
+    );
+
+    private static final Pattern QUOTED_WORD = Pattern.compile("[\"']([\\w]+)[\"']");
+
+    private static final String SUGGESTION_MARKER = "did you mean";
+
+    private static final String[] VALID_FIELD_MARKERS = {
+        "must have a selection", "must not have a selection", "is required", "argument", "Expected type"
+    };
+
+    private static final String[] OBJECT_TYPE_MARKERS = {
+        "must have a selection", "must have a sub selection"
+    };
+
+    private static final String[] SCALAR_TYPE_MARKERS = {
+        "must not have a selection", "cannot have a selection"
+    };
+
+    private static final int CACHE_LIMIT = 4096;
+
+    private static final GripRegexStore.Classification EMPTY = new GripRegexStore.Classification(
+        false, false, false, List.of(), new GripRegexStore.MatchResult[GripRegexStore.Category.values().length]);
+
+    private final String name;
+    private final List<Rule> rules;
+    private final GripKeywordMatcher matcher;
+    private final int[][] rulesByKeyword;
+    private final int suggestionKeyword;
+    private final int[] validFieldKeywords;
+    private final int[] objectTypeKeywords;
+    private final int[] scalarTypeKeywords;
+    private final Map<String, GripRegexStore.Classification> cache = new ConcurrentHashMap<>();
+
+    GripErrorGrammar(String name, List<Rule> rules) {
+        this.name = name;
+        this.rules = List.copyOf(rules);
+
+        List<String> keywords = new ArrayList<>();
+        List<List<Integer>> rulesPerKeyword = new ArrayList<>();
+
+        for (int r = 0; r < this.rules.size(); r++) {
+            for (String anchor : this.rules.get(r).anchors) {
+                rulesPerKeyword.get(keywordIndex(keywords, rulesPerKeyword, anchor)).add(r);
+            }
+        }
+
+        this.suggestionKeyword = keywordIndex(keywords, rulesPerKeyword, SUGGESTION_MARKER);
+        this.validFieldKeywords = keywordIndexes(keywords, rulesPerKeyword, VALID_FIELD_MARKERS);
+        this.objectTypeKeywords = keywordIndexes(keywords, rulesPerKeyword, OBJECT_TYPE_MARKERS);
+        this.scalarTypeKeywords = keywordIndexes(keywords, rulesPerKeyword, SCALAR_TYPE_MARKERS);
+
+        this.matcher = new GripKeywordMatcher(keywords);
+        this.rulesByKeyword = new int[keywords.size()][];
+        for (int k = 0; k < keywords.size(); k++) {
+            rulesByKeyword[k] = rulesPerKeyword.get(k).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRuleCount() {
+        return rules.size();
+    }
+
+    public List<String> getErrorTypes() {
+        List<String> types = new ArrayList<>();
+        for (Rule rule : rules) {
+            types.add(rule.errorType);
+        }
+        return types;
+    }
+
+    List<Rule> getRules() {
+        return rules;
+    }
+
+    public GripRegexStore.Classification classify(String errorMessage) {
+        if (errorMessage == null || errorMessage.isEmpty()) {
+            return EMPTY;
+        }
+
+        GripRegexStore.Classification cached = cache.get(errorMessage);
+        if (cached != null) {
+            return cached;
+        }
+
+        GripRegexStore.Classification classification = compute(errorMessage);
+        if (cache.size() >= CACHE_LIMIT) {
+            cache.clear();
+        }
+        cache.put(errorMessage, classification);
+        return classification;
+    }
+
+    private GripRegexStore.Classification compute(String message) {
+        BitSet hits = matcher.findAll(message);
+
+        List<String> suggestions = hits.get(suggestionKeyword) ? parseSuggestions(message) : List.of();
+
+        BitSet candidates = new BitSet(rules.size());
+        for (int k = hits.nextSetBit(0); k >= 0; k = hits.nextSetBit(k + 1)) {
+            for (int r : rulesByKeyword[k]) {
+                candidates.set(r);
+            }
+        }
+
+        GripRegexStore.MatchResult[] results = new GripRegexStore.MatchResult[GripRegexStore.Category.values().length];
+        for (int r = candidates.nextSetBit(0); r >= 0; r = candidates.nextSetBit(r + 1)) {
+            Rule rule = rules.get(r);
+            int slot = rule.category.ordinal();
+            if (results[slot] == null) {
+                results[slot] = rule.apply(message, suggestions);
+            }
+        }
+
+        return new GripRegexStore.Classification(
+            containsAny(message, hits, validFieldKeywords),
+            containsAny(message, hits, objectTypeKeywords),
+            containsAny(message, hits, scalarTypeKeywords),
+            suggestions,
+            results);
+    }
+
+    private boolean containsAny(String message, BitSet hits, int[] keywords) {
+        for (int k : keywords) {
+            if (hits.get(k) && message.contains(matcher.getKeyword(k))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int keywordIndex(List<String> keywords, List<List<Integer>> rulesPerKeyword, String keyword) {
+        int index = keywords.indexOf(keyword);
+        if (index < 0) {
+            keywords.add(keyword);
+            rulesPerKeyword.add(new ArrayList<>());
+            index = keywords.size() - 1;
+        }
+        return index;
+    }
+
+    private static int[] keywordIndexes(List<String> keywords, List<List<Integer>> rulesPerKeyword, String[] markers) {
+        int[] indexes = new int[markers.length];
+        for (int i = 0; i < markers.length; i++) {
+            indexes[i] = keywordIndex(keywords, rulesPerKeyword, markers[i]);
+        }
+        return indexes;
+    }
+
+    private static List<String> parseSuggestions(String message) {
+        Set<String> suggestions = new LinkedHashSet<>();
+
+        Matcher m = DID_YOU_MEAN.matcher(message);
+        if (m.find()) {
+            for (int i = 1; i <= m.groupCount(); i++) {
+                String group = m.group(i);
+                if (group != null && !group.isEmpty()) {
+                    suggestions.add(group);
+                }
+            }
+        }
+
+        if (suggestions.isEmpty()) {
+            int idx = indexOfIgnoreCase(message, SUGGESTION_MARKER);
+            if (idx >= 0) {
+                m = QUOTED_WORD.matcher(message);
+                m.region(idx, message.length());
+                while (m.find()) {
+                    suggestions.add(m.group(1));
+                }
+            }
+        }
+
+        return List.copyOf(suggestions);
+    }
+
+    private static int indexOfIgnoreCase(String haystack, String needle) {
+        for (int i = 0; i + needle.length() <= haystack.length(); i++) {
+            if (haystack.regionMatches(true, i, needle, 0, needle.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,320 @@
+package com.grip.graphql.schema.regex;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+public class GripGrammarRegistry {
+
+    private static final String BUNDLED_PATH = "/grammars/";
+    private static final String BUNDLED_INDEX = BUNDLED_PATH + "index.txt";
+    private static final String DEFAULT_GRAMMAR = "default";
+
+    private static GripGrammarRegistry instance;
+
+    private final Map<String, Pack> packs = new LinkedHashMap<>();
+    private final Map<String, GripErrorGrammar> byEngine = new ConcurrentHashMap<>();
+    private volatile GripErrorGrammar defaultGrammar;
+    private Consumer<String> errorLogger;
+    private final List<String> pendingErrors = new ArrayList<>();
+
+    static class Pack {
+        final String name;
+        final String parent;
+        final List<String> engines;
+        final List<GripErrorGrammar.Rule> rules;
+
+        Pack(String name, String parent, List<String> engines, List<GripErrorGrammar.Rule> rules) {
+            this.name = name;
+            this.parent = parent;
+            this.engines = engines;
+            this.rules = rules;
+        }
+
+        boolean appliesTo(String engine) {
+            for (String candidate : engines) {
+                if (candidate.equalsIgnoreCase(engine)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private GripGrammarRegistry() {
+        loadBundled();
+        rebuild();
+    }
+
+    public static synchronized GripGrammarRegistry getInstance() {
+        if (instance == null) {
+            instance = new GripGrammarRegistry();
+        }
+        return instance;
+    }
+
+    public synchronized void setErrorLogger(Consumer<String> logger) {
+        this.errorLogger = logger;
+        if (logger != null) {
+            for (String message : pendingErrors) {
+                logger.accept(message);
+            }
+            pendingErrors.clear();
+        }
+    }
+
+    public GripErrorGrammar getDefault() {
+        return defaultGrammar;
+    }
+
+    public GripErrorGrammar forEngine(String engine) {
+        if (engine == null || engine.isBlank()) {
+            return defaultGrammar;
+        }
+        String key = engine.toLowerCase(Locale.ROOT);
+        GripErrorGrammar grammar = byEngine.get(key);
+        if (grammar != null) {
+            return grammar;
+        }
+        synchronized (this) {
+            return byEngine.computeIfAbsent(key, k -> compileForEngine(engine));
+        }
+    }
+
+    public synchronized boolean hasGrammarFor(String engine) {
+        if (engine == null) return false;
+        for (Pack pack : packs.values()) {
+            if (pack.appliesTo(engine)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized List<String> getPackNames() {
+        return new ArrayList<>(packs.keySet());
+    }
+
+    public synchronized int loadDirectory(Path directory) {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        int loaded = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    Pack pack = parsePack(reader, file.toString());
+                    if (pack != null) {
+                        packs.put(pack.name, pack);
+                        loaded++;
+                    }
+                } catch (IOException e) {
+                    logError("Failed to read grammar pack " + file + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logError("Failed to list grammar directory " + directory + ": " + e.getMessage());
+        }
+
+        if (loaded > 0) {
+            rebuild();
+        }
+        return loaded;
+    }
+
+    private void loadBundled() {
+        InputStream index = GripGrammarRegistry.class.getResourceAsStream(BUNDLED_INDEX);
+        if (index == null) {
+            logError("Bundled grammar index not found: " + BUNDLED_INDEX);
+            return;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                InputStream stream = GripGrammarRegistry.class.getResourceAsStream(BUNDLED_PATH + line);
+                if (stream == null) {
+                    logError("Bundled grammar pack not found: " + line);
+                    continue;
+                }
+                try (Reader packReader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                    Pack pack = parsePack(packReader, line);
+                    if (pack != null) {
+                        packs.put(pack.name, pack);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logError("Failed to load bundled grammars: " + e.getMessage());
+        }
+    }
+
+    private synchronized void rebuild() {
+        byEngine.clear();
+
+        List<GripErrorGrammar.Rule> rules = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Pack pack : packs.values()) {
+            for (GripErrorGrammar.Rule rule : pack.rules) {
+                if (seen.add(rule.errorType)) {
+                    rules.add(rule);
+                }
+            }
+        }
+        defaultGrammar = new GripErrorGrammar(DEFAULT_GRAMMAR, rules);
+    }
+
+    private GripErrorGrammar compileForEngine(String engine) {
+        List<GripErrorGrammar.Rule> rules = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<String> names = new ArrayList<>();
+
+        for (Pack pack : packs.values()) {
+            if (pack.appliesTo(engine)) {
+                names.add(pack.name);
+                collectRules(pack, rules, seen, new HashSet<>());
+            }
+        }
+
+        if (names.isEmpty()) {
+            return defaultGrammar;
+        }
+        return new GripErrorGrammar(String.join("+", names), rules);
+    }
+
+    private void collectRules(Pack pack, List<GripErrorGrammar.Rule> rules, Set<String> seen, Set<String> visiting) {
+        if (!visiting.add(pack.name)) {
+            logError("Grammar pack " + pack.name + " has a cyclic 'extends' chain");
+            return;
+        }
+
+        if (pack.parent != null) {
+            Pack parent = packs.get(pack.parent);
+            if (parent != null) {
+                collectRules(parent, rules, seen, visiting);
+            } else {
+                logError("Grammar pack " + pack.name + " extends unknown pack " + pack.parent);
+            }
+        }
+
+        for (GripErrorGrammar.Rule rule : pack.rules) {
+            if (seen.add(rule.errorType)) {
+                rules.add(rule);
+            }
+        }
+    }
+
+    private Pack parsePack(Reader reader, String source) {
+        JsonObject root;
+        try {
+            root = JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (Exception e) {
+            logError("Invalid grammar pack " + source + ": " + e.getMessage());
+            return null;
+        }
+
+        String name = getString(root, "name");
+        if (name == null || !root.has("rules") || !root.get("rules").isJsonArray()) {
+            logError("Grammar pack " + source + " needs a 'name' and a 'rules' array");
+            return null;
+        }
+
+        List<String> engines = new ArrayList<>();
+        if (root.has("engines") && root.get("engines").isJsonArray()) {
+            for (JsonElement engine : root.getAsJsonArray("engines")) {
+                engines.add(engine.getAsString());
+            }
+        }
+
+        List<GripErrorGrammar.Rule> rules = new ArrayList<>();
+        for (JsonElement element : root.getAsJsonArray("rules")) {
+            if (!element.isJsonObject()) continue;
+            GripErrorGrammar.Rule rule = parseRule(element.getAsJsonObject(), source);
+            if (rule != null) {
+                rules.add(rule);
+            }
+        }
+
+        return new Pack(name, getString(root, "extends"), engines, rules);
+    }
+
+    private GripErrorGrammar.Rule parseRule(JsonObject json, String source) {
+        String errorType = getString(json, "errorType");
+        String category = getString(json, "category");
+        String regex = getString(json, "pattern");
+        if (errorType == null || category == null || regex == null) {
+            logError("Skipping incomplete rule in " + source);
+            return null;
+        }
+
+        try {
+            List<String> anchors = new ArrayList<>();
+            if (json.has("anchors") && json.get("anchors").isJsonArray()) {
+                JsonArray array = json.getAsJsonArray("anchors");
+                for (JsonElement anchor : array) {
+                    String text = anchor.getAsString();
+                    if (!text.isEmpty()) anchors.add(text);
+                }
+            }
+            if (anchors.isEmpty()) {
+                logError("Rule " + errorType + " in " + source + " has no anchors and will never be tried");
+            }
+
+            return new GripErrorGrammar.Rule(
+                GripRegexStore.Category.valueOf(category.toUpperCase(Locale.ROOT)),
+                errorType,
+                Pattern.compile(regex),
+                getString(json, "field"),
+                getString(json, "type"),
+                json.has("normalizeType") && json.get("normalizeType").getAsBoolean(),
+                json.has("suggestions") && json.get("suggestions").getAsBoolean(),
+                anchors);
+        } catch (PatternSyntaxException e) {
+            logError("Invalid pattern for " + errorType + " in " + source + ": " + e.getDescription());
+        } catch (IllegalArgumentException e) {
+            logError("Unknown category " + category + " for " + errorType + " in " + source);
+        }
+        return null;
+    }
+
+    private static String getString(JsonObject json, String key) {
+        if (json.has(key) && !json.get(key).isJsonNull()) {
+            return json.get(key).getAsString();
+        }
+        return null;
+    }
+
+    private synchronized void logError(String message) {
+        if (errorLogger != null) {
+            errorLogger.accept("[GraphQL Grip] " + message);
+        } else {
+            pendingErrors.add("[GraphQL Grip] " + message);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.grip.graphql.schema.regex;
+
+import java.util.*;
+
+public class GripKeywordMatcher {
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final List<String> keywords;
+    private final int[] asciiIndex;
+    private final Map<Character, Integer> extendedIndex;
+    private final int alphabetSize;
+    private final int[][] transitions;
+    private final int[][] outputs;
+
+    public GripKeywordMatcher(Collection<String> keywords) {
+        this.keywords = List.copyOf(keywords);
+        this.asciiIndex = new int[128];
+        this.extendedIndex = new HashMap<>();
+        Arrays.fill(asciiIndex, -1);
+
+        int symbols = 0;
+        for (String keyword : this.keywords) {
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = fold(keyword.charAt(i));
+                if (c < 128) {
+                    if (asciiIndex[c] < 0) asciiIndex[c] = symbols++;
+                } else if (!extendedIndex.containsKey(c)) {
+                    extendedIndex.put(c, symbols++);
+                }
+            }
+        }
+        this.alphabetSize = symbols;
+
+        List<int[]> gotoTable = new ArrayList<>();
+        List<List<Integer>> outputLists = new ArrayList<>();
+        gotoTable.add(newRow());
+        outputLists.add(new ArrayList<>());
+
+        for (int k = 0; k < this.keywords.size(); k++) {
+            String keyword = this.keywords.get(k);
+            if (keyword.isEmpty()) continue;
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int symbol = symbolOf(keyword.charAt(i));
+                if (gotoTable.get(state)[symbol] < 0) {
+                    gotoTable.get(state)[symbol] = gotoTable.size();
+                    gotoTable.add(newRow());
+                    outputLists.add(new ArrayList<>());
+                }
+                state = gotoTable.get(state)[symbol];
+            }
+            outputLists.get(state).add(k);
+        }
+
+        int stateCount = gotoTable.size();
+        int[] failure = new int[stateCount];
+        this.transitions = new int[stateCount][];
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        transitions[0] = gotoTable.get(0).clone();
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int next = transitions[0][symbol];
+            if (next < 0) {
+                transitions[0][symbol] = 0;
+            } else {
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputLists.get(state).addAll(outputLists.get(failure[state]));
+            transitions[state] = gotoTable.get(state).clone();
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int next = transitions[state][symbol];
+                if (next < 0) {
+                    transitions[state][symbol] = transitions[failure[state]][symbol];
+                } else {
+                    failure[next] = transitions[failure[state]][symbol];
+                    queue.add(next);
+                }
+            }
+        }
+
+        this.outputs = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            List<Integer> out = outputLists.get(state);
+            outputs[state] = out.isEmpty() ? NO_OUTPUT : out.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    public int getKeywordCount() {
+        return keywords.size();
+    }
+
+    public String getKeyword(int index) {
+        return keywords.get(index);
+    }
+
+    public int initialState() {
+        return 0;
+    }
+
+    public int next(int state, char c) {
+        int symbol = symbolOf(c);
+        return symbol < 0 ? 0 : transitions[state][symbol];
+    }
+
+    public int[] outputs(int state) {
+        return outputs[state];
+    }
+
+    public BitSet findAll(CharSequence text) {
+        BitSet found = new BitSet(keywords.size());
+        if (text == null) return found;
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (int keyword : outputs[state]) {
+                found.set(keyword);
+            }
+        }
+        return found;
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private int symbolOf(char c) {
+        char folded = fold(c);
+        if (folded < 128) {
+            return asciiIndex[folded];
+        }
+        Integer symbol = extendedIndex.get(folded);
+        return symbol != null ? symbol : -1;
+    }
+
+    private static char fold(char c) {
+        if (c < 128) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c + 32) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+}
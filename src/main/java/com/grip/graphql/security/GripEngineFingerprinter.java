@@ -2,13 +2,13 @@ package com.grip.graphql.security;
 
 import com.grip.graphql.http.GripHttpClient;
 import burp.api.montoya.http.message.HttpRequestResponse;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 public class GripEngineFingerprinter {
@@ -17,6 +17,8 @@ public class GripEngineFingerprinter {
         "Note: Engine detection is heuristic-based and may not be accurate. " +
         "Results are observational hints, not definitive identification.";
 
+    private static final String TYPENAME_QUERY = "query { __typename }";
+
     private final GripHttpClient httpClient;
     private Consumer<String> progressCallback;
 
@@ -26,13 +28,22 @@ public class GripEngineFingerprinter {
         public final String confidence;
         public final String evidence;
         public final List<String> detectedFeatures;
+        public final int score;
+        public final Map<String, Integer> scores;
 
         public EngineResult(String engineName, String confidence, String evidence) {
+            this(engineName, null, confidence, evidence, new ArrayList<>(), 0, new LinkedHashMap<>());
+        }
+
+        public EngineResult(String engineName, String version, String confidence, String evidence,
+                            List<String> detectedFeatures, int score, Map<String, Integer> scores) {
             this.engineName = engineName;
-            this.version = null;
+            this.version = version;
             this.confidence = confidence;
             this.evidence = evidence;
-            this.detectedFeatures = new ArrayList<>();
+            this.detectedFeatures = detectedFeatures;
+            this.score = score;
+            this.scores = scores;
         }
     }
 
@@ -54,305 +65,167 @@ public class GripEngineFingerprinter {
         return CompletableFuture.supplyAsync(() -> {
             log("[*] Starting engine fingerprinting...");
 
-            if (!verifyGraphQLEndpoint(endpoint)) {
+            String baseline = verifyGraphQLEndpoint(endpoint);
+            if (baseline == null) {
                 log("[-] Not a valid GraphQL endpoint");
                 return new EngineResult("Unknown", "None", "Could not verify GraphQL endpoint");
             }
 
             log("[+] GraphQL endpoint confirmed");
 
-            List<DetectionProbe> probes = buildDetectionProbes();
+            Map<String, String> responses = new HashMap<>();
+            responses.put(TYPENAME_QUERY, baseline);
 
-            for (DetectionProbe probe : probes) {
-                try {
-                    String response = sendProbeQuery(endpoint, probe.query);
-                    if (response != null && probe.matcher.matches(response)) {
-                        log("[+] Detected: " + probe.engineName);
-                        return new EngineResult(probe.engineName, "High", probe.evidence);
-                    }
-                } catch (Exception e) {
-                    log("Probe failed for " + probe.engineName + ": " + e.getMessage());
-                }
+            EngineResult detected = runProbes(endpoint, GripSignatureDatabase.getBundled(this::log), responses);
+            if (detected == null) {
+                log("[-] Could not determine engine");
+                return new EngineResult("Unknown", "None", "No matching signatures found");
             }
+            return detected;
+        }, httpClient.getExecutor());
+    }
 
-            EngineResult secondary = trySecondaryDetection(endpoint);
-            if (secondary != null) {
-                return secondary;
-            }
+    private EngineResult runProbes(String endpoint, GripSignatureDatabase database, Map<String, String> known) {
+        Map<String, ProbeGroup> byQuery = new LinkedHashMap<>();
+        for (GripSignatureDatabase.Probe probe : database.getProbes()) {
+            byQuery.computeIfAbsent(probe.query, q -> new ProbeGroup(q, byQuery.size())).probes.add(probe);
+        }
+        List<ProbeGroup> groups = new ArrayList<>(byQuery.values());
 
-            log("[-] Could not determine engine");
-            return new EngineResult("Unknown", "None", "No matching signatures found");
-        });
-    }
+        int sent = 0;
+        for (ProbeGroup group : groups) {
+            if (!known.containsKey(group.query)) sent++;
+        }
+        log("[*] Sending " + sent + " distinct probe queries");
+
+        CompletionService<ProbeGroup> completion = new ExecutorCompletionService<>(httpClient.getProbeExecutor());
+        List<Future<ProbeGroup>> futures = new ArrayList<>(groups.size());
+        for (ProbeGroup group : groups) {
+            if (known.containsKey(group.query)) {
+                group.response = known.get(group.query);
+                futures.add(completion.submit(() -> group));
+            } else {
+                futures.add(completion.submit(() -> {
+                    group.response = sendProbeQuery(endpoint, group.query);
+                    return group;
+                }));
+            }
+        }
 
-    private boolean verifyGraphQLEndpoint(String endpoint) {
+        Map<String, EngineScore> scores = new LinkedHashMap<>();
+        List<String> features = new ArrayList<>();
+        boolean[] done = new boolean[groups.size()];
+        int pending = groups.size();
         try {
-            HttpRequestResponse response = httpClient.sendQueryWithLog(
-                endpoint, "query { __typename }", "Engine Fingerprint - Verify"
-            );
+            while (pending > 0) {
+                Future<ProbeGroup> future = completion.take();
+                if (future.isCancelled()) {
+                    continue;
+                }
+                ProbeGroup group;
+                try {
+                    group = future.get();
+                } catch (ExecutionException e) {
+                    pending--;
+                    continue;
+                }
+                pending--;
+                done[group.slot] = true;
 
-            if (response == null || response.response() == null) {
-                return false;
+                for (GripSignatureDatabase.Probe probe : group.probes) {
+                    for (GripSignatureDatabase.Hit hit : database.evaluate(probe.id, group.response)) {
+                        record(hit, scores, features);
+                    }
+                }
+
+                EngineScore leader = leader(scores);
+                if (leader != null && leader.score >= database.getHighThreshold() &&
+                    isDecided(leader, scores, groups, done, database)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (Future<ProbeGroup> future : futures) {
+                future.cancel(true);
             }
+        }
 
-            String body = response.response().bodyToString();
+        EngineScore leader = leader(scores);
+        if (leader == null) {
+            return null;
+        }
 
-            if (body.contains("\"data\"") || body.contains("\"errors\"")) {
-                return true;
-            }
+        List<EngineScore> ranked = new ArrayList<>(scores.values());
+        ranked.sort(EngineScore.RANKING);
+        Map<String, Integer> ranking = new LinkedHashMap<>();
+        for (EngineScore score : ranked) {
+            ranking.put(score.engine, score.score);
+        }
 
-            if (body.contains("__typename")) {
-                return true;
+        String confidence = database.confidenceFor(leader.score);
+        log("[+] Detected: " + leader.engine + (leader.version != null ? " " + leader.version : "") +
+            " (score " + leader.score + ", " + confidence + ")");
+        return new EngineResult(leader.engine, leader.version, confidence, String.join("; ", leader.evidence),
+            features, leader.score, ranking);
+    }
+
+    private void record(GripSignatureDatabase.Hit hit, Map<String, EngineScore> scores, List<String> features) {
+        if (hit.feature != null) {
+            if (!features.contains(hit.feature)) {
+                features.add(hit.feature);
+                log("[+] Server uses " + hit.feature);
             }
+            return;
+        }
 
-            return false;
-        } catch (Exception e) {
-            return false;
+        EngineScore score = scores.computeIfAbsent(hit.engine, e -> new EngineScore(e, hit.order));
+        score.score += hit.weight;
+        score.firstOrder = Math.min(score.firstOrder, hit.order);
+        if (hit.evidence != null) {
+            score.evidence.add(hit.evidence);
+        }
+        if (score.version == null) {
+            score.version = hit.version;
         }
+        log("[+] Signature match: " + hit.engine + " (" + hit.evidence + ") +" + hit.weight);
     }
 
-    private String sendProbeQuery(String endpoint, String query) {
-        try {
-            HttpRequestResponse response = httpClient.sendQueryWithLog(
-                endpoint, query, "Engine Fingerprint"
-            );
-
-            if (response != null && response.response() != null) {
-                return response.response().bodyToString();
+    private static EngineScore leader(Map<String, EngineScore> scores) {
+        EngineScore leader = null;
+        for (EngineScore score : scores.values()) {
+            if (leader == null || EngineScore.RANKING.compare(score, leader) < 0) {
+                leader = score;
             }
-        } catch (Exception ignored) {
         }
-        return null;
+        return leader;
     }
 
-    private List<DetectionProbe> buildDetectionProbes() {
-        List<DetectionProbe> probes = new ArrayList<>();
-
-        probes.add(new DetectionProbe(
-            "Apollo Server",
-            "query @skip { __typename }",
-            resp -> containsIgnoreCase(resp, "Directive \"@skip\" argument \"if\" of type \"Boolean!\""),
-            "Missing directive argument error format"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Apollo Server",
-            "query @deprecated { __typename }",
-            resp -> containsIgnoreCase(resp, "Directive \"@deprecated\" may not be used on QUERY"),
-            "Directive location validation"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Hasura",
-            "query { nonexistent_field_xyz }",
-            resp -> containsIgnoreCase(resp, "not found in type: 'query_root'"),
-            "Hasura-specific field not found error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Hasura",
-            "query { __typename }",
-            resp -> containsIgnoreCase(resp, "query_root"),
-            "Returns query_root as typename"
-        ));
-
-        probes.add(new DetectionProbe(
-            "GraphQL Yoga",
-            "subscription { __typename }",
-            resp -> containsIgnoreCase(resp, "asyncExecutionResult") ||
-                    containsIgnoreCase(resp, "Symbol.asyncIterator"),
-            "Subscription handling error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Graphene",
-            "invalidquery",
-            resp -> containsIgnoreCase(resp, "Syntax Error GraphQL"),
-            "Python Graphene syntax error format"
-        ));
-
-        probes.add(new DetectionProbe(
-            "graphql-java",
-            "queryy { __typename }",
-            resp -> containsIgnoreCase(resp, "Invalid Syntax") &&
-                    containsIgnoreCase(resp, "offending token"),
-            "Java GraphQL syntax error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Juniper",
-            "queryy { __typename }",
-            resp -> containsIgnoreCase(resp, "Unexpected") &&
-                    containsIgnoreCase(resp, "queryy"),
-            "Rust Juniper unexpected token"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Sangria",
-            "queryy { __typename }",
-            resp -> containsIgnoreCase(resp, "Syntax error while parsing GraphQL query") &&
-                    containsIgnoreCase(resp, "Invalid input"),
-            "Scala Sangria syntax error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Hot Chocolate",
-            "queryy { __typename }",
-            resp -> containsIgnoreCase(resp, "Unexpected token") &&
-                    containsIgnoreCase(resp, "Name"),
-            ".NET Hot Chocolate parser error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "GraphQL PHP",
-            "query ! { __typename }",
-            resp -> containsIgnoreCase(resp, "Syntax Error") &&
-                    containsIgnoreCase(resp, "Cannot parse the unexpected character"),
-            "PHP GraphQL parser error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "WPGraphQL",
-            "query { invalid_wp_field }",
-            resp -> containsIgnoreCase(resp, "DEBUG_LOGS") ||
-                    containsIgnoreCase(resp, "is_graphql_request"),
-            "WordPress GraphQL debug info"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Ariadne",
-            "{}",
-            resp -> containsIgnoreCase(resp, "The query must be a string") ||
-                    containsIgnoreCase(resp, "ariadne"),
-            "Ariadne empty query error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "AWS AppSync",
-            "query @skip { __typename }",
-            resp -> containsIgnoreCase(resp, "MisplacedDirective"),
-            "AppSync directive validation"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Mercurius",
-            "{}",
-            resp -> containsIgnoreCase(resp, "Unknown query") ||
-                    containsIgnoreCase(resp, "mercurius"),
-            "Mercurius empty query"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Dgraph",
-            "query { __typename @cascade }",
-            resp -> {
-                try {
-                    JsonObject json = JsonParser.parseString(resp).getAsJsonObject();
-                    if (json.has("data")) {
-                        JsonObject data = json.getAsJsonObject("data");
-                        if (data.has("__typename")) {
-                            return "Query".equals(data.get("__typename").getAsString());
-                        }
-                    }
-                } catch (Exception ignored) {}
-                return false;
-            },
-            "Dgraph cascade directive support"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Ruby GraphQL",
-            "query @skip { __typename }",
-            resp -> containsIgnoreCase(resp, "'@skip' can't be applied to queries"),
-            "Ruby directive application error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Absinthe",
-            "query { nonexistent_xyz }",
-            resp -> containsIgnoreCase(resp, "Cannot query field") &&
-                    containsIgnoreCase(resp, "RootQueryType"),
-            "Elixir Absinthe field error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Tartiflette",
-            "query { nonexistent_xyz }",
-            resp -> containsIgnoreCase(resp, "doesn't exist on Query"),
-            "Tartiflette field error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Strawberry",
-            "query @deprecated { __typename }",
-            resp -> containsIgnoreCase(resp, "Directive '@deprecated' may not be used on query"),
-            "Strawberry directive error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "gqlgen",
-            "query { nonexistent_xyz }",
-            resp -> containsIgnoreCase(resp, "Cannot query field") &&
-                    containsIgnoreCase(resp, "Query"),
-            "Go gqlgen field error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Lighthouse",
-            "query { __typename }",
-            resp -> containsIgnoreCase(resp, "lighthouse") ||
-                    containsIgnoreCase(resp, "laravel"),
-            "Laravel Lighthouse extension"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Caliban",
-            "fragment woof on Query { __typename } fragment woof2 on Query { ...woof } query { ...woof2 }",
-            resp -> containsIgnoreCase(resp, "Fragment") &&
-                    containsIgnoreCase(resp, "is not used"),
-            "Caliban fragment validation"
-        ));
-
-        probes.add(new DetectionProbe(
-            "HyperGraphQL",
-            "query { __typename @deprecated }",
-            resp -> containsIgnoreCase(resp, "Unknown directive") &&
-                    containsIgnoreCase(resp, "deprecated"),
-            "HyperGraphQL directive error"
-        ));
-
-        probes.add(new DetectionProbe(
-            "Directus",
-            "",
-            resp -> {
-                try {
-                    JsonObject json = JsonParser.parseString(resp).getAsJsonObject();
-                    if (json.has("errors")) {
-                        JsonArray errors = json.getAsJsonArray("errors");
-                        for (JsonElement err : errors) {
-                            JsonObject errObj = err.getAsJsonObject();
-                            if (errObj.has("extensions")) {
-                                JsonObject ext = errObj.getAsJsonObject("extensions");
-                                if (ext.has("code") && "INVALID_PAYLOAD".equals(ext.get("code").getAsString())) {
-                                    return true;
-                                }
-                            }
-                        }
-                    }
-                } catch (Exception ignored) {}
+    private static boolean isDecided(EngineScore leader, Map<String, EngineScore> scores, List<ProbeGroup> groups,
+                                     boolean[] done, GripSignatureDatabase database) {
+        Map<String, Integer> reachable = new HashMap<>();
+        for (EngineScore score : scores.values()) {
+            reachable.put(score.engine, score.score);
+        }
+        for (ProbeGroup group : groups) {
+            if (done[group.slot]) continue;
+            for (GripSignatureDatabase.Probe probe : group.probes) {
+                database.weightsFor(probe.id).forEach((engine, weight) -> reachable.merge(engine, weight, Integer::sum));
+            }
+        }
+        for (Map.Entry<String, Integer> entry : reachable.entrySet()) {
+            if (!entry.getKey().equals(leader.engine) && entry.getValue() >= leader.score) {
                 return false;
-            },
-            "Directus error code"
-        ));
-
-        return probes;
+            }
+        }
+        return true;
     }
 
-    private EngineResult trySecondaryDetection(String endpoint) {
-
+    private String verifyGraphQLEndpoint(String endpoint) {
         try {
             HttpRequestResponse response = httpClient.sendQueryWithLog(
-                endpoint, "query { __typename }", "Engine Fingerprint - Extensions"
+                endpoint, TYPENAME_QUERY, "Engine Fingerprint - Verify"
             );
 
             if (response == null || response.response() == null) {
@@ -360,70 +233,61 @@ public class GripEngineFingerprinter {
             }
 
             String body = response.response().bodyToString();
-            JsonObject json = JsonParser.parseString(body).getAsJsonObject();
-
-            if (json.has("extensions")) {
-                JsonObject extensions = json.getAsJsonObject("extensions");
-
-                if (extensions.has("inigo")) {
-                    log("[+] Detected: Inigo (via extensions)");
-                    return new EngineResult("Inigo", "High", "inigo field in extensions");
-                }
 
-                if (extensions.has("tracing")) {
-                    log("[+] Likely Apollo Server (tracing extension)");
-                    return new EngineResult("Apollo Server", "Medium", "Apollo tracing extension");
-                }
+            if (body.contains("\"data\"") || body.contains("\"errors\"")) {
+                return body;
+            }
 
-                if (extensions.has("newrelic")) {
-                    log("[+] Server uses New Relic monitoring");
-                }
+            if (body.contains("__typename")) {
+                return body;
             }
 
-            if (json.has("data")) {
-                JsonObject data = json.getAsJsonObject("data");
-                if (data.has("__typename")) {
-                    String typename = data.get("__typename").getAsString();
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
 
-                    if ("RootQuery".equals(typename)) {
-                        log("[+] Detected: graphql-go (RootQuery typename)");
-                        return new EngineResult("graphql-go", "Medium", "RootQuery typename");
-                    }
+    private String sendProbeQuery(String endpoint, String query) {
+        try {
+            HttpRequestResponse response = httpClient.sendQueryWithLog(
+                endpoint, query, "Engine Fingerprint"
+            );
 
-                    if ("query_root".equals(typename)) {
-                        log("[+] Detected: Hasura (query_root typename)");
-                        return new EngineResult("Hasura", "High", "query_root typename");
-                    }
-                }
+            if (response != null && response.response() != null) {
+                return response.response().bodyToString();
             }
-
         } catch (Exception ignored) {
         }
-
         return null;
     }
 
-    private boolean containsIgnoreCase(String haystack, String needle) {
-        if (haystack == null || needle == null) return false;
-        return haystack.toLowerCase().contains(needle.toLowerCase());
-    }
-
-    private static class DetectionProbe {
-        final String engineName;
+    private static class ProbeGroup {
         final String query;
-        final ResponseMatcher matcher;
-        final String evidence;
+        final int slot;
+        final List<GripSignatureDatabase.Probe> probes = new ArrayList<>();
+        volatile String response;
 
-        DetectionProbe(String engineName, String query, ResponseMatcher matcher, String evidence) {
-            this.engineName = engineName;
+        ProbeGroup(String query, int slot) {
             this.query = query;
-            this.matcher = matcher;
-            this.evidence = evidence;
+            this.slot = slot;
         }
     }
 
-    @FunctionalInterface
-    private interface ResponseMatcher {
-        boolean matches(String response);
+    private static class EngineScore {
+        static final Comparator<EngineScore> RANKING = Comparator
+            .comparingInt((EngineScore s) -> -s.score)
+            .thenComparingInt(s -> s.firstOrder);
+
+        final String engine;
+        int firstOrder;
+        final List<String> evidence = new ArrayList<>();
+        int score;
+        String version;
+
+        EngineScore(String engine, int firstOrder) {
+            this.engine = engine;
+            this.firstOrder = firstOrder;
+        }
     }
 }
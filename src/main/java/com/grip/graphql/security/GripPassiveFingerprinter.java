@@ -0,0 +1,272 @@
+package com.grip.graphql.security;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.core.Registration;
+import burp.api.montoya.core.ToolType;
+import burp.api.montoya.http.handler.HttpHandler;
+import burp.api.montoya.http.handler.HttpRequestToBeSent;
+import burp.api.montoya.http.handler.HttpResponseReceived;
+import burp.api.montoya.http.handler.RequestToBeSentAction;
+import burp.api.montoya.http.handler.ResponseReceivedAction;
+import burp.api.montoya.http.message.HttpHeader;
+import burp.api.montoya.http.message.requests.HttpRequest;
+import com.grip.graphql.GripConfig;
+import com.grip.graphql.api.GripModule;
+import com.grip.graphql.event.EngineVerdictEvent;
+import com.grip.graphql.event.GripEventBus;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class GripPassiveFingerprinter implements GripModule, HttpHandler {
+
+    public static final String MODULE_ID = "passive-fingerprint";
+
+    private static final String EVENT_SOURCE = "PassiveFingerprinter";
+    private static final int MAX_BODY_BYTES = 512 * 1024;
+    private static final int MAX_REQUEST_BYTES = 256 * 1024;
+    private static final int QUEUE_CAPACITY = 256;
+
+    public static class Verdict {
+        public final String host;
+        public final String engine;
+        public final String version;
+        public final String confidence;
+        public final int score;
+        public final List<String> evidence;
+        public final List<String> features;
+        public final long responsesSeen;
+
+        Verdict(String host, String engine, String version, String confidence, int score,
+                List<String> evidence, List<String> features, long responsesSeen) {
+            this.host = host;
+            this.engine = engine;
+            this.version = version;
+            this.confidence = confidence;
+            this.score = score;
+            this.evidence = evidence;
+            this.features = features;
+            this.responsesSeen = responsesSeen;
+        }
+    }
+
+    private static class HostState {
+        final String host;
+        final BitSet matched = new BitSet();
+        final Map<String, Integer> scores = new LinkedHashMap<>();
+        final Map<String, Integer> firstOrder = new HashMap<>();
+        final Map<String, List<String>> evidence = new HashMap<>();
+        final Map<String, String> versions = new HashMap<>();
+        final List<String> features = new ArrayList<>();
+        long responsesSeen;
+        volatile Verdict verdict;
+
+        HostState(String host) {
+            this.host = host;
+        }
+    }
+
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+    private MontoyaApi api;
+    private GripEventBus eventBus;
+    private GripSignatureDatabase database;
+    private ThreadPoolExecutor executor;
+    private Registration registration;
+    private volatile boolean enabled = true;
+
+    @Override
+    public String getModuleId() {
+        return MODULE_ID;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "Passive Fingerprinting";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Identifies GraphQL engines from responses already passing through Burp";
+    }
+
+    @Override
+    public void initialize(MontoyaApi api, GripEventBus eventBus) {
+        this.api = api;
+        this.eventBus = eventBus;
+        this.database = GripSignatureDatabase.getBundled(msg -> api.logging().logToError(msg));
+
+        GripConfig config = GripConfig.getInstance();
+        this.enabled = config == null || Boolean.TRUE.equals(config.getBoolean(GripConfig.FINGERPRINT_PASSIVE));
+
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+                Thread t = new Thread(r, "grip-passive-fingerprint");
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+        if (database.hasPassiveSignatures()) {
+            this.registration = api.http().registerHttpHandler(this);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (registration != null && registration.isRegistered()) {
+            registration.deregister();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public RequestToBeSentAction handleHttpRequestToBeSent(HttpRequestToBeSent requestToBeSent) {
+        return RequestToBeSentAction.continueWith(requestToBeSent);
+    }
+
+    @Override
+    public ResponseReceivedAction handleHttpResponseReceived(HttpResponseReceived response) {
+        try {
+            if (enabled && response.toolSource().isFromTool(ToolType.PROXY, ToolType.REPEATER) && isCandidate(response)) {
+                String host = hostOf(response.initiatingRequest());
+                String body = response.bodyToString();
+                Map<String, String> headers = new HashMap<>();
+                for (HttpHeader header : response.headers()) {
+                    headers.put(header.name().toLowerCase(Locale.ROOT), header.value());
+                }
+                executor.execute(() -> analyze(host, body, headers));
+            }
+        } catch (Exception e) {
+            api.logging().logToError("[GraphQL Grip] Passive fingerprint failed: " + e.getMessage());
+        }
+        return ResponseReceivedAction.continueWith(response);
+    }
+
+    public Verdict getVerdict(String host) {
+        if (host == null) return null;
+        HostState state = hosts.get(host.toLowerCase(Locale.ROOT));
+        return state != null ? state.verdict : null;
+    }
+
+    public List<Verdict> getVerdicts() {
+        List<Verdict> verdicts = new ArrayList<>();
+        for (HostState state : hosts.values()) {
+            if (state.verdict != null) {
+                verdicts.add(state.verdict);
+            }
+        }
+        return verdicts;
+    }
+
+    public void clear() {
+        hosts.clear();
+    }
+
+    private boolean isCandidate(HttpResponseReceived response) {
+        HttpRequest request = response.initiatingRequest();
+        if (request == null || response.body() == null) {
+            return false;
+        }
+        int length = response.body().length();
+        if (length < 2 || length > MAX_BODY_BYTES || response.body().getByte(0) != '{') {
+            return false;
+        }
+        String path = request.path();
+        if (path != null && path.toLowerCase(Locale.ROOT).contains("graphql")) {
+            return true;
+        }
+        String contentType = request.headerValue("Content-Type");
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).contains("json") || request.body() == null) {
+            return false;
+        }
+        int requestLength = request.body().length();
+        return requestLength >= 2 && requestLength <= MAX_REQUEST_BYTES && request.bodyToString().contains("\"query\"");
+    }
+
+    private void analyze(String host, String body, Map<String, String> headers) {
+        List<GripSignatureDatabase.Hit> hits = database.evaluatePassive(body, headers);
+
+        HostState state = hosts.computeIfAbsent(host, HostState::new);
+        Verdict previous;
+        Verdict updated;
+        synchronized (state) {
+            state.responsesSeen++;
+            previous = state.verdict;
+            boolean changed = false;
+            for (GripSignatureDatabase.Hit hit : hits) {
+                if (state.matched.get(hit.order)) continue;
+                state.matched.set(hit.order);
+                changed = true;
+                if (hit.feature != null) {
+                    if (!state.features.contains(hit.feature)) state.features.add(hit.feature);
+                    continue;
+                }
+                state.scores.merge(hit.engine, hit.weight, Integer::sum);
+                state.firstOrder.merge(hit.engine, hit.order, Math::min);
+                state.evidence.computeIfAbsent(hit.engine, e -> new ArrayList<>()).add(hit.evidence);
+                if (hit.version != null) state.versions.putIfAbsent(hit.engine, hit.version);
+            }
+            if (!changed && previous != null) {
+                state.verdict = withCount(previous, state.responsesSeen);
+                return;
+            }
+            updated = buildVerdict(state);
+            state.verdict = updated;
+        }
+
+        if (updated != null && eventBus != null &&
+            (previous == null || !updated.engine.equals(previous.engine) || updated.score != previous.score)) {
+            eventBus.publish(new EngineVerdictEvent(EVENT_SOURCE, host, updated.engine, updated.version,
+                updated.confidence, updated.score));
+        }
+    }
+
+    private Verdict buildVerdict(HostState state) {
+        String leader = null;
+        for (Map.Entry<String, Integer> entry : state.scores.entrySet()) {
+            if (leader == null || entry.getValue() > state.scores.get(leader) ||
+                (entry.getValue().equals(state.scores.get(leader)) &&
+                 state.firstOrder.get(entry.getKey()) < state.firstOrder.get(leader))) {
+                leader = entry.getKey();
+            }
+        }
+        if (leader == null) {
+            return null;
+        }
+        int score = state.scores.get(leader);
+        return new Verdict(state.host, leader, state.versions.get(leader), database.confidenceFor(score), score,
+            List.copyOf(state.evidence.get(leader)), List.copyOf(state.features), state.responsesSeen);
+    }
+
+    private static Verdict withCount(Verdict verdict, long responsesSeen) {
+        return new Verdict(verdict.host, verdict.engine, verdict.version, verdict.confidence, verdict.score,
+            verdict.evidence, verdict.features, responsesSeen);
+    }
+
+    private static String hostOf(HttpRequest request) {
+        if (request.httpService() != null && request.httpService().host() != null) {
+            return request.httpService().host().toLowerCase(Locale.ROOT);
+        }
+        return "";
+    }
+}
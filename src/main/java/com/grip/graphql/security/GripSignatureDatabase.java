@@ -0,0 +1,455 @@
+package com.grip.graphql.security;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.grip.graphql.schema.regex.GripKeywordMatcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class GripSignatureDatabase {
+
+    private static final String BUNDLED_PATH = "/fingerprints/signatures.json";
+    private static final String PASSIVE_PROBE = "passive";
+    private static final int[] NONE = new int[0];
+
+    public static class Probe {
+        public final String id;
+        public final String query;
+
+        Probe(String id, String query) {
+            this.id = id;
+            this.query = query;
+        }
+    }
+
+    static class JsonCheck {
+        final String[] path;
+        final String equals;
+
+        JsonCheck(String path, String equals) {
+            this.path = path.split("\\.");
+            this.equals = equals;
+        }
+
+        boolean test(JsonElement root) {
+            for (JsonElement value : resolve(root, path)) {
+                if (equals == null) {
+                    return true;
+                }
+                if (value.isJsonPrimitive() && equals.equals(value.getAsString())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static class HeaderCheck {
+        final String name;
+        final String contains;
+
+        HeaderCheck(String name, String contains) {
+            this.name = name.toLowerCase(Locale.ROOT);
+            this.contains = contains != null ? contains.toLowerCase(Locale.ROOT) : null;
+        }
+
+        boolean test(Map<String, String> headers) {
+            String value = headers.get(name);
+            return value != null && (contains == null || value.toLowerCase(Locale.ROOT).contains(contains));
+        }
+    }
+
+    static class Signature {
+        final int order;
+        final String engine;
+        final String feature;
+        final String probeId;
+        final int[] all;
+        final int[] any;
+        final int[] none;
+        final List<JsonCheck> json;
+        final List<HeaderCheck> headers;
+        final String version;
+        final String[] versionPath;
+        final int weight;
+        final String evidence;
+
+        Signature(int order, String engine, String feature, String probeId, int[] all, int[] any, int[] none,
+                  List<JsonCheck> json, List<HeaderCheck> headers, String version, String versionPath,
+                  int weight, String evidence) {
+            this.order = order;
+            this.engine = engine;
+            this.feature = feature;
+            this.probeId = probeId;
+            this.all = all;
+            this.any = any;
+            this.none = none;
+            this.json = json;
+            this.headers = headers;
+            this.version = version;
+            this.versionPath = versionPath != null ? versionPath.split("\\.") : null;
+            this.weight = weight;
+            this.evidence = evidence;
+        }
+
+        boolean needsJson() {
+            return !json.isEmpty() || versionPath != null;
+        }
+    }
+
+    public static class Hit {
+        public final String engine;
+        public final String feature;
+        public final String version;
+        public final int weight;
+        public final String evidence;
+        public final int order;
+
+        Hit(Signature signature, String version) {
+            this.engine = signature.engine;
+            this.feature = signature.feature;
+            this.version = version;
+            this.weight = signature.weight;
+            this.evidence = signature.evidence;
+            this.order = signature.order;
+        }
+    }
+
+    private static GripSignatureDatabase bundled;
+
+    private final List<Probe> probes;
+    private final Map<String, List<Signature>> signaturesByProbe;
+    private final List<Signature> passiveSignatures;
+    private final Map<String, Map<String, Integer>> weightByProbe;
+    private final GripKeywordMatcher matcher;
+    private final int highThreshold;
+    private final int mediumThreshold;
+
+    private GripSignatureDatabase(List<Probe> probes, List<Signature> signatures, List<String> needles,
+                                  int highThreshold, int mediumThreshold) {
+        this.probes = List.copyOf(probes);
+        this.signaturesByProbe = new HashMap<>();
+        this.weightByProbe = new HashMap<>();
+        this.passiveSignatures = new ArrayList<>();
+        for (Signature signature : signatures) {
+            if (PASSIVE_PROBE.equals(signature.probeId)) {
+                passiveSignatures.add(signature);
+                continue;
+            }
+            signaturesByProbe.computeIfAbsent(signature.probeId, k -> new ArrayList<>()).add(signature);
+            if (signature.engine != null) {
+                weightByProbe.computeIfAbsent(signature.probeId, k -> new HashMap<>())
+                    .merge(signature.engine, signature.weight, Integer::sum);
+            }
+        }
+        this.matcher = new GripKeywordMatcher(needles);
+        this.highThreshold = highThreshold;
+        this.mediumThreshold = mediumThreshold;
+    }
+
+    public static synchronized GripSignatureDatabase getBundled(Consumer<String> errorLogger) {
+        if (bundled == null) {
+            InputStream stream = GripSignatureDatabase.class.getResourceAsStream(BUNDLED_PATH);
+            if (stream == null) {
+                log(errorLogger, "Bundled signature database not found: " + BUNDLED_PATH);
+                return empty();
+            }
+            try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                bundled = parse(reader, BUNDLED_PATH, errorLogger);
+            } catch (IOException e) {
+                log(errorLogger, "Failed to load signature database: " + e.getMessage());
+                return empty();
+            }
+        }
+        return bundled;
+    }
+
+    public List<Probe> getProbes() {
+        return probes;
+    }
+
+    public int getHighThreshold() {
+        return highThreshold;
+    }
+
+    public String confidenceFor(int score) {
+        if (score >= highThreshold) return "High";
+        if (score >= mediumThreshold) return "Medium";
+        return score > 0 ? "Low" : "None";
+    }
+
+    public Map<String, Integer> weightsFor(String probeId) {
+        return weightByProbe.getOrDefault(probeId, Map.of());
+    }
+
+    public boolean hasPassiveSignatures() {
+        return !passiveSignatures.isEmpty();
+    }
+
+    public List<Hit> evaluate(String probeId, String body) {
+        return evaluate(signaturesByProbe.get(probeId), body, Map.of());
+    }
+
+    public List<Hit> evaluatePassive(String body, Map<String, String> headers) {
+        return evaluate(passiveSignatures, body, headers);
+    }
+
+    private List<Hit> evaluate(List<Signature> signatures, String body, Map<String, String> headers) {
+        if (signatures == null || signatures.isEmpty() || body == null) {
+            return List.of();
+        }
+
+        BitSet found = scan(body);
+        JsonElement json = null;
+        boolean jsonParsed = false;
+
+        List<Hit> hits = new ArrayList<>();
+        for (Signature signature : signatures) {
+            if (!containsAll(found, signature.all) || !containsAny(found, signature.any) ||
+                containsSome(found, signature.none) || !passesHeaders(headers, signature.headers)) {
+                continue;
+            }
+            if (signature.needsJson() && !jsonParsed) {
+                json = parseJson(body);
+                jsonParsed = true;
+            }
+            if (!signature.json.isEmpty() && (json == null || !passes(json, signature.json))) {
+                continue;
+            }
+
+            String version = signature.version;
+            if (signature.versionPath != null && json != null) {
+                for (JsonElement value : resolve(json, signature.versionPath)) {
+                    if (value.isJsonPrimitive()) {
+                        version = value.getAsString();
+                        break;
+                    }
+                }
+            }
+            hits.add(new Hit(signature, version));
+        }
+        return hits;
+    }
+
+    private BitSet scan(String body) {
+        BitSet found = new BitSet(matcher.getKeywordCount());
+        int state = matcher.initialState();
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == '\\' && i + 1 < body.length() && body.charAt(i + 1) == '"') {
+                continue;
+            }
+            state = matcher.next(state, c);
+            for (int keyword : matcher.outputs(state)) {
+                found.set(keyword);
+            }
+        }
+        return found;
+    }
+
+    private static boolean containsAll(BitSet found, int[] needles) {
+        for (int needle : needles) {
+            if (!found.get(needle)) return false;
+        }
+        return true;
+    }
+
+    private static boolean containsAny(BitSet found, int[] needles) {
+        return needles.length == 0 || containsSome(found, needles);
+    }
+
+    private static boolean containsSome(BitSet found, int[] needles) {
+        for (int needle : needles) {
+            if (found.get(needle)) return true;
+        }
+        return false;
+    }
+
+    private static boolean passes(JsonElement json, List<JsonCheck> checks) {
+        for (JsonCheck check : checks) {
+            if (!check.test(json)) return false;
+        }
+        return true;
+    }
+
+    private static boolean passesHeaders(Map<String, String> headers, List<HeaderCheck> checks) {
+        for (HeaderCheck check : checks) {
+            if (!check.test(headers)) return false;
+        }
+        return true;
+    }
+
+    private static JsonElement parseJson(String body) {
+        try {
+            return JsonParser.parseString(body);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static List<JsonElement> resolve(JsonElement root, String[] path) {
+        List<JsonElement> current = new ArrayList<>();
+        current.add(root);
+        for (String segment : path) {
+            List<JsonElement> next = new ArrayList<>();
+            for (JsonElement element : current) {
+                if ("*".equals(segment) && element.isJsonArray()) {
+                    element.getAsJsonArray().forEach(next::add);
+                } else if (element.isJsonObject() && element.getAsJsonObject().has(segment)) {
+                    JsonElement child = element.getAsJsonObject().get(segment);
+                    if (!child.isJsonNull()) next.add(child);
+                }
+            }
+            if (next.isEmpty()) {
+                return next;
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    static GripSignatureDatabase parse(Reader reader, String source, Consumer<String> errorLogger) {
+        JsonObject root;
+        try {
+            root = JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (Exception e) {
+            log(errorLogger, "Invalid signature database " + source + ": " + e.getMessage());
+            return empty();
+        }
+
+        int high = 10;
+        int medium = 5;
+        if (root.has("thresholds") && root.get("thresholds").isJsonObject()) {
+            JsonObject thresholds = root.getAsJsonObject("thresholds");
+            if (thresholds.has("high")) high = thresholds.get("high").getAsInt();
+            if (thresholds.has("medium")) medium = thresholds.get("medium").getAsInt();
+        }
+
+        Map<String, Probe> probes = new LinkedHashMap<>();
+        for (JsonElement element : array(root, "probes")) {
+            if (!element.isJsonObject()) continue;
+            JsonObject json = element.getAsJsonObject();
+            String id = getString(json, "id");
+            String query = getString(json, "query");
+            if (id == null || query == null) {
+                log(errorLogger, "Skipping probe without 'id' or 'query' in " + source);
+                continue;
+            }
+            probes.put(id, new Probe(id, query));
+        }
+
+        List<String> needles = new ArrayList<>();
+        Map<String, Integer> needleIndex = new HashMap<>();
+        List<Signature> signatures = new ArrayList<>();
+        for (JsonElement element : array(root, "signatures")) {
+            if (!element.isJsonObject()) continue;
+            JsonObject json = element.getAsJsonObject();
+            String engine = getString(json, "engine");
+            String feature = getString(json, "feature");
+            String probeId = getString(json, "probe");
+            if ((engine == null && feature == null) || probeId == null) {
+                log(errorLogger, "Skipping signature without 'engine'/'feature' or 'probe' in " + source);
+                continue;
+            }
+            if (!probes.containsKey(probeId) && !PASSIVE_PROBE.equals(probeId)) {
+                log(errorLogger, "Signature for " + (engine != null ? engine : feature) +
+                    " references unknown probe " + probeId + " in " + source);
+                continue;
+            }
+
+            List<JsonCheck> checks = new ArrayList<>();
+            for (JsonElement check : array(json, "json")) {
+                if (check.isJsonObject() && getString(check.getAsJsonObject(), "path") != null) {
+                    checks.add(new JsonCheck(getString(check.getAsJsonObject(), "path"),
+                        getString(check.getAsJsonObject(), "equals")));
+                }
+            }
+
+            List<HeaderCheck> headerChecks = new ArrayList<>();
+            for (JsonElement check : array(json, "headers")) {
+                if (check.isJsonObject() && getString(check.getAsJsonObject(), "name") != null) {
+                    headerChecks.add(new HeaderCheck(getString(check.getAsJsonObject(), "name"),
+                        getString(check.getAsJsonObject(), "contains")));
+                }
+            }
+
+            int[] all = needleIds(array(json, "all"), needles, needleIndex);
+            int[] any = needleIds(array(json, "any"), needles, needleIndex);
+            if (all.length == 0 && any.length == 0 && checks.isEmpty() && headerChecks.isEmpty()) {
+                log(errorLogger, "Signature for " + (engine != null ? engine : feature) +
+                    " in " + source + " has no needles, JSON or header checks and will never match");
+                continue;
+            }
+
+            signatures.add(new Signature(
+                signatures.size(),
+                engine,
+                engine == null ? feature : null,
+                probeId,
+                all,
+                any,
+                needleIds(array(json, "none"), needles, needleIndex),
+                checks,
+                headerChecks,
+                getString(json, "version"),
+                getString(json, "versionPath"),
+                json.has("weight") ? json.get("weight").getAsInt() : 0,
+                getString(json, "evidence")));
+        }
+
+        return new GripSignatureDatabase(new ArrayList<>(probes.values()), signatures, needles, high, medium);
+    }
+
+    private static int[] needleIds(JsonArray array, List<String> needles, Map<String, Integer> needleIndex) {
+        if (array.size() == 0) {
+            return NONE;
+        }
+        int[] ids = new int[array.size()];
+        for (int i = 0; i < ids.length; i++) {
+            String needle = array.get(i).getAsString();
+            ids[i] = needleIndex.computeIfAbsent(needle, n -> {
+                needles.add(n);
+                return needles.size() - 1;
+            });
+        }
+        return ids;
+    }
+
+    private static JsonArray array(JsonObject json, String key) {
+        if (json.has(key) && json.get(key).isJsonArray()) {
+            return json.getAsJsonArray(key);
+        }
+        return new JsonArray();
+    }
+
+    private static String getString(JsonObject json, String key) {
+        if (json.has(key) && !json.get(key).isJsonNull()) {
+            return json.get(key).getAsString();
+        }
+        return null;
+    }
+
+    private static GripSignatureDatabase empty() {
+        return new GripSignatureDatabase(List.of(), List.of(), List.of(), 10, 5);
+    }
+
+    private static void log(Consumer<String> errorLogger, String message) {
+        if (errorLogger != null) {
+            errorLogger.accept("[GraphQL Grip] " + message);
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.grip.graphql.traffic;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.core.ByteArray;
+import burp.api.montoya.http.message.HttpRequestResponse;
+import burp.api.montoya.http.message.MimeType;
+import burp.api.montoya.http.message.requests.HttpRequest;
+import burp.api.montoya.http.message.responses.HttpResponse;
+import burp.api.montoya.proxy.ProxyHttpRequestResponse;
+import com.grip.graphql.api.GripModule;
+import com.grip.graphql.event.GripEventBus;
+import com.grip.graphql.schema.regex.GripKeywordMatcher;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+public class GripBundleMiner implements GripModule {
+
+    public static final String MODULE_ID = "bundle-miner";
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_BUNDLE_BYTES = 32 * 1024 * 1024;
+    private static final int MAX_DOCUMENT_BYTES = 100 * 1024;
+    private static final int MAX_QUOTE_LOOKBACK = 16;
+    private static final String ORIGIN = "JS bundle";
+
+    private static final int TEMPLATE = 0;
+    private static final int KEYWORD = 1;
+    private static final String[] TEMPLATE_ANCHORS = {"gql`", "graphql`", "gql(`", "graphql(`"};
+    private static final String[] KEYWORD_ANCHORS = {"query ", "mutation ", "subscription ", "fragment ",
+        "query{", "mutation{", "subscription{", "query(", "mutation(", "subscription("};
+
+    private static final GripKeywordMatcher MATCHER;
+    private static final int[] ANCHOR_KIND;
+    private static final int[] ANCHOR_LENGTH;
+
+    static {
+        List<String> anchors = new ArrayList<>();
+        List<Integer> kinds = new ArrayList<>();
+        for (String anchor : TEMPLATE_ANCHORS) {
+            anchors.add(anchor);
+            kinds.add(TEMPLATE);
+        }
+        for (String anchor : KEYWORD_ANCHORS) {
+            anchors.add(anchor);
+            kinds.add(KEYWORD);
+        }
+        MATCHER = new GripKeywordMatcher(anchors);
+        ANCHOR_KIND = kinds.stream().mapToInt(Integer::intValue).toArray();
+        ANCHOR_LENGTH = anchors.stream().mapToInt(String::length).toArray();
+    }
+
+    public static class MiningResult {
+        public final int bundles;
+        public final long bytes;
+        public final int documents;
+        public final int operations;
+        public final int fieldNames;
+
+        MiningResult(int bundles, long bytes, int documents, int operations, int fieldNames) {
+            this.bundles = bundles;
+            this.bytes = bytes;
+            this.documents = documents;
+            this.operations = operations;
+            this.fieldNames = fieldNames;
+        }
+    }
+
+    private final Set<String> minedBundles = ConcurrentHashMap.newKeySet();
+    private final Set<String> documents = ConcurrentHashMap.newKeySet();
+    private final Set<String> fieldNames = ConcurrentHashMap.newKeySet();
+    private final Set<String> argumentNames = ConcurrentHashMap.newKeySet();
+    private final Set<String> operationNames = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "grip-bundle-miner");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+    private MontoyaApi api;
+    private GripOperationCatalog catalog;
+    private volatile boolean enabled = true;
+    private volatile boolean cancelled = false;
+
+    @Override
+    public String getModuleId() {
+        return MODULE_ID;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "JS Bundle Miner";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Extracts GraphQL operations embedded in JavaScript bundles already captured by Burp";
+    }
+
+    @Override
+    public void initialize(MontoyaApi api, GripEventBus eventBus) {
+        this.api = api;
+    }
+
+    @Override
+    public void shutdown() {
+        cancelled = true;
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setCatalog(GripOperationCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public Set<String> getFieldNames() {
+        return new LinkedHashSet<>(fieldNames);
+    }
+
+    public Set<String> getArgumentNames() {
+        return new LinkedHashSet<>(argumentNames);
+    }
+
+    public Set<String> getOperationNames() {
+        return new LinkedHashSet<>(operationNames);
+    }
+
+    public CompletableFuture<MiningResult> mine(Consumer<String> progress) {
+        cancelled = false;
+        return CompletableFuture.supplyAsync(() -> {
+            int bundles = 0;
+            long bytes = 0;
+            int documentsBefore = documents.size();
+            int operationsBefore = operationNames.size();
+            int fieldsBefore = fieldNames.size();
+
+            for (ProxyHttpRequestResponse item : api.proxy().history()) {
+                if (cancelled) break;
+                if (item.hasResponse() && isBundle(item.finalRequest(), item.response())) {
+                    long scanned = mineBundle(item.finalRequest(), item.response(), progress);
+                    if (scanned >= 0) {
+                        bundles++;
+                        bytes += scanned;
+                    }
+                }
+            }
+            for (HttpRequestResponse item : api.siteMap().requestResponses()) {
+                if (cancelled) break;
+                if (item.hasResponse() && isBundle(item.request(), item.response())) {
+                    long scanned = mineBundle(item.request(), item.response(), progress);
+                    if (scanned >= 0) {
+                        bundles++;
+                        bytes += scanned;
+                    }
+                }
+            }
+
+            return new MiningResult(bundles, bytes, documents.size() - documentsBefore,
+                operationNames.size() - operationsBefore, fieldNames.size() - fieldsBefore);
+        }, executor);
+    }
+
+    private long mineBundle(HttpRequest request, HttpResponse response, Consumer<String> progress) {
+        ByteArray body = response.body();
+        if (!minedBundles.add(request.url() + "#" + body.length())) {
+            return -1;
+        }
+        int found = scan(body);
+        if (progress != null && found > 0) {
+            progress.accept("Mined " + found + " GraphQL document(s) from " + request.url());
+        }
+        return body.length();
+    }
+
+    int scan(ByteArray body) {
+        int length = Math.min(body.length(), MAX_BUNDLE_BYTES);
+        int found = 0;
+        int state = MATCHER.initialState();
+        int consumedUntil = 0;
+
+        for (int offset = 0; offset < length && !cancelled; offset += CHUNK_SIZE) {
+            byte[] chunk = body.subArray(offset, Math.min(offset + CHUNK_SIZE, length)).getBytes();
+            for (int i = 0; i < chunk.length; i++) {
+                state = MATCHER.next(state, (char) (chunk[i] & 0xFF));
+                int[] matches = MATCHER.outputs(state);
+                if (matches.length == 0) continue;
+
+                int end = offset + i + 1;
+                if (end <= consumedUntil) continue;
+                for (int anchor : matches) {
+                    int[] span = ANCHOR_KIND[anchor] == TEMPLATE
+                        ? new int[]{end, '`'}
+                        : literalStart(body, end - ANCHOR_LENGTH[anchor]);
+                    if (span == null) continue;
+                    int literalEnd = extract(body, span[0], (char) span[1], length);
+                    if (literalEnd > 0) {
+                        consumedUntil = literalEnd;
+                        found++;
+                        break;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static int[] literalStart(ByteArray body, int keywordStart) {
+        int i = keywordStart - 1;
+        int limit = Math.max(0, keywordStart - MAX_QUOTE_LOOKBACK);
+        while (i >= limit) {
+            char c = (char) (body.getByte(i) & 0xFF);
+            if (c == '"' || c == '\'' || c == '`') {
+                return new int[]{i + 1, c};
+            }
+            if (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+                i--;
+            } else if ((c == 'n' || c == 't' || c == 'r') && i > limit && body.getByte(i - 1) == '\\') {
+                i -= 2;
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private int extract(ByteArray body, int start, char quote, int length) {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        int i = start;
+        int limit = Math.min(length, start + MAX_DOCUMENT_BYTES);
+        int interpolation = 0;
+        while (i < limit) {
+            byte b = body.getByte(i);
+            if (b == '\\' && i + 1 < limit) {
+                raw.write(b);
+                raw.write(body.getByte(i + 1));
+                i += 2;
+                continue;
+            }
+            if (quote == '`' && b == '$' && i + 1 < limit && body.getByte(i + 1) == '{') {
+                interpolation++;
+                i += 2;
+                continue;
+            }
+            if (interpolation > 0) {
+                if (b == '{') interpolation++;
+                if (b == '}') interpolation--;
+                i++;
+                continue;
+            }
+            if (b == quote) {
+                break;
+            }
+            raw.write(b);
+            i++;
+        }
+        if (i >= limit) {
+            return -1;
+        }
+
+        String text = unescape(new String(raw.toByteArray(), StandardCharsets.UTF_8));
+        GripDocument document;
+        try {
+            document = GripDocument.parse(text);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+        learn(document, text);
+        return i + 1;
+    }
+
+    private void learn(GripDocument document, String text) {
+        if (!documents.add(text)) {
+            return;
+        }
+        for (GripDocument.Operation operation : document.operations) {
+            if (operation.name != null) {
+                operationNames.add(operation.name);
+            }
+            collect(operation.selections);
+        }
+        for (GripDocument.Fragment fragment : document.fragments.values()) {
+            collect(fragment.selections);
+        }
+        GripOperationCatalog target = catalog;
+        if (target != null && !document.operations.isEmpty()) {
+            target.record(text, null, null, null, ORIGIN);
+        }
+    }
+
+    private void collect(List<GripDocument.Selection> selections) {
+        for (GripDocument.Selection selection : selections) {
+            if (selection.kind == GripDocument.Selection.FIELD && !selection.name.startsWith("__")) {
+                fieldNames.add(selection.name);
+                for (GripDocument.Argument argument : selection.arguments) {
+                    argumentNames.add(argument.name);
+                }
+            }
+            if (selection.selections != null) {
+                collect(selection.selections);
+            }
+        }
+    }
+
+    private static boolean isBundle(HttpRequest request, HttpResponse response) {
+        if (request == null || response == null || response.body() == null || response.body().length() < 16) {
+            return false;
+        }
+        if (response.mimeType() == MimeType.SCRIPT) {
+            return true;
+        }
+        String path = request.pathWithoutQuery();
+        if (path == null) {
+            return false;
+        }
+        path = path.toLowerCase(Locale.ROOT);
+        return path.endsWith(".js") || path.endsWith(".mjs") ||
+            (response.mimeType() == MimeType.JSON && (path.contains("persisted") || path.contains("quer")));
+    }
+
+    static String unescape(String text) {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 >= text.length()) {
+                sb.append(c);
+                continue;
+            }
+            char next = text.charAt(++i);
+            switch (next) {
+                case 'n': sb.append('\n'); break;
+                case 't': sb.append('\t'); break;
+                case 'r': sb.append('\r'); break;
+                case 'u':
+                    if (i + 4 < text.length()) {
+                        try {
+                            sb.append((char) Integer.parseInt(text.substring(i + 1, i + 5), 16));
+                            i += 4;
+                            break;
+                        } catch (NumberFormatException ignored) {
+                        }
+                    }
+                    sb.append(next);
+                    break;
+                default: sb.append(next);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,444 @@
+package com.grip.graphql.traffic;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class GripDocument {
+
+    private static final int MAX_DEPTH = 64;
+    private static final Set<String> OPERATION_TYPES = Set.of("query", "mutation", "subscription");
+
+    static final int NAME = 0;
+    static final int PUNCT = 1;
+    static final int STRING = 2;
+    static final int NUMBER = 3;
+
+    static class Operation {
+        final String type;
+        final String name;
+        final List<Variable> variables = new ArrayList<>();
+        final List<Directive> directives = new ArrayList<>();
+        final List<Selection> selections = new ArrayList<>();
+
+        Operation(String type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+    }
+
+    static class Fragment {
+        final String name;
+        final String typeCondition;
+        final List<Directive> directives = new ArrayList<>();
+        final List<Selection> selections = new ArrayList<>();
+
+        Fragment(String name, String typeCondition) {
+            this.name = name;
+            this.typeCondition = typeCondition;
+        }
+    }
+
+    static class Variable {
+        final String name;
+        final String type;
+        final List<Directive> directives = new ArrayList<>();
+
+        Variable(String name, String type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    static class Directive {
+        final String name;
+        final List<Argument> arguments = new ArrayList<>();
+
+        Directive(String name) {
+            this.name = name;
+        }
+    }
+
+    static class Argument {
+        final String name;
+        final Value value;
+
+        Argument(String name, Value value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+    static class Value {
+        static final int VARIABLE = 0;
+        static final int STRING = 1;
+        static final int INT = 2;
+        static final int FLOAT = 3;
+        static final int BOOLEAN = 4;
+        static final int NULL = 5;
+        static final int ENUM = 6;
+        static final int LIST = 7;
+        static final int OBJECT = 8;
+
+        final int kind;
+        final String text;
+
+        Value(int kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+    }
+
+    static class Selection {
+        static final int FIELD = 0;
+        static final int SPREAD = 1;
+        static final int INLINE = 2;
+
+        final int kind;
+        final String alias;
+        final String name;
+        final String typeCondition;
+        final List<Argument> arguments = new ArrayList<>();
+        final List<Directive> directives = new ArrayList<>();
+        List<Selection> selections;
+
+        Selection(int kind, String alias, String name, String typeCondition) {
+            this.kind = kind;
+            this.alias = alias;
+            this.name = name;
+            this.typeCondition = typeCondition;
+        }
+
+        String responseKey() {
+            return alias != null ? alias : name;
+        }
+    }
+
+    final List<Operation> operations = new ArrayList<>();
+    final Map<String, Fragment> fragments = new LinkedHashMap<>();
+
+    private final List<Token> tokens;
+    private int pos;
+    private int depth;
+
+    private static class Token {
+        final int kind;
+        final String text;
+
+        Token(int kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+    }
+
+    private GripDocument(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    static GripDocument parse(String source) {
+        GripDocument document = new GripDocument(tokenize(source));
+        document.document();
+        return document;
+    }
+
+    Operation getOperation(String name) {
+        if (name != null) {
+            for (Operation operation : operations) {
+                if (name.equals(operation.name)) {
+                    return operation;
+                }
+            }
+        }
+        return operations.isEmpty() ? null : operations.get(0);
+    }
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int length = source.length();
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == ',' || c == '\uFEFF') {
+                i++;
+            } else if (c == '#') {
+                while (i < length && source.charAt(i) != '\n' && source.charAt(i) != '\r') i++;
+            } else if (c == '.') {
+                if (!source.startsWith("...", i)) {
+                    throw new IllegalArgumentException("Unexpected '.' at " + i);
+                }
+                tokens.add(new Token(PUNCT, "..."));
+                i += 3;
+            } else if ("!$&():=@[]{}|".indexOf(c) >= 0) {
+                tokens.add(new Token(PUNCT, String.valueOf(c)));
+                i++;
+            } else if (c == '_' || Character.isLetter(c)) {
+                int start = i;
+                while (i < length && (source.charAt(i) == '_' || Character.isLetterOrDigit(source.charAt(i)))) i++;
+                tokens.add(new Token(NAME, source.substring(start, i)));
+            } else if (c == '-' || Character.isDigit(c)) {
+                int start = i++;
+                while (i < length && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '.' ||
+                       ((source.charAt(i) == '-' || source.charAt(i) == '+') &&
+                        (source.charAt(i - 1) == 'e' || source.charAt(i - 1) == 'E')))) i++;
+                tokens.add(new Token(NUMBER, source.substring(start, i)));
+            } else if (c == '"') {
+                if (source.startsWith("\"\"\"", i)) {
+                    int end = source.indexOf("\"\"\"", i + 3);
+                    while (end > 0 && source.charAt(end - 1) == '\\') {
+                        end = source.indexOf("\"\"\"", end + 3);
+                    }
+                    if (end < 0) throw new IllegalArgumentException("Unterminated block string");
+                    i = end + 3;
+                } else {
+                    i++;
+                    while (i < length && source.charAt(i) != '"') {
+                        if (source.charAt(i) == '\\') i++;
+                        if (i < length && (source.charAt(i) == '\n' || source.charAt(i) == '\r')) {
+                            throw new IllegalArgumentException("Unterminated string");
+                        }
+                        i++;
+                    }
+                    if (i >= length) throw new IllegalArgumentException("Unterminated string");
+                    i++;
+                }
+                tokens.add(new Token(STRING, "\"\""));
+            } else {
+                throw new IllegalArgumentException("Unexpected character '" + c + "' at " + i);
+            }
+        }
+        return tokens;
+    }
+
+    private void document() {
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("Empty document");
+        }
+        while (pos < tokens.size()) {
+            if (peek("{")) {
+                Operation operation = new Operation("query", null);
+                selectionSet(operation.selections);
+                operations.add(operation);
+            } else if (peekName() && OPERATION_TYPES.contains(current().text)) {
+                operations.add(operation());
+            } else if (peekName() && "fragment".equals(current().text)) {
+                Fragment fragment = fragment();
+                fragments.put(fragment.name, fragment);
+            } else {
+                throw new IllegalArgumentException("Expected a definition at token " + pos);
+            }
+        }
+    }
+
+    private Operation operation() {
+        String type = name();
+        Operation operation = new Operation(type, peekName() ? name() : null);
+        if (accept("(")) {
+            while (!accept(")")) {
+                expect("$");
+                String variable = name();
+                expect(":");
+                Variable definition = new Variable(variable, type());
+                if (accept("=")) {
+                    value();
+                }
+                directives(definition.directives);
+                operation.variables.add(definition);
+            }
+        }
+        directives(operation.directives);
+        selectionSet(operation.selections);
+        return operation;
+    }
+
+    private Fragment fragment() {
+        name();
+        String name = name();
+        expectName("on");
+        Fragment fragment = new Fragment(name, name());
+        directives(fragment.directives);
+        selectionSet(fragment.selections);
+        return fragment;
+    }
+
+    private String type() {
+        String type;
+        if (accept("[")) {
+            enter();
+            type = "[" + type() + "]";
+            expect("]");
+            depth--;
+        } else {
+            type = name();
+        }
+        return accept("!") ? type + "!" : type;
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Document nested too deeply");
+        }
+    }
+
+    private void selectionSet(List<Selection> selections) {
+        enter();
+        expect("{");
+        while (!accept("}")) {
+            selections.add(selection());
+        }
+        depth--;
+        if (selections.isEmpty()) {
+            throw new IllegalArgumentException("Empty selection set");
+        }
+    }
+
+    private Selection selection() {
+        if (accept("...")) {
+            if (peekName() && !"on".equals(current().text)) {
+                Selection spread = new Selection(Selection.SPREAD, null, name(), null);
+                directives(spread.directives);
+                return spread;
+            }
+            String typeCondition = null;
+            if (peekName()) {
+                name();
+                typeCondition = name();
+            }
+            Selection inline = new Selection(Selection.INLINE, null, null, typeCondition);
+            directives(inline.directives);
+            inline.selections = new ArrayList<>();
+            selectionSet(inline.selections);
+            return inline;
+        }
+
+        String alias = null;
+        String name = name();
+        if (accept(":")) {
+            alias = name;
+            name = name();
+        }
+        Selection field = new Selection(Selection.FIELD, alias, name, null);
+        if (peek("(")) {
+            arguments(field.arguments);
+        }
+        directives(field.directives);
+        if (peek("{")) {
+            field.selections = new ArrayList<>();
+            selectionSet(field.selections);
+        }
+        return field;
+    }
+
+    private void arguments(List<Argument> arguments) {
+        expect("(");
+        while (!accept(")")) {
+            String name = name();
+            expect(":");
+            arguments.add(new Argument(name, value()));
+        }
+    }
+
+    private void directives(List<Directive> directives) {
+        while (accept("@")) {
+            Directive directive = new Directive(name());
+            if (peek("(")) {
+                arguments(directive.arguments);
+            }
+            directives.add(directive);
+        }
+    }
+
+    private Value value() {
+        Token token = next();
+        if (token.kind == STRING) {
+            return new Value(Value.STRING, token.text);
+        }
+        if (token.kind == NUMBER) {
+            boolean fractional = token.text.indexOf('.') >= 0 || token.text.indexOf('e') >= 0 ||
+                token.text.indexOf('E') >= 0;
+            return new Value(fractional ? Value.FLOAT : Value.INT, token.text);
+        }
+        if (token.kind == NAME) {
+            switch (token.text) {
+                case "true":
+                case "false":
+                    return new Value(Value.BOOLEAN, token.text);
+                case "null":
+                    return new Value(Value.NULL, token.text);
+                default:
+                    return new Value(Value.ENUM, token.text);
+            }
+        }
+        if ("$".equals(token.text)) {
+            return new Value(Value.VARIABLE, name());
+        }
+        if ("[".equals(token.text)) {
+            enter();
+            while (!accept("]")) value();
+            depth--;
+            return new Value(Value.LIST, "[]");
+        }
+        if ("{".equals(token.text)) {
+            enter();
+            while (!accept("}")) {
+                name();
+                expect(":");
+                value();
+            }
+            depth--;
+            return new Value(Value.OBJECT, "{}");
+        }
+        throw new IllegalArgumentException("Unexpected '" + token.text + "' in value");
+    }
+
+    private Token current() {
+        if (pos >= tokens.size()) {
+            throw new IllegalArgumentException("Unexpected end of document");
+        }
+        return tokens.get(pos);
+    }
+
+    private Token next() {
+        Token token = current();
+        pos++;
+        return token;
+    }
+
+    private boolean peek(String punct) {
+        return pos < tokens.size() && tokens.get(pos).kind == PUNCT && tokens.get(pos).text.equals(punct);
+    }
+
+    private boolean peekName() {
+        return pos < tokens.size() && tokens.get(pos).kind == NAME;
+    }
+
+    private boolean accept(String punct) {
+        if (peek(punct)) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String punct) {
+        if (!accept(punct)) {
+            throw new IllegalArgumentException("Expected '" + punct + "' at token " + pos);
+        }
+    }
+
+    private void expectName(String name) {
+        if (!peekName() || !current().text.equals(name)) {
+            throw new IllegalArgumentException("Expected '" + name + "' at token " + pos);
+        }
+        pos++;
+    }
+
+    private String name() {
+        Token token = next();
+        if (token.kind != NAME) {
+            throw new IllegalArgumentException("Expected a name but found '" + token.text + "'");
+        }
+        return token.text;
+    }
+}
@@ -0,0 +1,252 @@
+package com.grip.graphql.traffic;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.core.Registration;
+import burp.api.montoya.core.ToolType;
+import burp.api.montoya.http.handler.HttpHandler;
+import burp.api.montoya.http.handler.HttpRequestToBeSent;
+import burp.api.montoya.http.handler.HttpResponseReceived;
+import burp.api.montoya.http.handler.RequestToBeSentAction;
+import burp.api.montoya.http.handler.ResponseReceivedAction;
+import burp.api.montoya.http.message.requests.HttpRequest;
+import com.grip.graphql.GripConfig;
+import com.grip.graphql.api.GripModule;
+import com.grip.graphql.event.GripEventBus;
+import com.grip.graphql.event.OperationCatalogedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GripOperationCatalog implements GripModule, HttpHandler {
+
+    public static final String MODULE_ID = "operation-catalog";
+
+    private static final String EVENT_SOURCE = "OperationCatalog";
+    private static final int MAX_BODY_BYTES = 256 * 1024;
+    private static final int MAX_DOCUMENT_CHARS = 100 * 1024;
+    private static final int MAX_ENDPOINTS_PER_OPERATION = 32;
+    private static final int DOCUMENT_CACHE_SIZE = 4096;
+    private static final int QUEUE_CAPACITY = 512;
+    private static final String UNPARSEABLE = "";
+
+    public static class Operation {
+        public final String signature;
+        public final String canonical;
+        public final String operationType;
+        public final String operationName;
+        public final String document;
+        public final String source;
+        public final long firstSeen;
+        private final LongAdder hits = new LongAdder();
+        private final Set<String> endpoints = ConcurrentHashMap.newKeySet();
+        private volatile HttpRequest sample;
+        private volatile long lastSeen;
+
+        Operation(GripOperationSignature signature, String operationName, String document, String source) {
+            this.signature = signature.hash;
+            this.canonical = signature.canonical;
+            this.operationType = signature.operationType;
+            this.operationName = operationName != null ? operationName : signature.operationName;
+            this.document = document;
+            this.source = source;
+            this.firstSeen = System.currentTimeMillis();
+            this.lastSeen = firstSeen;
+        }
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getLastSeen() {
+            return lastSeen;
+        }
+
+        public List<String> getEndpoints() {
+            return new ArrayList<>(endpoints);
+        }
+
+        public HttpRequest getSampleRequest() {
+            return sample;
+        }
+
+        public String getDisplayName() {
+            return operationName != null ? operationName : "(anonymous)";
+        }
+    }
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private final Map<String, String> documentSignatures = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private MontoyaApi api;
+    private GripEventBus eventBus;
+    private ThreadPoolExecutor executor;
+    private Registration registration;
+    private volatile int maxOperations = 5000;
+    private volatile boolean enabled = true;
+
+    @Override
+    public String getModuleId() {
+        return MODULE_ID;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "Operation Catalog";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Catalogs distinct GraphQL operations seen in proxy and Repeater traffic";
+    }
+
+    @Override
+    public void initialize(MontoyaApi api, GripEventBus eventBus) {
+        this.api = api;
+        this.eventBus = eventBus;
+
+        GripConfig config = GripConfig.getInstance();
+        if (config != null) {
+            this.enabled = Boolean.TRUE.equals(config.getBoolean(GripConfig.CATALOG_ENABLED));
+            Integer max = config.getInteger(GripConfig.CATALOG_MAX_OPERATIONS);
+            if (max != null && max > 0) {
+                this.maxOperations = max;
+            }
+        }
+
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+                Thread t = new Thread(r, "grip-operation-catalog");
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+        this.registration = api.http().registerHttpHandler(this);
+    }
+
+    @Override
+    public void shutdown() {
+        if (registration != null && registration.isRegistered()) {
+            registration.deregister();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public RequestToBeSentAction handleHttpRequestToBeSent(HttpRequestToBeSent request) {
+        try {
+            if (enabled && request.toolSource().isFromTool(ToolType.PROXY, ToolType.REPEATER) && GripTrafficRequests.isCandidate(request, MAX_BODY_BYTES)) {
+                String origin = request.toolSource().toolType() == ToolType.PROXY ? "Proxy" : "Repeater";
+                executor.execute(() -> index(request, origin));
+            }
+        } catch (Exception e) {
+            api.logging().logToError("[GraphQL Grip] Operation catalog failed: " + e.getMessage());
+        }
+        return RequestToBeSentAction.continueWith(request);
+    }
+
+    @Override
+    public ResponseReceivedAction handleHttpResponseReceived(HttpResponseReceived response) {
+        return ResponseReceivedAction.continueWith(response);
+    }
+
+    public List<Operation> getOperations() {
+        return new ArrayList<>(operations.values());
+    }
+
+    public Operation getOperation(String signature) {
+        return signature != null ? operations.get(signature) : null;
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public void clear() {
+        operations.clear();
+        documentSignatures.clear();
+        version.incrementAndGet();
+    }
+
+    public Operation record(String document, String operationName, String endpoint, HttpRequest sample, String origin) {
+        if (document == null || document.length() > MAX_DOCUMENT_CHARS) {
+            return null;
+        }
+
+        String hash = documentSignatures.get(document);
+        GripOperationSignature signature = null;
+        if (hash == null) {
+            signature = GripOperationSignature.of(document);
+            hash = signature != null ? signature.hash : UNPARSEABLE;
+            if (documentSignatures.size() >= DOCUMENT_CACHE_SIZE) {
+                documentSignatures.clear();
+            }
+            documentSignatures.put(document, hash);
+        }
+        if (hash.isEmpty()) {
+            return null;
+        }
+
+        Operation operation = operations.get(hash);
+        if (operation == null) {
+            if (operations.size() >= maxOperations) {
+                return null;
+            }
+            if (signature == null) {
+                signature = GripOperationSignature.of(document);
+            }
+            Operation created = new Operation(signature, operationName, document, origin);
+            operation = operations.putIfAbsent(hash, created);
+            if (operation == null) {
+                operation = created;
+                if (eventBus != null) {
+                    eventBus.publish(new OperationCatalogedEvent(EVENT_SOURCE, hash, created.operationType,
+                        created.operationName, endpoint));
+                }
+            }
+        }
+
+        operation.hits.increment();
+        operation.lastSeen = System.currentTimeMillis();
+        if (endpoint != null && operation.endpoints.size() < MAX_ENDPOINTS_PER_OPERATION) {
+            operation.endpoints.add(endpoint);
+        }
+        if (sample != null) {
+            operation.sample = sample;
+        }
+        version.incrementAndGet();
+        return operation;
+    }
+
+    private void index(HttpRequest request, String origin) {
+        String endpoint = GripTrafficRequests.endpointOf(request);
+        for (GripTrafficRequests.Payload payload : GripTrafficRequests.extract(request)) {
+            if (payload != null) {
+                record(payload.query, payload.operationName, endpoint, request, origin);
+            }
+        }
+    }
+}
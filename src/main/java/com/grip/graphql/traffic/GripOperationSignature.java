@@ -0,0 +1,146 @@
+package com.grip.graphql.traffic;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class GripOperationSignature {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public final String hash;
+    public final String canonical;
+    public final String operationType;
+    public final String operationName;
+
+    private GripOperationSignature(String hash, String canonical, String operationType, String operationName) {
+        this.hash = hash;
+        this.canonical = canonical;
+        this.operationType = operationType;
+        this.operationName = operationName;
+    }
+
+    public static GripOperationSignature of(String document) {
+        if (document == null || document.isBlank()) {
+            return null;
+        }
+        try {
+            return of(GripDocument.parse(document));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static GripOperationSignature of(GripDocument document) {
+        String canonical = canonical(document);
+        GripDocument.Operation first = document.operations.isEmpty() ? null : document.operations.get(0);
+        return new GripOperationSignature(sha256(canonical), canonical,
+            first != null ? first.type : "fragment", first != null ? first.name : null);
+    }
+
+    static String canonical(GripDocument document) {
+        List<String> definitions = new ArrayList<>();
+        for (GripDocument.Operation operation : document.operations) {
+            StringBuilder sb = new StringBuilder(operation.type);
+            if (operation.name != null) {
+                sb.append(' ').append(operation.name);
+            }
+            if (!operation.variables.isEmpty()) {
+                List<String> variables = new ArrayList<>();
+                for (GripDocument.Variable variable : operation.variables) {
+                    variables.add("$" + variable.name + ":" + variable.type + directives(variable.directives));
+                }
+                Collections.sort(variables);
+                sb.append('(').append(String.join(",", variables)).append(')');
+            }
+            sb.append(directives(operation.directives)).append(selectionSet(operation.selections));
+            definitions.add(sb.toString());
+        }
+
+        List<String> fragments = new ArrayList<>();
+        for (GripDocument.Fragment fragment : document.fragments.values()) {
+            fragments.add("fragment " + fragment.name + " on " + fragment.typeCondition +
+                directives(fragment.directives) + selectionSet(fragment.selections));
+        }
+        Collections.sort(fragments);
+        definitions.addAll(fragments);
+        return String.join(" ", definitions);
+    }
+
+    private static String selectionSet(List<GripDocument.Selection> selections) {
+        List<String> rendered = new ArrayList<>();
+        for (GripDocument.Selection selection : selections) {
+            rendered.add(selection(selection));
+        }
+        Collections.sort(rendered);
+        return "{" + String.join(" ", rendered) + "}";
+    }
+
+    private static String selection(GripDocument.Selection selection) {
+        switch (selection.kind) {
+            case GripDocument.Selection.SPREAD:
+                return "..." + selection.name + directives(selection.directives);
+            case GripDocument.Selection.INLINE:
+                return "..." + (selection.typeCondition != null ? " on " + selection.typeCondition : "") +
+                    directives(selection.directives) + selectionSet(selection.selections);
+            default:
+                StringBuilder sb = new StringBuilder(selection.name).append(arguments(selection.arguments))
+                    .append(directives(selection.directives));
+                if (selection.selections != null) {
+                    sb.append(selectionSet(selection.selections));
+                }
+                return sb.toString();
+        }
+    }
+
+    private static String arguments(List<GripDocument.Argument> arguments) {
+        if (arguments.isEmpty()) {
+            return "";
+        }
+        List<String> rendered = new ArrayList<>();
+        for (GripDocument.Argument argument : arguments) {
+            rendered.add(argument.name + ":" + value(argument.value));
+        }
+        Collections.sort(rendered);
+        return "(" + String.join(",", rendered) + ")";
+    }
+
+    private static String directives(List<GripDocument.Directive> directives) {
+        StringBuilder sb = new StringBuilder();
+        for (GripDocument.Directive directive : directives) {
+            sb.append('@').append(directive.name).append(arguments(directive.arguments));
+        }
+        return sb.toString();
+    }
+
+    private static String value(GripDocument.Value value) {
+        switch (value.kind) {
+            case GripDocument.Value.VARIABLE:
+                return "$" + value.text;
+            case GripDocument.Value.STRING:
+                return "\"\"";
+            case GripDocument.Value.INT:
+            case GripDocument.Value.FLOAT:
+                return "0";
+            default:
+                return value.text;
+        }
+    }
+
+    private static String sha256(String canonical) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[32];
+            for (int i = 0; i < 16; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
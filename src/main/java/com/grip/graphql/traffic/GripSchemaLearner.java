@@ -0,0 +1,489 @@
+package com.grip.graphql.traffic;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.core.Registration;
+import burp.api.montoya.core.ToolType;
+import burp.api.montoya.http.handler.HttpHandler;
+import burp.api.montoya.http.handler.HttpRequestToBeSent;
+import burp.api.montoya.http.handler.HttpResponseReceived;
+import burp.api.montoya.http.handler.RequestToBeSentAction;
+import burp.api.montoya.http.handler.ResponseReceivedAction;
+import burp.api.montoya.http.message.requests.HttpRequest;
+import burp.api.montoya.http.message.responses.HttpResponse;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.grip.graphql.GripConfig;
+import com.grip.graphql.api.GripModule;
+import com.grip.graphql.event.GripEventBus;
+import com.grip.graphql.model.schema.GripArgument;
+import com.grip.graphql.model.schema.GripField;
+import com.grip.graphql.model.schema.GripSchema;
+import com.grip.graphql.model.schema.GripType;
+import com.grip.graphql.model.schema.GripTypeKind;
+import com.grip.graphql.model.schema.GripTypeRef;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class GripSchemaLearner implements GripModule, HttpHandler {
+
+    public static final String MODULE_ID = "schema-learner";
+
+    private static final int MAX_REQUEST_BYTES = 256 * 1024;
+    private static final int MAX_RESPONSE_BYTES = 2 * 1024 * 1024;
+    private static final int MAX_DEPTH = 32;
+    private static final int MAX_LIST_ITEMS = 25;
+    private static final int MAX_TYPES = 2000;
+    private static final int QUEUE_CAPACITY = 256;
+    private static final String UNKNOWN = "Unknown";
+    private static final Map<String, String> ROOT_TYPES = Map.of(
+        "query", "Query", "mutation", "Mutation", "subscription", "Subscription");
+
+    private static class LearnedField {
+        final String name;
+        String typeName;
+        boolean list;
+        boolean scalar;
+        final Map<String, String> arguments = new LinkedHashMap<>();
+
+        LearnedField(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class LearnedType {
+        final String name;
+        boolean placeholder;
+        final Map<String, LearnedField> fields = new LinkedHashMap<>();
+
+        LearnedType(String name, boolean placeholder) {
+            this.name = name;
+            this.placeholder = placeholder;
+        }
+    }
+
+    private static class EndpointModel {
+        final String endpoint;
+        final Map<String, LearnedType> types = new LinkedHashMap<>();
+        long responses;
+
+        EndpointModel(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    private final Map<String, EndpointModel> models = new ConcurrentHashMap<>();
+    private MontoyaApi api;
+    private ThreadPoolExecutor executor;
+    private Registration registration;
+    private volatile boolean enabled = true;
+
+    @Override
+    public String getModuleId() {
+        return MODULE_ID;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "Passive Schema Learning";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Infers a partial schema from GraphQL operations and responses seen in traffic";
+    }
+
+    @Override
+    public void initialize(MontoyaApi api, GripEventBus eventBus) {
+        this.api = api;
+
+        GripConfig config = GripConfig.getInstance();
+        this.enabled = config == null || Boolean.TRUE.equals(config.getBoolean(GripConfig.SCHEMA_LEARN_PASSIVE));
+
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+                Thread t = new Thread(r, "grip-schema-learner");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+        this.registration = api.http().registerHttpHandler(this);
+    }
+
+    @Override
+    public void shutdown() {
+        if (registration != null && registration.isRegistered()) {
+            registration.deregister();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public RequestToBeSentAction handleHttpRequestToBeSent(HttpRequestToBeSent request) {
+        return RequestToBeSentAction.continueWith(request);
+    }
+
+    @Override
+    public ResponseReceivedAction handleHttpResponseReceived(HttpResponseReceived response) {
+        try {
+            if (enabled && response.toolSource().isFromTool(ToolType.PROXY, ToolType.REPEATER) && isCandidate(response)) {
+                HttpRequest request = response.initiatingRequest();
+                executor.execute(() -> learn(request, response));
+            }
+        } catch (Exception e) {
+            api.logging().logToError("[GraphQL Grip] Schema learning failed: " + e.getMessage());
+        }
+        return ResponseReceivedAction.continueWith(response);
+    }
+
+    public GripSchema getSchema(String endpoint) {
+        EndpointModel model = endpoint != null ? models.get(normalize(endpoint)) : null;
+        if (model == null) {
+            return null;
+        }
+        synchronized (model) {
+            return model.types.isEmpty() ? null : snapshot(model);
+        }
+    }
+
+    public List<String> getEndpoints() {
+        return new ArrayList<>(models.keySet());
+    }
+
+    public long getResponseCount(String endpoint) {
+        EndpointModel model = endpoint != null ? models.get(normalize(endpoint)) : null;
+        if (model == null) return 0;
+        synchronized (model) {
+            return model.responses;
+        }
+    }
+
+    public void clear() {
+        models.clear();
+    }
+
+    private boolean isCandidate(HttpResponseReceived response) {
+        HttpRequest request = response.initiatingRequest();
+        if (request == null || response.body() == null) {
+            return false;
+        }
+        int length = response.body().length();
+        if (length < 2 || length > MAX_RESPONSE_BYTES) {
+            return false;
+        }
+        byte first = response.body().getByte(0);
+        return (first == '{' || first == '[') && GripTrafficRequests.isCandidate(request, MAX_REQUEST_BYTES);
+    }
+
+    private void learn(HttpRequest request, HttpResponse response) {
+        String endpoint = GripTrafficRequests.endpointOf(request);
+        List<GripTrafficRequests.Payload> payloads = GripTrafficRequests.extract(request);
+        if (endpoint != null && !payloads.isEmpty()) {
+            learn(endpoint, payloads, response.bodyToString());
+        }
+    }
+
+    void learn(String endpoint, List<GripTrafficRequests.Payload> payloads, String responseBody) {
+        JsonElement root;
+        try {
+            root = JsonParser.parseString(responseBody);
+        } catch (Exception e) {
+            return;
+        }
+
+        List<JsonObject> results = new ArrayList<>();
+        if (root.isJsonArray()) {
+            for (JsonElement element : root.getAsJsonArray()) {
+                results.add(element.isJsonObject() ? element.getAsJsonObject() : null);
+            }
+        } else if (root.isJsonObject()) {
+            results.add(root.getAsJsonObject());
+        }
+
+        EndpointModel model = models.computeIfAbsent(normalize(endpoint), EndpointModel::new);
+        for (int i = 0; i < payloads.size() && i < results.size(); i++) {
+            GripTrafficRequests.Payload payload = payloads.get(i);
+            JsonObject result = results.get(i);
+            if (payload == null || result == null || !result.has("data") || !result.get("data").isJsonObject()) {
+                continue;
+            }
+            GripDocument document;
+            try {
+                document = GripDocument.parse(payload.query);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            GripDocument.Operation operation = document.getOperation(payload.operationName);
+            if (operation == null) {
+                continue;
+            }
+
+            Map<String, String> variableTypes = new HashMap<>();
+            for (GripDocument.Variable variable : operation.variables) {
+                variableTypes.put(variable.name, variable.type);
+            }
+            synchronized (model) {
+                model.responses++;
+                walk(model, document, variableTypes, ROOT_TYPES.get(operation.type), operation.selections,
+                    result.getAsJsonObject("data"), 0);
+            }
+        }
+    }
+
+    private void walk(EndpointModel model, GripDocument document, Map<String, String> variableTypes,
+                      String typeName, List<GripDocument.Selection> selections, JsonObject object, int depth) {
+        if (depth > MAX_DEPTH) {
+            return;
+        }
+        LearnedType type = model.types.get(typeName);
+        if (type == null && (type = type(model, typeName, false)) == null) {
+            return;
+        }
+
+        for (GripDocument.Selection selection : selections) {
+            if (selection.kind == GripDocument.Selection.SPREAD) {
+                GripDocument.Fragment fragment = document.fragments.get(selection.name);
+                if (fragment != null) {
+                    walkFragment(model, document, variableTypes, typeName, fragment.typeCondition,
+                        fragment.selections, object, depth);
+                }
+                continue;
+            }
+            if (selection.kind == GripDocument.Selection.INLINE) {
+                walkFragment(model, document, variableTypes, typeName, selection.typeCondition,
+                    selection.selections, object, depth);
+                continue;
+            }
+            if (selection.name.startsWith("__")) {
+                continue;
+            }
+            JsonElement value = object.get(selection.responseKey());
+            if (value == null) {
+                continue;
+            }
+
+            LearnedField field = type.fields.computeIfAbsent(selection.name, LearnedField::new);
+            for (GripDocument.Argument argument : selection.arguments) {
+                String argumentType = argumentType(argument.value, variableTypes);
+                String known = field.arguments.get(argument.name);
+                if (known == null) {
+                    field.arguments.put(argument.name, argumentType);
+                }
+            }
+            learnValue(model, document, variableTypes, field, selection, value, depth);
+        }
+    }
+
+    private void walkFragment(EndpointModel model, GripDocument document, Map<String, String> variableTypes,
+                              String typeName, String condition, List<GripDocument.Selection> selections,
+                              JsonObject object, int depth) {
+        String target = null;
+        if (condition == null || condition.equals(typeName)) {
+            target = typeName;
+        } else if (condition.equals(typenameOf(object))) {
+            target = condition;
+        } else {
+            for (GripDocument.Selection selection : selections) {
+                if (selection.kind == GripDocument.Selection.FIELD && object.has(selection.responseKey())) {
+                    target = typeName;
+                    break;
+                }
+            }
+        }
+        if (target != null) {
+            walk(model, document, variableTypes, target, selections, object, depth + 1);
+        }
+    }
+
+    private void learnValue(EndpointModel model, GripDocument document, Map<String, String> variableTypes,
+                            LearnedField field, GripDocument.Selection selection, JsonElement value, int depth) {
+        if (value.isJsonNull()) {
+            return;
+        }
+        if (value.isJsonArray()) {
+            field.list = true;
+            JsonArray items = value.getAsJsonArray();
+            for (int i = 0; i < items.size() && i < MAX_LIST_ITEMS; i++) {
+                JsonElement item = items.get(i);
+                if (!item.isJsonArray()) {
+                    learnValue(model, document, variableTypes, field, selection, item, depth);
+                }
+            }
+            return;
+        }
+
+        if (value.isJsonPrimitive()) {
+            if (selection.selections == null) {
+                field.scalar = true;
+                field.typeName = widen(field.typeName, scalarType(field.name, value.getAsJsonPrimitive()));
+            }
+            return;
+        }
+
+        if (!value.isJsonObject() || selection.selections == null) {
+            return;
+        }
+        JsonObject object = value.getAsJsonObject();
+        String concrete = typenameOf(object);
+        if (concrete != null) {
+            type(model, concrete, false);
+            LearnedType current = field.typeName != null ? model.types.get(field.typeName) : null;
+            if (field.typeName == null || (current != null && current.placeholder)) {
+                if (current != null && !current.name.equals(concrete)) {
+                    adopt(model, current, concrete);
+                }
+                field.typeName = concrete;
+            }
+        } else if (field.typeName == null) {
+            field.typeName = placeholderName(field.name);
+            type(model, field.typeName, true);
+        }
+        walk(model, document, variableTypes, concrete != null ? concrete : field.typeName,
+            selection.selections, object, depth + 1);
+    }
+
+    private LearnedType type(EndpointModel model, String name, boolean placeholder) {
+        LearnedType type = model.types.get(name);
+        if (type == null) {
+            if (model.types.size() >= MAX_TYPES) {
+                return null;
+            }
+            type = new LearnedType(name, placeholder);
+            model.types.put(name, type);
+        } else if (!placeholder && type.placeholder) {
+            type.placeholder = false;
+        }
+        return type;
+    }
+
+    private void adopt(EndpointModel model, LearnedType placeholder, String concrete) {
+        LearnedType target = type(model, concrete, false);
+        if (target == null) {
+            return;
+        }
+        for (LearnedField field : placeholder.fields.values()) {
+            target.fields.putIfAbsent(field.name, field);
+        }
+    }
+
+    private GripSchema snapshot(EndpointModel model) {
+        Set<String> referenced = new HashSet<>(ROOT_TYPES.values());
+        for (LearnedType type : model.types.values()) {
+            for (LearnedField field : type.fields.values()) {
+                if (field.typeName != null) referenced.add(field.typeName);
+            }
+        }
+
+        GripSchema schema = new GripSchema();
+        schema.setSourceEndpoint(model.endpoint);
+        schema.setReconstructed(true);
+        schema.setPartial(true);
+
+        Set<String> scalars = new HashSet<>();
+        for (LearnedType learned : model.types.values()) {
+            if (!referenced.contains(learned.name) || learned.fields.isEmpty()) {
+                continue;
+            }
+            GripType type = new GripType(learned.name, GripTypeKind.OBJECT);
+            type.setDescription(learned.placeholder
+                ? "Inferred from observed traffic; real type name not seen (no __typename)"
+                : "Inferred from observed traffic");
+            for (LearnedField learnedField : learned.fields.values()) {
+                GripTypeRef ref;
+                if (learnedField.typeName == null) {
+                    ref = GripTypeRef.simple(UNKNOWN);
+                } else {
+                    GripTypeKind kind = learnedField.scalar ? GripTypeKind.SCALAR : GripTypeKind.OBJECT;
+                    ref = new GripTypeRef(learnedField.typeName, kind, learnedField.list, false, false);
+                    if (learnedField.scalar) scalars.add(learnedField.typeName);
+                }
+                GripField field = new GripField(learnedField.name, ref);
+                for (Map.Entry<String, String> argument : learnedField.arguments.entrySet()) {
+                    GripTypeRef argumentType = argument.getValue() != null
+                        ? GripTypeRef.fromString(argument.getValue()) : null;
+                    field.addArgument(new GripArgument(argument.getKey(),
+                        argumentType != null ? argumentType : GripTypeRef.simple(UNKNOWN)));
+                }
+                type.addField(field);
+            }
+            schema.addType(type);
+        }
+
+        for (String scalar : scalars) {
+            if (!schema.hasType(scalar)) {
+                schema.addType(new GripType(scalar, GripTypeKind.SCALAR));
+            }
+        }
+        if (schema.hasType("Query")) schema.setQueryTypeName("Query");
+        if (schema.hasType("Mutation")) schema.setMutationTypeName("Mutation");
+        if (schema.hasType("Subscription")) schema.setSubscriptionTypeName("Subscription");
+        return schema;
+    }
+
+    private static String argumentType(GripDocument.Value value, Map<String, String> variableTypes) {
+        switch (value.kind) {
+            case GripDocument.Value.VARIABLE: return variableTypes.get(value.text);
+            case GripDocument.Value.STRING: return "String";
+            case GripDocument.Value.INT: return "Int";
+            case GripDocument.Value.FLOAT: return "Float";
+            case GripDocument.Value.BOOLEAN: return "Boolean";
+            default: return null;
+        }
+    }
+
+    private static String scalarType(String fieldName, JsonPrimitive value) {
+        if (value.isBoolean()) {
+            return "Boolean";
+        }
+        if (value.isNumber()) {
+            String text = value.getAsString();
+            return text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0 ? "Float" : "Int";
+        }
+        return fieldName.equals("id") || fieldName.endsWith("Id") || fieldName.endsWith("ID") ? "ID" : "String";
+    }
+
+    private static String widen(String known, String observed) {
+        if (known == null) return observed;
+        if (known.equals("Int") && observed.equals("Float")) return "Float";
+        return known;
+    }
+
+    private static String typenameOf(JsonObject object) {
+        JsonElement typename = object.get("__typename");
+        return typename != null && typename.isJsonPrimitive() ? typename.getAsString() : null;
+    }
+
+    private static String placeholderName(String fieldName) {
+        return Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+    }
+
+    private static String normalize(String endpoint) {
+        int query = endpoint.indexOf('?');
+        return query >= 0 ? endpoint.substring(0, query) : endpoint;
+    }
+}
@@ -0,0 +1,124 @@
+package com.grip.graphql.traffic;
+
+import burp.api.montoya.http.message.params.HttpParameterType;
+import burp.api.montoya.http.message.requests.HttpRequest;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+final class GripTrafficRequests {
+
+    static class Payload {
+        final String query;
+        final String operationName;
+        final JsonObject variables;
+
+        Payload(String query, String operationName, JsonObject variables) {
+            this.query = query;
+            this.operationName = operationName;
+            this.variables = variables;
+        }
+    }
+
+    private GripTrafficRequests() {
+    }
+
+    static boolean isCandidate(HttpRequest request, int maxBodyBytes) {
+        String method = request.method();
+        if ("GET".equalsIgnoreCase(method)) {
+            String path = request.path();
+            return path != null && path.contains("query=");
+        }
+        if (!"POST".equalsIgnoreCase(method) || request.body() == null) {
+            return false;
+        }
+        int length = request.body().length();
+        if (length < 2 || length > maxBodyBytes) {
+            return false;
+        }
+        String contentType = request.headerValue("Content-Type");
+        if (contentType == null) {
+            return false;
+        }
+        contentType = contentType.toLowerCase(Locale.ROOT);
+        return contentType.contains("application/graphql") ||
+            (contentType.contains("json") && (request.body().getByte(0) == '{' || request.body().getByte(0) == '['));
+    }
+
+    static List<Payload> extract(HttpRequest request) {
+        if ("GET".equalsIgnoreCase(request.method())) {
+            String query = request.parameterValue("query", HttpParameterType.URL);
+            if (query == null) {
+                return Collections.emptyList();
+            }
+            String operationName = request.parameterValue("operationName", HttpParameterType.URL);
+            String variables = request.parameterValue("variables", HttpParameterType.URL);
+            return List.of(new Payload(decode(query), operationName != null ? decode(operationName) : null,
+                variables != null ? parseObject(decode(variables)) : null));
+        }
+
+        String body = request.bodyToString();
+        String contentType = request.headerValue("Content-Type");
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("application/graphql")) {
+            return List.of(new Payload(body, null, null));
+        }
+
+        JsonElement root;
+        try {
+            root = JsonParser.parseString(body);
+        } catch (Exception e) {
+            return Collections.emptyList();
+        }
+        List<Payload> payloads = new ArrayList<>();
+        if (root.isJsonArray()) {
+            for (JsonElement element : root.getAsJsonArray()) {
+                payloads.add(element.isJsonObject() ? payload(element.getAsJsonObject()) : null);
+            }
+        } else if (root.isJsonObject()) {
+            payloads.add(payload(root.getAsJsonObject()));
+        }
+        return payloads;
+    }
+
+    static String endpointOf(HttpRequest request) {
+        String url = request.url();
+        if (url == null) return null;
+        int query = url.indexOf('?');
+        return query >= 0 ? url.substring(0, query) : url;
+    }
+
+    private static Payload payload(JsonObject json) {
+        JsonElement query = json.get("query");
+        if (query == null || !query.isJsonPrimitive()) {
+            return null;
+        }
+        JsonElement name = json.get("operationName");
+        JsonElement variables = json.get("variables");
+        return new Payload(query.getAsString(), name != null && name.isJsonPrimitive() ? name.getAsString() : null,
+            variables != null && variables.isJsonObject() ? variables.getAsJsonObject() : null);
+    }
+
+    private static JsonObject parseObject(String json) {
+        try {
+            JsonElement element = JsonParser.parseString(json);
+            return element.isJsonObject() ? element.getAsJsonObject() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+}
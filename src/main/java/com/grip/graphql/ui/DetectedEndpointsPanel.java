@@ -0,0 +1,125 @@
+package com.grip.graphql.ui;
+
+import com.grip.graphql.GripCore;
+import com.grip.graphql.discovery.GripEndpointIndexer;
+import com.grip.graphql.event.EndpointDetectedEvent;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.text.SimpleDateFormat;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class DetectedEndpointsPanel extends JPanel {
+
+    private static final String[] COLUMNS = {"Endpoint", "Method", "Evidence", "Source", "First Seen"};
+
+    private final GripCore core;
+    private final GripEndpointIndexer indexer;
+    private final DefaultTableModel model;
+    private final Set<String> shown = new HashSet<>();
+    private final JLabel statusLabel;
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+
+    @SuppressWarnings("this-escape")
+    public DetectedEndpointsPanel(GripCore core) {
+        super(new BorderLayout(5, 5));
+        this.core = core;
+        this.indexer = core.getModule(GripEndpointIndexer.class);
+        GripTheme theme = core.getTheme();
+        setBorder(BorderFactory.createEmptyBorder(0, 10, 10, 10));
+
+        model = new DefaultTableModel(COLUMNS, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+
+        JButton scanBtn = new JButton("Scan Proxy History");
+        scanBtn.addActionListener(e -> scanHistory());
+
+        JButton clearBtn = new JButton("Clear");
+        clearBtn.addActionListener(e -> clear());
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(theme.getNormalFont());
+        statusLabel.setForeground(theme.getSecondaryText());
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT, GripTheme.SPACING_SM, GripTheme.SPACING_SM));
+        buttons.add(scanBtn);
+        buttons.add(clearBtn);
+        buttons.add(Box.createHorizontalStrut(GripTheme.SPACING_MD));
+        buttons.add(statusLabel);
+
+        JTable table = new JTable(model);
+        table.setFont(theme.getNormalFont());
+        table.setRowHeight(22);
+        table.setAutoCreateRowSorter(true);
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    int row = table.getSelectedRow();
+                    if (row >= 0) {
+                        String endpoint = (String) model.getValueAt(table.convertRowIndexToModel(row), 0);
+                        core.getMainTab().setTargetEndpoint(endpoint);
+                        core.getMainTab().selectTab(0);
+                    }
+                }
+            }
+        });
+
+        JScrollPane scroll = new JScrollPane(table);
+        scroll.setBorder(theme.createTitledBorder("Passively Detected Endpoints (double-click to load in Scanner)"));
+
+        add(buttons, BorderLayout.NORTH);
+        add(scroll, BorderLayout.CENTER);
+
+        if (indexer == null) {
+            scanBtn.setEnabled(false);
+            statusLabel.setText("Endpoint auto-detection is not available");
+        } else {
+            List<GripEndpointIndexer.DetectedEndpoint> existing = indexer.getEndpoints();
+            existing.sort(Comparator.comparingLong(endpoint -> endpoint.firstSeen));
+            for (GripEndpointIndexer.DetectedEndpoint endpoint : existing) {
+                addRow(endpoint.url, endpoint.method, endpoint.evidence, endpoint.origin, endpoint.firstSeen);
+            }
+            core.getEventBus().subscribe(EndpointDetectedEvent.class, event -> SwingUtilities.invokeLater(() ->
+                addRow(event.getUrl(), event.getMethod(), event.getEvidence(), event.getOrigin(), event.getTimestamp())));
+        }
+    }
+
+    private void addRow(String url, String method, String evidence, String origin, long timestamp) {
+        if (!shown.add(url)) {
+            return;
+        }
+        model.addRow(new Object[]{url, method, evidence, origin, timeFormat.format(new Date(timestamp))});
+        statusLabel.setText(model.getRowCount() + " endpoint(s) detected");
+    }
+
+    private void scanHistory() {
+        if (!indexer.isEnabled()) {
+            statusLabel.setText("Endpoint discovery is disabled (discovery.enabled)");
+        } else if (indexer.scanHistory()) {
+            statusLabel.setText("Indexing proxy history from item " + indexer.getHistoryCursor() + "...");
+        } else {
+            statusLabel.setText("History scan already running");
+        }
+    }
+
+    private void clear() {
+        model.setRowCount(0);
+        shown.clear();
+        if (indexer != null) {
+            indexer.clear();
+        }
+        statusLabel.setText("Cleared; the next history scan starts from the beginning");
+    }
+}
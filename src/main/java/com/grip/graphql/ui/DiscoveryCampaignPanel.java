@@ -0,0 +1,255 @@
+package com.grip.graphql.ui;
+
+import com.grip.graphql.GripConfig;
+import com.grip.graphql.GripCore;
+import com.grip.graphql.discovery.GripDiscoveryCampaign;
+import com.grip.graphql.discovery.GripEndpointDiscoverer;
+import burp.api.montoya.http.message.HttpRequestResponse;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class DiscoveryCampaignPanel extends JPanel {
+
+    private static final String[] COLUMNS = {"Host", "Endpoint", "Evidence", "Status"};
+
+    private final GripCore core;
+    private final GripTheme theme;
+    private final JTextArea hostsArea;
+    private final DefaultTableModel resultsModel;
+    private final JLabel progressLabel;
+    private final JButton startBtn;
+    private final JButton cancelBtn;
+    private final JButton siteMapBtn;
+    private volatile GripDiscoveryCampaign campaign;
+    private int hostsDone;
+
+    @SuppressWarnings("this-escape")
+    public DiscoveryCampaignPanel(GripCore core) {
+        super(new BorderLayout(10, 10));
+        this.core = core;
+        this.theme = core.getTheme();
+        setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        resultsModel = new DefaultTableModel(COLUMNS, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+
+        hostsArea = new JTextArea(6, 60);
+        hostsArea.setFont(theme.getCodeFont());
+        JScrollPane hostsScroll = new JScrollPane(hostsArea);
+        hostsScroll.setBorder(theme.createTitledBorder("Hosts (one base URL or host per line)"));
+
+        siteMapBtn = new JButton("Load from Site Map");
+        siteMapBtn.addActionListener(e -> loadFromSiteMap());
+
+        startBtn = new JButton("Start Campaign");
+        theme.stylePrimaryButton(startBtn);
+        startBtn.addActionListener(e -> startCampaign());
+
+        cancelBtn = new JButton("Cancel");
+        cancelBtn.setForeground(new Color(220, 53, 69));
+        cancelBtn.setEnabled(false);
+        cancelBtn.addActionListener(e -> cancelCampaign());
+
+        JButton exportBtn = new JButton("Export...");
+        exportBtn.addActionListener(e -> exportResults());
+
+        JButton clearBtn = new JButton("Clear Results");
+        clearBtn.addActionListener(e -> resultsModel.setRowCount(0));
+
+        progressLabel = new JLabel(" ");
+        progressLabel.setFont(theme.getNormalFont());
+        progressLabel.setForeground(theme.getSecondaryText());
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT, GripTheme.SPACING_SM, GripTheme.SPACING_SM));
+        buttons.add(siteMapBtn);
+        buttons.add(startBtn);
+        buttons.add(cancelBtn);
+        buttons.add(exportBtn);
+        buttons.add(clearBtn);
+        buttons.add(Box.createHorizontalStrut(GripTheme.SPACING_MD));
+        buttons.add(progressLabel);
+
+        JPanel top = new JPanel(new BorderLayout(5, 5));
+        top.add(hostsScroll, BorderLayout.CENTER);
+        top.add(buttons, BorderLayout.SOUTH);
+
+        JTable resultsTable = new JTable(resultsModel);
+        resultsTable.setFont(theme.getNormalFont());
+        resultsTable.setRowHeight(22);
+        resultsTable.setAutoCreateRowSorter(true);
+        resultsTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    int row = resultsTable.getSelectedRow();
+                    if (row >= 0) {
+                        String endpoint = (String) resultsModel.getValueAt(resultsTable.convertRowIndexToModel(row), 1);
+                        core.getMainTab().setTargetEndpoint(endpoint);
+                        core.getMainTab().selectTab(0);
+                    }
+                }
+            }
+        });
+
+        JScrollPane resultsScroll = new JScrollPane(resultsTable);
+        resultsScroll.setBorder(theme.createTitledBorder("Discovered Endpoints (double-click to load in Scanner)"));
+
+        add(top, BorderLayout.NORTH);
+        add(resultsScroll, BorderLayout.CENTER);
+
+        core.getApi().userInterface().applyThemeToComponent(this);
+    }
+
+    private void loadFromSiteMap() {
+        siteMapBtn.setEnabled(false);
+        CompletableFuture.supplyAsync(() -> {
+            Set<String> bases = new LinkedHashSet<>();
+            for (HttpRequestResponse item : core.getApi().siteMap().requestResponses()) {
+                if (item.request() != null && item.request().url() != null) {
+                    bases.add(GripEndpointDiscoverer.normalizeBaseUrl(item.request().url()));
+                }
+            }
+            return bases;
+        }, core.getHttpClient().getExecutor()).whenComplete((bases, error) -> SwingUtilities.invokeLater(() -> {
+            siteMapBtn.setEnabled(true);
+            if (error != null) {
+                progressLabel.setText("Site map error: " + error.getMessage());
+                return;
+            }
+            Set<String> merged = new LinkedHashSet<>(parseHosts());
+            merged.addAll(bases);
+            hostsArea.setText(String.join("\n", merged));
+            progressLabel.setText(bases.size() + " host(s) from site map");
+        }));
+    }
+
+    private List<String> parseHosts() {
+        List<String> hosts = new ArrayList<>();
+        for (String line : hostsArea.getText().split("\\R")) {
+            String host = line.trim();
+            if (host.isEmpty() || host.startsWith("#")) continue;
+            if (!host.startsWith("http://") && !host.startsWith("https://")) {
+                host = "https://" + host;
+            }
+            hosts.add(host);
+        }
+        return hosts;
+    }
+
+    private void startCampaign() {
+        List<String> hosts = parseHosts();
+        if (hosts.isEmpty()) {
+            progressLabel.setText("Add at least one host");
+            return;
+        }
+
+        GripConfig config = core.getConfig();
+        GripDiscoveryCampaign run = new GripDiscoveryCampaign(core.getHttpClient(),
+            config.getInteger(GripConfig.DISCOVERY_CAMPAIGN_CONCURRENCY),
+            config.getInteger(GripConfig.DISCOVERY_CAMPAIGN_PER_HOST),
+            config.getInteger(GripConfig.DISCOVERY_CAMPAIGN_HOST_DELAY_MS));
+        run.setProgressCallback(msg -> core.log(msg));
+        for (String host : hosts) {
+            run.addHost(host);
+        }
+        int hostCount = run.getHostCount();
+
+        run.setListener(new GripDiscoveryCampaign.Listener() {
+            @Override
+            public void onFinding(String baseUrl, GripEndpointDiscoverer.Finding finding) {
+                SwingUtilities.invokeLater(() -> resultsModel.addRow(new Object[]{
+                    baseUrl, finding.url, finding.evidence, finding.status
+                }));
+            }
+
+            @Override
+            public void onHostComplete(String baseUrl, int findings) {
+                SwingUtilities.invokeLater(() -> hostsDone++);
+            }
+
+            @Override
+            public void onProgress(int completed, int total) {
+                if (completed % 25 == 0 || completed == total) {
+                    SwingUtilities.invokeLater(() -> progressLabel.setText(
+                        "Probed " + completed + "/" + total + " paths, " + hostsDone + "/" + hostCount + " hosts done"));
+                }
+            }
+        });
+
+        campaign = run;
+        hostsDone = 0;
+        startBtn.setEnabled(false);
+        cancelBtn.setEnabled(true);
+        progressLabel.setText("Scanning " + hostCount + " host(s)...");
+
+        run.start(core.getHttpClient().getExecutor()).whenComplete((found, error) -> SwingUtilities.invokeLater(() -> {
+            startBtn.setEnabled(true);
+            cancelBtn.setEnabled(false);
+            if (error != null) {
+                progressLabel.setText("Campaign failed: " + error.getMessage());
+                core.logError("Discovery campaign failed: " + error.getMessage());
+            } else {
+                progressLabel.setText("Campaign complete: " + found + " endpoint(s) across " + hostCount + " host(s)");
+            }
+            campaign = null;
+        }));
+    }
+
+    private void cancelCampaign() {
+        GripDiscoveryCampaign run = campaign;
+        if (run != null) {
+            run.cancel();
+            progressLabel.setText("Cancelling...");
+        }
+    }
+
+    private void exportResults() {
+        if (resultsModel.getRowCount() == 0) {
+            progressLabel.setText("Nothing to export");
+            return;
+        }
+
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Export Discovered Endpoints");
+        fileChooser.setSelectedFile(new java.io.File("graphql_endpoints.txt"));
+
+        if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            java.io.File file = fileChooser.getSelectedFile();
+            boolean csv = file.getName().toLowerCase().endsWith(".csv");
+            StringBuilder out = new StringBuilder();
+            if (csv) {
+                out.append(String.join(",", COLUMNS)).append('\n');
+            }
+            for (int row = 0; row < resultsModel.getRowCount(); row++) {
+                if (csv) {
+                    for (int col = 0; col < COLUMNS.length; col++) {
+                        if (col > 0) out.append(',');
+                        out.append('"').append(String.valueOf(resultsModel.getValueAt(row, col)).replace("\"", "\"\"")).append('"');
+                    }
+                } else {
+                    out.append(resultsModel.getValueAt(row, 1));
+                }
+                out.append('\n');
+            }
+            try {
+                java.nio.file.Files.writeString(file.toPath(), out.toString());
+                progressLabel.setText("Exported " + resultsModel.getRowCount() + " endpoint(s) to " + file.getName());
+            } catch (Exception e) {
+                progressLabel.setText("Export failed: " + e.getMessage());
+            }
+        }
+    }
+}
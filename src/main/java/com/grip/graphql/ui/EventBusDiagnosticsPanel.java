@@ -0,0 +1,150 @@
+package com.grip.graphql.ui;
+
+import com.grip.graphql.GripConfig;
+import com.grip.graphql.GripCore;
+import com.grip.graphql.event.GripEventBus;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+
+public class EventBusDiagnosticsPanel extends JPanel {
+
+    private static final int REFRESH_INTERVAL_MS = 1000;
+    private static final String[] TYPE_COLUMNS = {"Event Type", "Published", "Rate (/s)"};
+    private static final String[] LISTENER_COLUMNS = {
+        "Listener", "Event Type", "Policy", "Queued", "Capacity", "Dropped", "Delivered", "p50", "p99", "Max", "Slow Batches"
+    };
+    private static final String[] FRAME_COLUMNS = {"Component", "Frames", "Avg", "p50", "p99", "Max", "Over 16 ms"};
+
+    private final GripEventBus eventBus;
+    private final DefaultTableModel typeModel;
+    private final DefaultTableModel listenerModel;
+    private final DefaultTableModel frameModel;
+    private final JLabel statusLabel;
+
+    @SuppressWarnings("this-escape")
+    public EventBusDiagnosticsPanel(GripCore core) {
+        super(new BorderLayout(10, 10));
+        this.eventBus = core.getEventBus();
+        GripTheme theme = core.getTheme();
+        GripConfig config = core.getConfig();
+        setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        typeModel = readOnlyModel(TYPE_COLUMNS);
+        listenerModel = readOnlyModel(LISTENER_COLUMNS);
+        frameModel = readOnlyModel(FRAME_COLUMNS);
+
+        JCheckBox recordBox = new JCheckBox("Record event bus metrics", eventBus.isInstrumented());
+        recordBox.setToolTipText("Publish rates and listener latencies; slow listeners over " +
+            config.getInteger(GripConfig.EVENTBUS_SLOW_LISTENER_MS) + " ms are logged to the extension error log");
+        recordBox.addActionListener(e -> {
+            config.setBoolean(GripConfig.EVENTBUS_INSTRUMENTATION, recordBox.isSelected());
+            refresh();
+        });
+
+        JButton refreshBtn = new JButton("Refresh");
+        refreshBtn.addActionListener(e -> refresh());
+
+        JButton resetFramesBtn = new JButton("Reset Frame Times");
+        resetFramesBtn.addActionListener(e -> {
+            FrameTimeRecorder.resetAll();
+            refresh();
+        });
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(theme.getNormalFont());
+        statusLabel.setForeground(theme.getSecondaryText());
+
+        JPanel toolbar = new JPanel(new FlowLayout(FlowLayout.LEFT, GripTheme.SPACING_SM, GripTheme.SPACING_SM));
+        toolbar.add(recordBox);
+        toolbar.add(refreshBtn);
+        toolbar.add(resetFramesBtn);
+        toolbar.add(Box.createHorizontalStrut(GripTheme.SPACING_MD));
+        toolbar.add(statusLabel);
+
+        JScrollPane typeScroll = new JScrollPane(createTable(typeModel, theme));
+        typeScroll.setBorder(theme.createTitledBorder("Published Events"));
+
+        JScrollPane listenerScroll = new JScrollPane(createTable(listenerModel, theme));
+        listenerScroll.setBorder(theme.createTitledBorder("Listeners (latency per event)"));
+
+        JScrollPane frameScroll = new JScrollPane(createTable(frameModel, theme));
+        frameScroll.setBorder(theme.createTitledBorder("UI Frame Times (paint time on the Swing thread)"));
+        frameScroll.setPreferredSize(new Dimension(400, 110));
+
+        JSplitPane busSplit = new JSplitPane(JSplitPane.VERTICAL_SPLIT, typeScroll, listenerScroll);
+        busSplit.setResizeWeight(0.35);
+
+        JSplitPane split = new JSplitPane(JSplitPane.VERTICAL_SPLIT, busSplit, frameScroll);
+        split.setResizeWeight(0.8);
+
+        add(toolbar, BorderLayout.NORTH);
+        add(split, BorderLayout.CENTER);
+
+        Timer refresh = new Timer(REFRESH_INTERVAL_MS, e -> {
+            if (isShowing()) refresh();
+        });
+        refresh.start();
+
+        core.getApi().userInterface().applyThemeToComponent(this);
+    }
+
+    private static DefaultTableModel readOnlyModel(String[] columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+
+            @Override
+            public Class<?> getColumnClass(int column) {
+                Object value = getRowCount() > 0 ? getValueAt(0, column) : null;
+                return value instanceof Number ? value.getClass() : Object.class;
+            }
+        };
+    }
+
+    private static JTable createTable(DefaultTableModel model, GripTheme theme) {
+        JTable table = new JTable(model);
+        table.setFont(theme.getNormalFont());
+        table.setRowHeight(22);
+        table.setAutoCreateRowSorter(true);
+        return table;
+    }
+
+    private void refresh() {
+        GripEventBus.Stats stats = eventBus.getStats();
+
+        typeModel.setRowCount(0);
+        for (GripEventBus.TypeStats type : stats.types) {
+            typeModel.addRow(new Object[]{type.eventType, type.published, Math.round(type.ratePerSecond * 10) / 10.0});
+        }
+
+        listenerModel.setRowCount(0);
+        for (GripEventBus.ListenerStats listener : stats.listeners) {
+            listenerModel.addRow(new Object[]{
+                listener.listener, listener.eventType, listener.policy, listener.queueDepth, listener.capacity,
+                listener.dropped, listener.delivered, formatNanos(listener.p50Nanos), formatNanos(listener.p99Nanos),
+                formatNanos(listener.maxNanos), listener.slowBatches
+            });
+        }
+
+        frameModel.setRowCount(0);
+        for (FrameTimeRecorder.Snapshot frames : FrameTimeRecorder.snapshots()) {
+            frameModel.addRow(new Object[]{
+                frames.component, frames.frames, formatNanos(frames.avgNanos), formatNanos(frames.p50Nanos),
+                formatNanos(frames.p99Nanos), formatNanos(frames.maxNanos), frames.slowFrames
+            });
+        }
+
+        statusLabel.setText((stats.instrumented ? "Recording" : "Not recording") + " - " +
+            stats.listeners.size() + " listener(s), " + stats.droppedEvents + " event(s) dropped");
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000) return nanos + " ns";
+        if (nanos < 1_000_000) return String.format("%.1f us", nanos / 1e3);
+        return String.format("%.1f ms", nanos / 1e6);
+    }
+}
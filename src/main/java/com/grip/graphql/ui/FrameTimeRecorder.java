@@ -0,0 +1,95 @@
+package com.grip.graphql.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FrameTimeRecorder {
+
+    public static final long SLOW_FRAME_NANOS = 16_000_000L;
+
+    private static final int SAMPLES = 1024;
+    private static final Map<String, FrameTimeRecorder> RECORDERS = new ConcurrentHashMap<>();
+
+    public static class Snapshot {
+        public final String component;
+        public final long frames;
+        public final long slowFrames;
+        public final long avgNanos;
+        public final long p50Nanos;
+        public final long p99Nanos;
+        public final long maxNanos;
+
+        Snapshot(String component, long frames, long slowFrames, long avgNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+            this.component = component;
+            this.frames = frames;
+            this.slowFrames = slowFrames;
+            this.avgNanos = avgNanos;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+    }
+
+    private final String component;
+    private final long[] samples = new long[SAMPLES];
+    private int next;
+    private long frames;
+    private long slowFrames;
+    private long maxNanos;
+
+    private FrameTimeRecorder(String component) {
+        this.component = component;
+    }
+
+    public static FrameTimeRecorder forComponent(String component) {
+        return RECORDERS.computeIfAbsent(component, FrameTimeRecorder::new);
+    }
+
+    public static List<Snapshot> snapshots() {
+        List<Snapshot> result = new ArrayList<>();
+        for (FrameTimeRecorder recorder : RECORDERS.values()) {
+            result.add(recorder.snapshot());
+        }
+        result.sort((a, b) -> a.component.compareTo(b.component));
+        return result;
+    }
+
+    public static void resetAll() {
+        for (FrameTimeRecorder recorder : RECORDERS.values()) {
+            recorder.reset();
+        }
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % SAMPLES;
+        frames++;
+        if (nanos > SLOW_FRAME_NANOS) slowFrames++;
+        if (nanos > maxNanos) maxNanos = nanos;
+    }
+
+    public synchronized void reset() {
+        next = 0;
+        frames = 0;
+        slowFrames = 0;
+        maxNanos = 0;
+    }
+
+    public synchronized Snapshot snapshot() {
+        int count = (int) Math.min(frames, SAMPLES);
+        long[] recent = Arrays.copyOf(samples, count);
+        Arrays.sort(recent);
+        long total = 0;
+        for (long sample : recent) {
+            total += sample;
+        }
+        return new Snapshot(component, frames, slowFrames,
+            count > 0 ? total / count : 0,
+            count > 0 ? recent[(int) ((count - 1) * 0.50)] : 0,
+            count > 0 ? recent[(int) ((count - 1) * 0.99)] : 0,
+            maxNanos);
+    }
+}
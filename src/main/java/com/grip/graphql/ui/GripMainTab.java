@@ -1,11 +1,24 @@
 package com.grip.graphql.ui;
 
 import com.grip.graphql.GripCore;
+import com.grip.graphql.discovery.GripEndpointDiscoverer;
+import com.grip.graphql.event.ArgumentDiscoveredEvent;
+import com.grip.graphql.event.EngineVerdictEvent;
+import com.grip.graphql.event.FieldDiscoveredEvent;
+import com.grip.graphql.event.GripEventBus;
+import com.grip.graphql.event.ProgressEvent;
+import com.grip.graphql.event.SchemaDiscoveryEvent;
+import com.grip.graphql.event.TypeResolvedEvent;
 import com.grip.graphql.model.schema.*;
+import com.grip.graphql.schema.GripQueryGenerator;
+import com.grip.graphql.schema.GripSchemaIndex;
 import com.grip.graphql.schema.IntrospectionHandler;
 import com.grip.graphql.schema.SchemaReconstructor;
 import com.grip.graphql.http.GripHttpClient;
 import com.grip.graphql.security.GripEngineFingerprinter;
+import com.grip.graphql.security.GripPassiveFingerprinter;
+import com.grip.graphql.traffic.GripBundleMiner;
+import com.grip.graphql.traffic.GripSchemaLearner;
 import burp.api.montoya.http.message.HttpRequestResponse;
 import burp.api.montoya.http.message.requests.HttpRequest;
 import com.google.gson.JsonObject;
@@ -21,9 +34,11 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
 
 public class GripMainTab extends JPanel {
 
@@ -34,8 +49,8 @@ public class GripMainTab extends JPanel {
     private JLabel statsLabel;
 
     private JTextField targetField;
-    private JTextPane logPane;
-    private javax.swing.text.StyledDocument logDoc;
+    private JLabel passiveVerdictLabel;
+    private ScanLogPanel scanLog;
 
     private JTabbedPane schemaTabbedPane;
     private List<SchemaTabData> schemaTabs = new ArrayList<>();
@@ -46,6 +61,7 @@ public class GripMainTab extends JPanel {
 
     private DefaultTableModel headersTableModel;
     private Map<String, String> customHeaders = new HashMap<>();
+    private final Map<String, String> detectedEngines = new ConcurrentHashMap<>();
 
     private JLabel statusBar;
     private javax.swing.Timer statusClearTimer;
@@ -54,9 +70,24 @@ public class GripMainTab extends JPanel {
     private JButton blindBtn;
     private JButton fingerprintBtn;
     private JButton discoverBtn;
+    private JButton learnedBtn;
     private JButton cancelBtn;
     private volatile boolean scanning = false;
 
+    private static final int DISCOVERY_FLUSH_MS = 250;
+    private final ConcurrentLinkedQueue<SchemaDiscoveryEvent> pendingDiscoveries = new ConcurrentLinkedQueue<>();
+    private final javax.swing.Timer discoveryTimer = new javax.swing.Timer(DISCOVERY_FLUSH_MS, e -> applyPendingDiscoveries());
+    private volatile long liveRunId = -1;
+    private SchemaTabData liveTab;
+
+    private static final int SEARCH_DEBOUNCE_MS = 150;
+    private static final String SEARCH_PLACEHOLDER = "Search types, fields, arguments...";
+    private static final int SCHEMA_TREE_ROW_HEIGHT = 20;
+    private static final String SCHEMA_TREE_COMPONENT = "Schema tree";
+    private static final Color QUERY_COLOR = new Color(0, 128, 0);
+    private static final Color MUTATION_COLOR = new Color(200, 100, 0);
+    private static final Color SUBSCRIPTION_COLOR = new Color(128, 0, 128);
+
     @SuppressWarnings("this-escape")
     public GripMainTab(GripCore core) {
         super(new BorderLayout());
@@ -68,12 +99,20 @@ public class GripMainTab extends JPanel {
 
         tabbedPane.addTab("Scanner", null, createScannerPanel(), "Scan endpoints & run security checks");
         tabbedPane.addTab("Schema", null, createSchemaPanel(), "Browse schema & craft requests");
+        tabbedPane.addTab("Discovery", null, createDiscoveryPanel(), "Sweep many hosts for GraphQL endpoints");
+        tabbedPane.addTab("Operations", null, new OperationCatalogPanel(core), "Browse GraphQL operations seen in traffic");
+        tabbedPane.addTab("Diagnostics", null, new EventBusDiagnosticsPanel(core), "Event bus throughput and listener latency");
 
         core.getApi().userInterface().applyThemeToComponent(tabbedPane);
 
         add(createHeader(), BorderLayout.NORTH);
         add(tabbedPane, BorderLayout.CENTER);
         add(createStatusBar(), BorderLayout.SOUTH);
+
+        GripEventBus eventBus = core.getEventBus();
+        eventBus.subscribe(SchemaDiscoveryEvent.class, this::queueDiscovery);
+        eventBus.subscribe(EngineVerdictEvent.class, event -> SwingUtilities.invokeLater(this::refreshPassiveVerdict));
+        eventBus.subscribe(ProgressEvent.class, this::showProgress);
     }
 
     private JPanel createStatusBar() {
@@ -134,6 +173,14 @@ public class GripMainTab extends JPanel {
         return header;
     }
 
+    private JComponent createDiscoveryPanel() {
+        JSplitPane split = new JSplitPane(JSplitPane.VERTICAL_SPLIT,
+            new DiscoveryCampaignPanel(core), new DetectedEndpointsPanel(core));
+        split.setResizeWeight(0.6);
+        split.setBorder(null);
+        return split;
+    }
+
     private JPanel createScannerPanel() {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
@@ -163,6 +210,9 @@ public class GripMainTab extends JPanel {
         discoverBtn = createSecondaryButton("Discover Paths", "Find GraphQL endpoints on target domain");
         discoverBtn.addActionListener(e -> runEndpointDiscovery());
 
+        learnedBtn = createSecondaryButton("Learned Schema", "Open the schema inferred passively from proxy traffic");
+        learnedBtn.addActionListener(e -> openLearnedSchema());
+
         cancelBtn = new JButton("Cancel");
         cancelBtn.setForeground(new Color(220, 53, 69));
         cancelBtn.setVisible(false);
@@ -173,10 +223,27 @@ public class GripMainTab extends JPanel {
         buttons.add(blindBtn);
         buttons.add(fingerprintBtn);
         buttons.add(discoverBtn);
+        buttons.add(learnedBtn);
         buttons.add(cancelBtn);
 
+        passiveVerdictLabel = new JLabel(" ");
+        passiveVerdictLabel.setFont(theme.getNormalFont());
+        passiveVerdictLabel.setForeground(theme.getSecondaryText());
+        targetField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            @Override
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { refreshPassiveVerdict(); }
+            @Override
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { refreshPassiveVerdict(); }
+            @Override
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { refreshPassiveVerdict(); }
+        });
+
+        JPanel actions = new JPanel(new BorderLayout());
+        actions.add(buttons, BorderLayout.CENTER);
+        actions.add(passiveVerdictLabel, BorderLayout.EAST);
+
         targetPanel.add(targetField, BorderLayout.CENTER);
-        targetPanel.add(buttons, BorderLayout.SOUTH);
+        targetPanel.add(actions, BorderLayout.SOUTH);
 
         JPanel headersPanel = new JPanel(new BorderLayout(5, 5));
         headersPanel.setBorder(theme.createTitledBorder("Custom Headers (applied to all requests)"));
@@ -217,11 +284,8 @@ public class GripMainTab extends JPanel {
 
         panel.add(configPanel, BorderLayout.NORTH);
 
-        logPane = new JTextPane();
-        logPane.setEditable(false);
-        logPane.setFont(theme.getCodeFont());
-        logDoc = logPane.getStyledDocument();
-        initLogStyles();
+        scanLog = new ScanLogPanel(theme);
+        scanLog.setBorder(theme.createTitledBorder("Scan Log"));
 
         appendLogStyled("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━", "header");
         appendLogStyled("  GraphQL Grip Scanner", "title");
@@ -230,11 +294,7 @@ public class GripMainTab extends JPanel {
         appendLogStyled("  Ready to scan. Enter a target endpoint above.", "info");
         appendLogStyled("", "normal");
 
-        JScrollPane logScroll = new JScrollPane(logPane);
-        logScroll.setBorder(theme.createTitledBorder("Scan Log"));
-        logScroll.getVerticalScrollBar().setUnitIncrement(16);
-
-        panel.add(logScroll, BorderLayout.CENTER);
+        panel.add(scanLog, BorderLayout.CENTER);
 
         core.getApi().userInterface().applyThemeToComponent(panel);
         return panel;
@@ -254,13 +314,7 @@ public class GripMainTab extends JPanel {
     }
 
     private void clearLog() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                logDoc.remove(0, logDoc.getLength());
-            } catch (javax.swing.text.BadLocationException e) {
-
-            }
-        });
+        scanLog.clear();
     }
 
     public void triggerScan() {
@@ -387,26 +441,55 @@ public class GripMainTab extends JPanel {
         appendLog("[*] This may take a while...");
         setScanningState(true);
 
+        GripEventBus eventBus = core.getEventBus();
+        Consumer<String> progress = msg -> eventBus.publishCoalesced(
+            new ProgressEvent(SchemaReconstructor.EVENT_SOURCE, msg), ProgressEvent::merge);
+
         CompletableFuture.runAsync(() -> {
             SchemaReconstructor reconstructor = null;
             try {
                 reconstructor = new SchemaReconstructor(core.getHttpClient());
-                reconstructor.setProgressCallback(msg -> appendLog(msg));
+                reconstructor.setProgressCallback(progress);
+                reconstructor.setEngine(engineFor(endpoint));
+                reconstructor.setEventBus(eventBus);
+                GripBundleMiner miner = core.getModule(GripBundleMiner.class);
+                if (miner != null && !miner.getFieldNames().isEmpty()) {
+                    reconstructor.addToWordlist(miner.getFieldNames());
+                    reconstructor.addToArgumentWordlist(miner.getArgumentNames());
+                    appendLog("[*] Added " + miner.getFieldNames().size() + " field names mined from JS bundles to the wordlist");
+                }
+                GripSchema learned = learnedSchema(endpoint);
+                if (learned != null) {
+                    reconstructor.setSeedSchema(learned);
+                    appendLog("[*] Seeding with " + learned.getTypeCount() + " types / " +
+                        learned.getTotalFieldCount() + " fields learned from proxy traffic");
+                }
+
+                pendingDiscoveries.clear();
+                liveRunId = reconstructor.getRunId();
+                SwingUtilities.invokeLater(() -> startLiveDiscovery(endpoint));
 
                 GripSchema schema = reconstructor.reconstructSchema(endpoint).join();
 
                 if (schema != null && schema.getTypeCount() > 0) {
                     schema.setSourceEndpoint(endpoint);
                     currentSchema = schema;
-                    appendLog("\n[+] Discovered " + schema.getTypeCount() + " types");
+                    progress.accept("\n[+] Discovered " + schema.getTypeCount() + " types");
 
                     SwingUtilities.invokeLater(() -> {
-                        getOrCreateSchemaTab();
-                        currentSchemaTab.endpoint = endpoint;
-                        if (currentSchemaTab.endpointField != null) {
-                            currentSchemaTab.endpointField.setText(endpoint);
+                        SchemaTabData target = stopLiveDiscovery();
+                        if (target == null) {
+                            getOrCreateSchemaTab();
+                            target = currentSchemaTab;
+                        }
+                        target.endpoint = endpoint;
+                        if (target.endpointField != null) {
+                            target.endpointField.setText(endpoint);
+                        }
+                        populateSchemaTreeForTab(schema, target);
+                        if (!target.searchText.isEmpty()) {
+                            runSchemaSearch(target, target.searchText);
                         }
-                        populateSchemaTree(schema);
                         tabbedPane.setSelectedIndex(1);
                     });
                 }
@@ -420,13 +503,15 @@ public class GripMainTab extends JPanel {
                     appendLogStyled("[!] AUTHENTICATION ERROR: " + cause.getMessage(), "error");
                     appendLog("[*] Configure auth headers in 'Custom Headers' section above, then retry.");
                 } else {
-                    appendLog("[!] Error: " + cause.getMessage());
+                    progress.accept("[!] Error: " + cause.getMessage());
                 }
                 core.logError("runBlindDiscovery failed: " + cause.getMessage());
             } finally {
                 if (reconstructor != null) {
                     reconstructor.shutdown();
                 }
+                liveRunId = -1;
+                SwingUtilities.invokeLater(this::stopLiveDiscovery);
                 setScanningState(false);
             }
         }, core.getHttpClient().getExecutor());
@@ -452,18 +537,42 @@ public class GripMainTab extends JPanel {
         appendLogStyled("  Engine Fingerprinting", "title");
         appendLogStyled("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━", "header");
 
+        GripPassiveFingerprinter.Verdict passive = passiveVerdict(endpoint);
+        if (passive != null) {
+            appendLog("[*] Passive verdict: " + describeVerdict(passive) + " - " + String.join("; ", passive.evidence));
+        }
+
         CompletableFuture.runAsync(() -> {
             try {
                 GripEngineFingerprinter fingerprinter = new GripEngineFingerprinter(core.getHttpClient());
                 fingerprinter.setProgressCallback(msg -> appendLog(msg));
 
                 GripEngineFingerprinter.EngineResult result = fingerprinter.fingerprint(endpoint).join();
+                if (!"Unknown".equals(result.engineName)) {
+                    detectedEngines.put(endpoint, result.engineName);
+                }
 
                 appendLogStyled("", "normal");
                 appendLogStyled("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━", "header");
                 appendLog("[+] ENGINE: " + result.engineName);
-                appendLog("[+] Confidence: " + result.confidence);
+                if (result.version != null) {
+                    appendLog("[+] Version: " + result.version);
+                }
+                appendLog("[+] Confidence: " + result.confidence + (result.score > 0 ? " (score " + result.score + ")" : ""));
                 appendLog("[+] Evidence: " + result.evidence);
+                if (result.scores.size() > 1) {
+                    StringBuilder others = new StringBuilder();
+                    result.scores.forEach((engine, score) -> {
+                        if (!engine.equals(result.engineName)) {
+                            if (others.length() > 0) others.append(", ");
+                            others.append(engine).append(" (").append(score).append(")");
+                        }
+                    });
+                    appendLog("[+] Other candidates: " + others);
+                }
+                if (!result.detectedFeatures.isEmpty()) {
+                    appendLog("[+] Features: " + String.join(", ", result.detectedFeatures));
+                }
                 appendLogStyled("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━", "header");
                 appendLog("");
                 appendLog("[!] " + GripEngineFingerprinter.DETECTION_DISCLAIMER);
@@ -484,24 +593,6 @@ public class GripMainTab extends JPanel {
         }, core.getHttpClient().getExecutor());
     }
 
-    private static final String[] GRAPHQL_PATHS = {
-        "graphql", "graphiql", "playground", "altair", "explorer",
-        "graphql/console", "graphql-explorer", "subscriptions", "api/graphql", "graph",
-        "graphiql.css", "graphiql/finland", "graphiql.js", "graphiql.min.css",
-        "graphiql.min.js", "graphiql.php", "graphql.php",
-        "graphql/schema.json", "graphql/schema.xml", "graphql/schema.yaml",
-        "v1/graphql", "v1/graphiql", "v1/playground", "v1/altair", "v1/explorer",
-        "v1/graphql/console", "v1/graphql-explorer", "v1/api/graphql", "v1/graph",
-        "v2/graphql", "v2/graphiql", "v2/playground", "v2/altair", "v2/explorer",
-        "v2/graphql/console", "v2/graphql-explorer", "v2/api/graphql", "v2/graph",
-        "v3/graphql", "v3/graphiql", "v3/playground", "v3/api/graphql",
-        "v4/graphql", "v4/graphiql", "v4/playground", "v4/api/graphql",
-        "api/v1/graphql", "api/v2/graphql", "api/v3/graphql",
-        "query", "gql", "data", "api/data", "api/query",
-        "console", "dev/graphql", "test/graphql", "staging/graphql",
-        "__graphql", "_graphql", "graphql-api", "graphql/v1", "graphql/v2"
-    };
-
     private void runEndpointDiscovery() {
         String baseUrl = targetField.getText().trim();
         if (baseUrl.isEmpty()) {
@@ -517,98 +608,30 @@ public class GripMainTab extends JPanel {
 
         applyCustomHeaders();
 
-        if (!baseUrl.endsWith("/")) {
-            baseUrl = baseUrl + "/";
-        }
-
-        try {
-            java.net.URI uri = new java.net.URI(baseUrl);
-            baseUrl = uri.getScheme() + "://" + uri.getHost();
-            if (uri.getPort() > 0 && uri.getPort() != 80 && uri.getPort() != 443) {
-                baseUrl += ":" + uri.getPort();
-            }
-            baseUrl += "/";
-        } catch (Exception e) {
-
-        }
-
-        final String finalBaseUrl = baseUrl;
+        final String finalBaseUrl = GripEndpointDiscoverer.normalizeBaseUrl(baseUrl);
         clearLog();
         appendLogStyled("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━", "header");
         appendLogStyled("  GraphQL Endpoint Discovery", "title");
         appendLogStyled("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━", "header");
         appendLogStyled("", "normal");
         appendLog("[*] Base URL: " + finalBaseUrl);
-        appendLog("[*] Testing " + GRAPHQL_PATHS.length + " common paths...");
+        appendLog("[*] Testing " + GripEndpointDiscoverer.GRAPHQL_PATHS.length + " common paths...");
         appendLogStyled("", "normal");
 
-        CompletableFuture.runAsync(() -> {
-            try {
-            java.util.List<String> foundEndpoints = new java.util.ArrayList<>();
-            int tested = 0;
-
-            for (String path : GRAPHQL_PATHS) {
-                tested++;
-                String testUrl = finalBaseUrl + path;
-
-                try {
-
-                    JsonObject queryBody = new JsonObject();
-                    queryBody.addProperty("query", "query{__typename}");
-
-                    Map<String, String> headers = new HashMap<>(customHeaders);
-                    headers.put("Content-Type", "application/json");
-
-                    HttpRequestResponse response = core.getHttpClient().sendRaw(
-                        testUrl, "POST", queryBody.toString(), headers
-                    );
-
-                    int status = response.response().statusCode();
-                    String body = response.response().bodyToString();
-
-                    boolean isGraphQL = false;
-                    String evidence = "";
-
-                    if (body.contains("\"data\"") || body.contains("\"errors\"")) {
-                        isGraphQL = true;
-                        evidence = "GraphQL response structure";
-                    } else if (body.contains("__typename") || body.contains("__schema")) {
-                        isGraphQL = true;
-                        evidence = "Introspection response";
-                    } else if (body.contains("Must provide query string") ||
-                               body.contains("GraphQL") ||
-                               body.contains("query must be a string")) {
-                        isGraphQL = true;
-                        evidence = "GraphQL error message";
-                    } else if (status == 200 && body.contains("{") &&
-                               (body.contains("query") || body.contains("mutation"))) {
-                        isGraphQL = true;
-                        evidence = "Possible GraphQL (200 + JSON)";
-                    }
-
-                    if (isGraphQL) {
-                        foundEndpoints.add(testUrl);
-                        appendLog("[+] FOUND: " + testUrl + " (" + evidence + ")");
-                    }
-
-                    if (status == 200 && (body.contains("GraphiQL") || body.contains("graphql-playground") ||
-                            body.contains("Apollo") || body.contains("Altair"))) {
-                        if (!foundEndpoints.contains(testUrl)) {
-                            foundEndpoints.add(testUrl);
-                            appendLog("[+] FOUND UI: " + testUrl + " (GraphQL IDE detected)");
-                        }
-                    }
-
-                } catch (Exception e) {
-
-                }
+        GripEndpointDiscoverer discoverer = new GripEndpointDiscoverer(core.getHttpClient());
+        discoverer.setHeaders(customHeaders);
+        discoverer.setProgressCallback(msg -> appendLog(msg));
+        discoverer.setCountCallback((tested, total) -> {
+            if (tested % 10 == 0) {
+                showStatus("Scanning... " + tested + "/" + total, false);
+            }
+        });
 
-                if (tested % 10 == 0) {
-                    final int t = tested;
-                    SwingUtilities.invokeLater(() -> {
-                        showStatus("Scanning... " + t + "/" + GRAPHQL_PATHS.length, false);
-                    });
-                }
+        discoverer.discover(finalBaseUrl, null).whenComplete((foundEndpoints, error) -> {
+            if (error != null) {
+                core.logError("runEndpointDiscovery failed: " + error.getMessage());
+                appendLog("[!] Error: " + error.getMessage());
+                return;
             }
 
             appendLogStyled("", "normal");
@@ -618,96 +641,36 @@ public class GripMainTab extends JPanel {
                 appendLog("[*] Try manual testing or check for non-standard paths");
             } else {
                 appendLog("[+] Found " + foundEndpoints.size() + " potential endpoint(s):");
-                for (String ep : foundEndpoints) {
-                    appendLogStyled("    → " + ep, "success");
+                for (GripEndpointDiscoverer.Finding ep : foundEndpoints) {
+                    appendLogStyled("    → " + ep.url, "success");
                 }
                 appendLogStyled("", "normal");
                 appendLog("[*] Click on an endpoint above and paste into Target field to scan");
             }
             appendLogStyled("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━", "header");
 
-            SwingUtilities.invokeLater(() -> {
-                showStatus("Discovery complete: " + foundEndpoints.size() + " endpoint(s) found", false);
-            });
-            } catch (Exception e) {
-                core.logError("runEndpointDiscovery failed: " + e.getMessage());
-                appendLog("[!] Error: " + e.getMessage());
-            }
-        }, core.getHttpClient().getExecutor());
-    }
-
-    private void initLogStyles() {
-        javax.swing.text.Style def = javax.swing.text.StyleContext.getDefaultStyleContext()
-                .getStyle(javax.swing.text.StyleContext.DEFAULT_STYLE);
-
-        javax.swing.text.Style normal = logDoc.addStyle("normal", def);
-        javax.swing.text.StyleConstants.setFontFamily(normal, theme.getCodeFont().getFamily());
-        javax.swing.text.StyleConstants.setFontSize(normal, 12);
-
-        javax.swing.text.Style header = logDoc.addStyle("header", normal);
-        javax.swing.text.StyleConstants.setForeground(header, GripTheme.Colors.ACCENT);
-
-        javax.swing.text.Style title = logDoc.addStyle("title", normal);
-        javax.swing.text.StyleConstants.setForeground(title, GripTheme.Colors.ACCENT);
-        javax.swing.text.StyleConstants.setBold(title, true);
-        javax.swing.text.StyleConstants.setFontSize(title, 14);
-
-        javax.swing.text.Style success = logDoc.addStyle("success", normal);
-        javax.swing.text.StyleConstants.setForeground(success, new Color(46, 160, 67));
-        javax.swing.text.StyleConstants.setBold(success, true);
-
-        javax.swing.text.Style error = logDoc.addStyle("error", normal);
-        javax.swing.text.StyleConstants.setForeground(error, new Color(220, 53, 69));
-        javax.swing.text.StyleConstants.setBold(error, true);
-
-        javax.swing.text.Style warning = logDoc.addStyle("warning", normal);
-        javax.swing.text.StyleConstants.setForeground(warning, new Color(255, 193, 7));
-
-        javax.swing.text.Style info = logDoc.addStyle("info", normal);
-        javax.swing.text.StyleConstants.setForeground(info, new Color(13, 110, 253));
-
-        javax.swing.text.Style separator = logDoc.addStyle("separator", normal);
-        javax.swing.text.StyleConstants.setForeground(separator, new Color(108, 117, 125));
+            showStatus("Discovery complete: " + foundEndpoints.size() + " endpoint(s) found", false);
+        });
     }
 
     private void appendLogStyled(String message, String styleName) {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                javax.swing.text.Style style = logDoc.getStyle(styleName);
-                if (style == null) style = logDoc.getStyle("normal");
-                logDoc.insertString(logDoc.getLength(), message + "\n", style);
-                logPane.setCaretPosition(logDoc.getLength());
-            } catch (javax.swing.text.BadLocationException e) {
-
-            }
-        });
+        scanLog.appendStyled(message, styleName);
     }
 
-    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
-
     private void appendLog(String message) {
-        SwingUtilities.invokeLater(() -> {
-            try {
-
-                String timestamp = "[" + LocalTime.now().format(TIME_FORMAT) + "] ";
-
-                String styleName = "normal";
-                if (message.startsWith("[+]")) {
-                    styleName = "success";
-                } else if (message.startsWith("[-]") || message.startsWith("[!]")) {
-                    styleName = "error";
-                } else if (message.startsWith("[*]")) {
-                    styleName = "info";
-                } else if (message.startsWith("===") || message.contains("====")) {
-                    styleName = "header";
-                    timestamp = "";
-                }
-
-                javax.swing.text.Style style = logDoc.getStyle(styleName);
-                logDoc.insertString(logDoc.getLength(), timestamp + message + "\n", style);
-                logPane.setCaretPosition(logDoc.getLength());
-            } catch (javax.swing.text.BadLocationException e) {
+        scanLog.append(message);
+    }
 
+    private void showProgress(ProgressEvent event) {
+        if (!event.getLines().isEmpty()) {
+            scanLog.appendAll(event.getLines());
+        }
+        SwingUtilities.invokeLater(() -> {
+            if (event.hasCounters() && scanning) {
+                statusBar.setForeground(GripTheme.Colors.ACCENT);
+                statusBar.setText(event.getCounter(SchemaReconstructor.PROGRESS_PROBES) + " probes, " +
+                    event.getCounter(SchemaReconstructor.PROGRESS_SUCCESSFUL) + " successful, " +
+                    event.getCounter(SchemaReconstructor.PROGRESS_TYPES) + " types");
             }
         });
     }
@@ -731,6 +694,10 @@ public class GripMainTab extends JPanel {
         exportBtn.addActionListener(e -> exportSchemaToFile());
         toolbar.add(exportBtn);
 
+        JButton copyAllBtn = new JButton("Copy All Operations");
+        copyAllBtn.addActionListener(e -> copyAllOperations());
+        toolbar.add(copyAllBtn);
+
         JButton refreshBtn = new JButton("Refresh from Endpoint");
         refreshBtn.addActionListener(e -> {
             if (currentSchemaTab != null && !currentSchemaTab.endpoint.isEmpty()) {
@@ -893,27 +860,33 @@ public class GripMainTab extends JPanel {
 
         JTextField searchField = new JTextField();
         searchField.setFont(theme.getNormalFont());
-        addPlaceholder(searchField, "Filter fields...");
+        addPlaceholder(searchField, SEARCH_PLACEHOLDER);
+
+        javax.swing.Timer searchTimer = new javax.swing.Timer(SEARCH_DEBOUNCE_MS,
+                e -> runSchemaSearch(tabData, searchQuery(searchField)));
+        searchTimer.setRepeats(false);
+
+        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            @Override
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void changedUpdate(javax.swing.event.DocumentEvent e) {}
+        });
 
         JButton clearSearchBtn = new JButton("Clear");
         clearSearchBtn.addActionListener(e -> {
             searchField.setText("");
             searchField.setForeground(Color.GRAY);
-            searchField.setText("Filter fields...");
-            filterSchemaTree(tabData, "");
+            searchField.setText(SEARCH_PLACEHOLDER);
+            searchTimer.stop();
+            runSchemaSearch(tabData, "");
         });
 
         searchField.addActionListener(e -> {
-            String text = searchField.getText().trim();
-            if (text.equals("Filter fields...") || text.isEmpty()) {
-                if (tabData.filtered) {
-                    tabData.filtered = false;
-                    populateSchemaTreeForTab(tabData.schema, tabData);
-                }
-                return;
-            }
-            tabData.filtered = true;
-            filterSchemaTree(tabData, text);
+            searchTimer.stop();
+            runSchemaSearch(tabData, searchQuery(searchField));
         });
 
         searchPanel.add(searchLabel, BorderLayout.WEST);
@@ -928,48 +901,38 @@ public class GripMainTab extends JPanel {
 
         panel.add(topPanel, BorderLayout.NORTH);
 
-        DefaultMutableTreeNode rootNode = new DefaultMutableTreeNode("Schema (not loaded)");
-        DefaultTreeModel treeModel = new DefaultTreeModel(rootNode);
-        JTree tree = new JTree(treeModel);
+        SchemaTreeModel treeModel = new SchemaTreeModel();
+        FrameTimeRecorder paintTimes = FrameTimeRecorder.forComponent(SCHEMA_TREE_COMPONENT);
+        JTree tree = new JTree(treeModel) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                long start = System.nanoTime();
+                super.paintComponent(g);
+                paintTimes.record(System.nanoTime() - start);
+            }
+        };
         tree.setFont(theme.getNormalFont());
         tree.setRootVisible(false);
         tree.setShowsRootHandles(true);
+        tree.setRowHeight(SCHEMA_TREE_ROW_HEIGHT);
+        tree.setLargeModel(true);
 
-        tabData.rootNode = rootNode;
         tabData.treeModel = treeModel;
         tabData.tree = tree;
 
-        tree.addTreeExpansionListener(new javax.swing.event.TreeExpansionListener() {
-            @Override
-            public void treeExpanded(javax.swing.event.TreeExpansionEvent event) {
-                DefaultMutableTreeNode node = (DefaultMutableTreeNode) event.getPath().getLastPathComponent();
-                if (node.getChildCount() == 1) {
-                    DefaultMutableTreeNode child = (DefaultMutableTreeNode) node.getFirstChild();
-                    if ("Loading...".equals(child.getUserObject())) {
-                        asyncLoadChildren(node, tabData);
-                    }
-                }
-            }
-
-            @Override
-            public void treeCollapsed(javax.swing.event.TreeExpansionEvent event) {}
-        });
-
         tree.setCellRenderer(new DefaultTreeCellRenderer() {
             @Override
             public Component getTreeCellRendererComponent(JTree tree, Object value,
                     boolean sel, boolean expanded, boolean leaf, int row, boolean hasFocus) {
                 super.getTreeCellRendererComponent(tree, value, sel, expanded, leaf, row, hasFocus);
-                DefaultMutableTreeNode node = (DefaultMutableTreeNode) value;
-                Object userObj = node.getUserObject();
-                if (userObj instanceof SchemaTreeNode stn) {
-                    setText(stn.getDisplayName());
-                    if (stn.isQuery()) {
-                        setForeground(new Color(0, 128, 0));
-                    } else if (stn.isMutation()) {
-                        setForeground(new Color(200, 100, 0));
-                    } else if (stn.isSubscription()) {
-                        setForeground(new Color(128, 0, 128));
+                if (value instanceof SchemaTreeModel.Node node && node.isOperation()) {
+                    String operation = node.getOperation();
+                    if ("Query".equals(operation)) {
+                        setForeground(QUERY_COLOR);
+                    } else if ("Mutation".equals(operation)) {
+                        setForeground(MUTATION_COLOR);
+                    } else if ("Subscription".equals(operation)) {
+                        setForeground(SUBSCRIPTION_COLOR);
                     }
                 }
                 return this;
@@ -986,17 +949,18 @@ public class GripMainTab extends JPanel {
         tabData.queryPreviewArea = queryArea;
 
         tree.addTreeSelectionListener(e -> {
-            DefaultMutableTreeNode node = (DefaultMutableTreeNode) tree.getLastSelectedPathComponent();
-            if (node == null) return;
-            Object userObj = node.getUserObject();
-            if (userObj instanceof SchemaTreeNode stn) {
-                String query = stn.generateQuery();
+            if (!(tree.getLastSelectedPathComponent() instanceof SchemaTreeModel.Node node)) return;
+            GripSchema schema = treeModel.getSchema();
+            if (node.isOperation()) {
+                String query = GripQueryGenerator.forSchema(schema, core.getConfig())
+                        .generateOperation(node.getOperation(), node.getField());
                 if (query != null) {
                     queryArea.setText(query);
                     queryArea.setCaretPosition(0);
                 }
-            } else if (userObj instanceof TypeTreeNode ttn) {
-                queryArea.setText(ttn.getDescription());
+            } else if (node.getKind() == SchemaTreeModel.Kind.TYPE) {
+                queryArea.setText(new TypeTreeNode(node.getTypeName(), node.getType().getKind().toString(), schema)
+                        .getDescription());
                 queryArea.setCaretPosition(0);
             }
         });
@@ -1097,41 +1061,15 @@ public class GripMainTab extends JPanel {
         if (tabData == null) return;
 
         tabData.schema = schema;
-        tabData.rootNode.removeAllChildren();
-        tabData.rootNode.setUserObject("Schema: " + schema.getSourceEndpoint());
-
-        DefaultMutableTreeNode queriesNode = new DefaultMutableTreeNode(
-                "Queries (" + schema.getQueries().size() + ")");
-        if (!schema.getQueries().isEmpty()) {
-            queriesNode.add(new DefaultMutableTreeNode("Loading..."));
-        }
-        tabData.rootNode.add(queriesNode);
-
-        DefaultMutableTreeNode mutationsNode = new DefaultMutableTreeNode(
-                "Mutations (" + schema.getMutations().size() + ")");
-        if (!schema.getMutations().isEmpty()) {
-            mutationsNode.add(new DefaultMutableTreeNode("Loading..."));
-        }
-        tabData.rootNode.add(mutationsNode);
+        tabData.filtered = false;
+        tabData.searchGeneration++;
+        tabData.treeModel.setSchema(schema);
 
-        DefaultMutableTreeNode subsNode = new DefaultMutableTreeNode(
-                "Subscriptions (" + schema.getSubscriptions().size() + ")");
-        if (!schema.getSubscriptions().isEmpty()) {
-            subsNode.add(new DefaultMutableTreeNode("Loading..."));
-        }
-        tabData.rootNode.add(subsNode);
+        populateHeadersFromClient(tabData);
 
-        int totalTypes = (int) schema.getAllTypes().stream()
-                .filter(t -> !t.getName().startsWith("__")).count();
-        DefaultMutableTreeNode typesNode = new DefaultMutableTreeNode("Types (" + totalTypes + ")");
-        if (totalTypes > 0) {
-            typesNode.add(new DefaultMutableTreeNode("Loading..."));
+        if (!tabData.live) {
+            indexFor(tabData);
         }
-        tabData.rootNode.add(typesNode);
-
-        tabData.treeModel.reload();
-
-        populateHeadersFromClient(tabData);
 
         if (tabData.graphPanel != null) {
             tabData.graphPanel.setSchema(schema, tabData.endpoint);
@@ -1148,228 +1086,206 @@ public class GripMainTab extends JPanel {
         }
     }
 
-    private void populateHeadersFromClient(SchemaTabData tabData) {
-        if (tabData.headersTableModel == null) return;
-        Map<String, String> inherited = core.getHttpClient().getInheritedHeaders();
-        if (inherited.isEmpty()) return;
-        tabData.headersTableModel.setRowCount(0);
-        tabData.headersTableModel.addRow(new Object[]{"Content-Type", "application/json"});
-        for (Map.Entry<String, String> entry : inherited.entrySet()) {
-            if ("Content-Type".equalsIgnoreCase(entry.getKey())) continue;
-            tabData.headersTableModel.addRow(new Object[]{entry.getKey(), entry.getValue()});
+    private void queueDiscovery(SchemaDiscoveryEvent event) {
+        if (event.getRunId() == liveRunId) {
+            pendingDiscoveries.add(event);
         }
     }
 
-    private static final int PAGE_SIZE = 50;
+    private void startLiveDiscovery(String endpoint) {
+        getOrCreateSchemaTab();
+        liveTab = currentSchemaTab;
+        liveTab.endpoint = endpoint;
+        if (liveTab.endpointField != null) {
+            liveTab.endpointField.setText(endpoint);
+        }
 
-    private void asyncLoadChildren(DefaultMutableTreeNode node, SchemaTabData tabData) {
-        if (tabData.schema == null) return;
-        String label = node.getUserObject().toString();
-        DefaultMutableTreeNode parentNode = (DefaultMutableTreeNode) node.getParent();
-        String parentLabel = parentNode != null ? parentNode.getUserObject().toString() : "";
-        GripSchema schema = tabData.schema;
+        GripSchema live = new GripSchema();
+        live.setSourceEndpoint(endpoint);
+        live.setPartial(true);
+        live.setReconstructed(true);
+        live.setQueryTypeName("Query");
 
-        new javax.swing.SwingWorker<java.util.List<DefaultMutableTreeNode>, Void>() {
-            @Override
-            protected java.util.List<DefaultMutableTreeNode> doInBackground() {
-                return buildChildNodes(label, parentLabel, schema);
-            }
+        liveTab.live = true;
+        populateSchemaTreeForTab(live, liveTab);
+        discoveryTimer.start();
+    }
 
-            @Override
-            protected void done() {
-                try {
-                    java.util.List<DefaultMutableTreeNode> children = get();
-                    node.removeAllChildren();
-                    for (DefaultMutableTreeNode child : children) {
-                        node.add(child);
-                    }
-                    tabData.treeModel.nodeStructureChanged(node);
-                    tabData.tree.expandPath(new TreePath(node.getPath()));
-                } catch (Exception e) {
-                    node.removeAllChildren();
-                    node.add(new DefaultMutableTreeNode("Error: " + e.getMessage()));
-                    tabData.treeModel.nodeStructureChanged(node);
-                }
-            }
-        }.execute();
-    }
-
-    private java.util.List<DefaultMutableTreeNode> buildChildNodes(String label, String parentLabel, GripSchema schema) {
-        java.util.List<DefaultMutableTreeNode> children = new ArrayList<>();
-
-        if (label.startsWith("Queries")) {
-            createPages(children, schema.getQueries().size());
-        } else if (label.startsWith("Mutations")) {
-            createPages(children, schema.getMutations().size());
-        } else if (label.startsWith("Subscriptions")) {
-            createPages(children, schema.getSubscriptions().size());
-        } else if (label.startsWith("Types (")) {
-            int total = (int) schema.getAllTypes().stream()
-                    .filter(t -> !t.getName().startsWith("__")).count();
-            createPages(children, total);
-        } else if (label.matches("\\d+ - \\d+")) {
-            int dash = label.indexOf(" - ");
-            int start = Integer.parseInt(label.substring(0, dash)) - 1;
-            int end = Integer.parseInt(label.substring(dash + 3));
-            loadPage(children, parentLabel, start, end, schema);
-        } else {
-            String typeName = label.contains("(") ? label.substring(0, label.indexOf(" (")).trim() : label;
-            GripType type = schema.getType(typeName);
-            if (type != null) {
-                for (GripField field : type.getFields()) {
-                    String ts = field.getType() != null ? field.getType().toGraphQLString() : "Unknown";
-                    children.add(new DefaultMutableTreeNode(field.getName() + ": " + ts));
-                }
-                for (GripField field : type.getInputFields()) {
-                    String ts = field.getType() != null ? field.getType().toGraphQLString() : "Unknown";
-                    children.add(new DefaultMutableTreeNode(field.getName() + ": " + ts));
-                }
-                for (GripEnumValue ev : type.getEnumValues()) {
-                    children.add(new DefaultMutableTreeNode(ev.getName()));
-                }
+    private SchemaTabData stopLiveDiscovery() {
+        discoveryTimer.stop();
+        SchemaTabData tab = liveTab;
+        liveTab = null;
+        if (tab != null) {
+            tab.live = false;
+            GripSchema live = tab.schema;
+            if (isIndexing(tab)) {
+                tab.index.whenComplete((index, error) -> SwingUtilities.invokeLater(() -> finishLiveTab(tab, live)));
+            } else {
+                finishLiveTab(tab, live);
             }
         }
-
-        return children;
+        return tab;
     }
 
-    private void createPages(java.util.List<DefaultMutableTreeNode> children, int total) {
-        for (int i = 0; i < total; i += PAGE_SIZE) {
-            int end = Math.min(i + PAGE_SIZE, total);
-            DefaultMutableTreeNode page = new DefaultMutableTreeNode((i + 1) + " - " + end);
-            page.add(new DefaultMutableTreeNode("Loading..."));
-            children.add(page);
+    private void finishLiveTab(SchemaTabData tab, GripSchema live) {
+        if (tab.schema != live) return;
+        applyPendingDiscoveries(tab);
+        if (tab.filtered && tab.searchStale) {
+            runSchemaSearch(tab, tab.searchText);
         }
     }
 
-    private void loadPage(java.util.List<DefaultMutableTreeNode> children,
-            String parentLabel, int start, int end, GripSchema schema) {
-        if (parentLabel.startsWith("Queries")) {
-            java.util.List<GripField> items = schema.getQueries();
-            for (int i = start; i < Math.min(end, items.size()); i++) {
-                children.add(new DefaultMutableTreeNode(new SchemaTreeNode(items.get(i), "Query", schema)));
-            }
-        } else if (parentLabel.startsWith("Mutations")) {
-            java.util.List<GripField> items = schema.getMutations();
-            for (int i = start; i < Math.min(end, items.size()); i++) {
-                children.add(new DefaultMutableTreeNode(new SchemaTreeNode(items.get(i), "Mutation", schema)));
-            }
-        } else if (parentLabel.startsWith("Subscriptions")) {
-            java.util.List<GripField> items = schema.getSubscriptions();
-            for (int i = start; i < Math.min(end, items.size()); i++) {
-                children.add(new DefaultMutableTreeNode(new SchemaTreeNode(items.get(i), "Subscription", schema)));
-            }
-        } else if (parentLabel.startsWith("Types")) {
-            java.util.List<GripType> allTypes = new ArrayList<>();
-            for (GripType type : schema.getAllTypes()) {
-                if (!type.getName().startsWith("__")) allTypes.add(type);
-            }
-            for (int i = start; i < Math.min(end, allTypes.size()); i++) {
-                GripType type = allTypes.get(i);
-                DefaultMutableTreeNode typeNode = new DefaultMutableTreeNode(
-                        new TypeTreeNode(type.getName(), type.getKind().toString(), schema));
-                typeNode.add(new DefaultMutableTreeNode("Loading..."));
-                children.add(typeNode);
-            }
-        }
+    private static boolean isIndexing(SchemaTabData tabData) {
+        return tabData.index != null && !tabData.index.isDone();
     }
 
-    private void addArgumentNodes(DefaultMutableTreeNode parent, GripField field, GripSchema schema) {
-        if (!field.getArguments().isEmpty()) {
-            DefaultMutableTreeNode argsNode = new DefaultMutableTreeNode("Arguments");
-            for (GripArgument arg : field.getArguments()) {
-                String argType = arg.getType() != null ? arg.getType().toGraphQLString() : "Unknown";
-                argsNode.add(new DefaultMutableTreeNode(arg.getName() + ": " + argType));
-            }
-            parent.add(argsNode);
+    private void applyPendingDiscoveries() {
+        if (liveTab != null && !isIndexing(liveTab)) {
+            applyPendingDiscoveries(liveTab);
         }
     }
 
-    private void filterSchemaTree(SchemaTabData tabData, String filter) {
-        if (tabData.schema == null) return;
+    private void applyPendingDiscoveries(SchemaTabData tab) {
+        if (tab.schema == null) return;
 
-        String lowerFilter = filter.toLowerCase().trim();
-
-        if (lowerFilter.isEmpty()) {
-            populateSchemaTreeForTab(tabData.schema, tabData);
-            return;
+        GripSchema schema = tab.schema;
+        int applied = 0;
+        SchemaDiscoveryEvent event;
+        while ((event = pendingDiscoveries.poll()) != null) {
+            applyDiscovery(schema, event);
+            applied++;
         }
+        if (applied == 0) return;
 
-        tabData.rootNode.removeAllChildren();
-        tabData.rootNode.setUserObject("Schema (filtered: \"" + filter + "\")");
-
-        GripSchema schema = tabData.schema;
+        schema.invalidateCache();
+        if (tab.filtered) {
+            tab.searchStale = true;
+        } else {
+            tab.treeModel.refresh(tab.tree.getExpandedDescendants(new TreePath(tab.treeModel.getRoot())));
+        }
+    }
 
-        int queryCount = filterOperationFields(tabData.rootNode, "Queries", "Query", schema.getQueries(), lowerFilter, schema);
-        int mutationCount = filterOperationFields(tabData.rootNode, "Mutations", "Mutation", schema.getMutations(), lowerFilter, schema);
-        int subCount = filterOperationFields(tabData.rootNode, "Subscriptions", "Subscription", schema.getSubscriptions(), lowerFilter, schema);
-
-        DefaultMutableTreeNode typesNode = new DefaultMutableTreeNode("Types");
-        int typeCount = 0;
-        for (GripType type : schema.getAllTypes()) {
-            if (type.getName().startsWith("__")) continue;
-            if (type.getName().toLowerCase().contains(lowerFilter)) {
-                DefaultMutableTreeNode typeNode = new DefaultMutableTreeNode(type.getName() + " (" + type.getKind() + ")");
-                for (GripField field : type.getFields()) {
-                    String fts = field.getType() != null ? field.getType().toGraphQLString() : "Unknown";
-                    typeNode.add(new DefaultMutableTreeNode(field.getName() + ": " + fts));
+    private void applyDiscovery(GripSchema schema, SchemaDiscoveryEvent event) {
+        if (event instanceof FieldDiscoveredEvent found) {
+            GripType type = liveType(schema, found.getTypeName(), found.getTypeKind());
+            if (found.isInputField()) {
+                for (GripField existing : type.getInputFields()) {
+                    if (existing.getName().equals(found.getFieldName())) {
+                        if (found.getFieldType() != null) existing.setType(found.getFieldType());
+                        return;
+                    }
                 }
-                typesNode.add(typeNode);
-                typeCount++;
+                type.addInputField(new GripField(found.getFieldName(), found.getFieldType()));
+            } else if (type.getField(found.getFieldName()) == null) {
+                type.addField(new GripField(found.getFieldName(), found.getFieldType()));
+            }
+        } else if (event instanceof TypeResolvedEvent resolved) {
+            liveField(schema, resolved.getTypeName(), resolved.getFieldName()).setType(resolved.getResolvedType());
+        } else if (event instanceof ArgumentDiscoveredEvent argument) {
+            GripField field = liveField(schema, argument.getTypeName(), argument.getFieldName());
+            GripArgument existing = field.getArgument(argument.getArgumentName());
+            if (existing == null) {
+                field.addArgument(new GripArgument(argument.getArgumentName(), argument.getArgumentType()));
+            } else if (argument.getArgumentType() != null) {
+                existing.setType(argument.getArgumentType());
             }
         }
-        if (typeCount > 0) {
-            typesNode.setUserObject("Types (" + typeCount + " matches)");
-            tabData.rootNode.add(typesNode);
+    }
+
+    private GripType liveType(GripSchema schema, String typeName, GripTypeKind kind) {
+        GripType type = schema.getType(typeName);
+        if (type == null) {
+            type = new GripType(typeName, kind != null ? kind : GripTypeKind.OBJECT);
+            schema.addType(type);
+            if ("Mutation".equals(typeName)) {
+                schema.setMutationTypeName(typeName);
+            }
         }
+        return type;
+    }
 
-        tabData.treeModel.reload();
+    private GripField liveField(GripSchema schema, String typeName, String fieldName) {
+        GripType type = liveType(schema, typeName, GripTypeKind.OBJECT);
+        GripField field = type.getField(fieldName);
+        if (field == null) {
+            field = new GripField(fieldName, GripTypeRef.simple("Unknown"));
+            type.addField(field);
+        }
+        return field;
+    }
 
-        for (int i = 0; i < tabData.rootNode.getChildCount(); i++) {
-            DefaultMutableTreeNode child = (DefaultMutableTreeNode) tabData.rootNode.getChildAt(i);
-            tabData.tree.expandPath(new TreePath(child.getPath()));
+    private void populateHeadersFromClient(SchemaTabData tabData) {
+        if (tabData.headersTableModel == null) return;
+        Map<String, String> inherited = core.getHttpClient().getInheritedHeaders();
+        if (inherited.isEmpty()) return;
+        tabData.headersTableModel.setRowCount(0);
+        tabData.headersTableModel.addRow(new Object[]{"Content-Type", "application/json"});
+        for (Map.Entry<String, String> entry : inherited.entrySet()) {
+            if ("Content-Type".equalsIgnoreCase(entry.getKey())) continue;
+            tabData.headersTableModel.addRow(new Object[]{entry.getKey(), entry.getValue()});
         }
+    }
 
-        int total = queryCount + mutationCount + subCount + typeCount;
-        showStatus("Found " + total + " matches for \"" + filter + "\"", false);
+    private static String searchQuery(JTextField field) {
+        String text = field.getText().trim();
+        return text.equals(SEARCH_PLACEHOLDER) ? "" : text;
     }
 
-    private int filterOperationFields(DefaultMutableTreeNode root, String categoryName, String opType,
-            java.util.List<GripField> fields, String lowerFilter, GripSchema schema) {
-        DefaultMutableTreeNode categoryNode = new DefaultMutableTreeNode(categoryName);
-        int count = 0;
-        for (GripField field : fields) {
-            if (matchesFilter(field, lowerFilter)) {
-                SchemaTreeNode stn = new SchemaTreeNode(field, opType, schema);
-                DefaultMutableTreeNode fieldNode = new DefaultMutableTreeNode(stn);
-                addArgumentNodes(fieldNode, field, schema);
-                categoryNode.add(fieldNode);
-                count++;
-            }
-        }
-        if (count > 0) {
-            categoryNode.setUserObject(categoryName + " (" + count + " matches)");
-            root.add(categoryNode);
-        }
-        return count;
+    private CompletableFuture<GripSchemaIndex> indexFor(SchemaTabData tabData) {
+        GripSchema schema = tabData.schema;
+        CompletableFuture<GripSchemaIndex> index = tabData.index;
+        if (index != null && !index.isCompletedExceptionally() &&
+                tabData.indexedSchema == schema && tabData.indexedVersion == schema.getVersion()) {
+            return index;
+        }
+        tabData.indexedSchema = schema;
+        tabData.indexedVersion = schema.getVersion();
+        tabData.index = GripSchemaIndex.buildAsync(schema);
+        return tabData.index;
     }
 
-    private boolean matchesFilter(GripField field, String lowerFilter) {
-        if (field.getName().toLowerCase().contains(lowerFilter)) {
-            return true;
-        }
-        if (field.getType() != null) {
-            String typeName = field.getType().getName();
-            if (typeName != null && typeName.toLowerCase().contains(lowerFilter)) {
-                return true;
+    private void runSchemaSearch(SchemaTabData tabData, String query) {
+        if (tabData.schema == null) return;
+
+        long generation = ++tabData.searchGeneration;
+        tabData.searchText = query;
+        tabData.searchStale = false;
+        if (query.isEmpty()) {
+            if (tabData.filtered) {
+                populateSchemaTreeForTab(tabData.schema, tabData);
             }
+            return;
         }
-        for (GripArgument arg : field.getArguments()) {
-            if (arg.getName().toLowerCase().contains(lowerFilter)) {
-                return true;
-            }
+        tabData.filtered = true;
+
+        GripSchema schema = tabData.schema;
+        indexFor(tabData)
+                .thenCompose(index -> index.searchAsync(query, () -> tabData.searchGeneration != generation))
+                .whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+                    if (generation != tabData.searchGeneration || tabData.schema != schema) return;
+                    if (error != null) {
+                        Throwable cause = error;
+                        while (cause instanceof CompletionException && cause.getCause() != null) {
+                            cause = cause.getCause();
+                        }
+                        if (!(cause instanceof CancellationException)) {
+                            showStatus("Schema search failed: " + cause.getMessage(), true);
+                        }
+                        return;
+                    }
+                    showSearchResults(tabData, result);
+                }));
+    }
+
+    private void showSearchResults(SchemaTabData tabData, GripSchemaIndex.Result result) {
+        tabData.treeModel.showSearch(result);
+        TreePath matches = tabData.treeModel.getCategoryPath(SchemaTreeModel.MATCHES);
+        if (matches != null) {
+            tabData.tree.expandPath(matches);
         }
-        return false;
+
+        showStatus("Found " + result.size() + " matches for \"" + result.getQuery() + "\" in " +
+                result.getTookMillis() + " ms", false);
     }
 
     private boolean isValidQuery(String text) {
@@ -1475,7 +1391,7 @@ public class GripMainTab extends JPanel {
         return "GraphQL";
     }
 
-    private String getCurrentEndpoint() {
+    public String getCurrentEndpoint() {
 
         if (currentSchemaTab != null && !currentSchemaTab.endpoint.isEmpty()) {
             return currentSchemaTab.endpoint;
@@ -1539,6 +1455,38 @@ public class GripMainTab extends JPanel {
         showStatus("Query copied to clipboard", false);
     }
 
+    private void copyAllOperations() {
+        GripSchema schema = (currentSchemaTab != null) ? currentSchemaTab.schema : currentSchema;
+        if (schema == null) {
+            showStatus("No schema loaded", true);
+            return;
+        }
+
+        long start = System.nanoTime();
+        GripQueryGenerator generator = GripQueryGenerator.forSchema(schema, core.getConfig());
+        CompletableFuture<Map<String, String>> operations = currentSchemaTab != null && currentSchemaTab.live
+                ? CompletableFuture.completedFuture(generator.generateAll())
+                : CompletableFuture.supplyAsync(generator::generateAll, core.getHttpClient().getExecutor());
+        operations.whenComplete((generated, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                showStatus("Error: " + error.getMessage(), true);
+                return;
+            }
+            if (generated.isEmpty()) {
+                showStatus("Schema has no operations", true);
+                return;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, String> op : generated.entrySet()) {
+                sb.append("# ").append(op.getKey()).append("\n").append(op.getValue()).append("\n");
+            }
+            java.awt.Toolkit.getDefaultToolkit().getSystemClipboard()
+                    .setContents(new java.awt.datatransfer.StringSelection(sb.toString()), null);
+            long tookMillis = (System.nanoTime() - start) / 1_000_000;
+            showStatus("Copied " + generated.size() + " operations to clipboard (" + tookMillis + " ms)", false);
+        }));
+    }
+
     private void importSchemaFromFile() {
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setDialogTitle("Import GraphQL Schema");
@@ -1778,6 +1726,13 @@ public class GripMainTab extends JPanel {
         }, core.getHttpClient().getExecutor());
     }
 
+    public void dispose() {
+        discoveryTimer.stop();
+        if (scanLog != null) {
+            scanLog.dispose();
+        }
+    }
+
     public void selectTab(int tabIndex) {
         if (tabIndex >= 0 && tabIndex < tabbedPane.getTabCount()) {
             tabbedPane.setSelectedIndex(tabIndex);
@@ -1797,6 +1752,7 @@ public class GripMainTab extends JPanel {
             blindBtn.setEnabled(!isScanning);
             fingerprintBtn.setEnabled(!isScanning);
             discoverBtn.setEnabled(!isScanning);
+            learnedBtn.setEnabled(!isScanning);
             cancelBtn.setVisible(isScanning);
         });
     }
@@ -1854,6 +1810,76 @@ public class GripMainTab extends JPanel {
         return btn;
     }
 
+    private GripSchema learnedSchema(String endpoint) {
+        GripSchemaLearner learner = core.getModule(GripSchemaLearner.class);
+        return learner != null ? learner.getSchema(endpoint) : null;
+    }
+
+    private void openLearnedSchema() {
+        String endpoint = targetField.getText().trim();
+        if (endpoint.isEmpty() || !isValidUrl(endpoint)) {
+            clearLog();
+            appendLogStyled("✗ Error: Enter the endpoint URL whose traffic should be used", "error");
+            return;
+        }
+        GripSchema schema = learnedSchema(endpoint);
+        if (schema == null) {
+            appendLog("[!] No GraphQL responses observed for " + endpoint + " yet. Browse the app through Burp first.");
+            return;
+        }
+        GripSchemaLearner learner = core.getModule(GripSchemaLearner.class);
+        appendLog("[+] Learned schema from " + learner.getResponseCount(endpoint) + " response(s): " +
+            schema.getTypeCount() + " types, " + schema.getTotalFieldCount() + " fields (partial)");
+        currentSchema = schema;
+        getOrCreateSchemaTab();
+        SchemaTabData target = currentSchemaTab;
+        target.endpoint = endpoint;
+        if (target.endpointField != null) {
+            target.endpointField.setText(endpoint);
+        }
+        populateSchemaTreeForTab(schema, target);
+        tabbedPane.setSelectedIndex(1);
+    }
+
+    private String engineFor(String endpoint) {
+        String engine = detectedEngines.get(endpoint);
+        if (engine == null) {
+            GripPassiveFingerprinter.Verdict passive = passiveVerdict(endpoint);
+            if (passive != null && "High".equals(passive.confidence)) {
+                engine = passive.engine;
+            }
+        }
+        return engine;
+    }
+
+    private GripPassiveFingerprinter.Verdict passiveVerdict(String endpoint) {
+        GripPassiveFingerprinter passive = core.getModule(GripPassiveFingerprinter.class);
+        if (passive == null || endpoint == null) {
+            return null;
+        }
+        try {
+            return passive.getVerdict(new java.net.URI(endpoint.trim()).getHost());
+        } catch (java.net.URISyntaxException e) {
+            return null;
+        }
+    }
+
+    private void refreshPassiveVerdict() {
+        GripPassiveFingerprinter.Verdict verdict = passiveVerdict(targetField.getText());
+        if (verdict == null) {
+            passiveVerdictLabel.setText(" ");
+            passiveVerdictLabel.setToolTipText(null);
+        } else {
+            passiveVerdictLabel.setText("Passive: " + describeVerdict(verdict));
+            passiveVerdictLabel.setToolTipText(String.join("; ", verdict.evidence));
+        }
+    }
+
+    private static String describeVerdict(GripPassiveFingerprinter.Verdict verdict) {
+        return verdict.engine + (verdict.version != null ? " " + verdict.version : "") +
+            " (" + verdict.confidence + ", " + verdict.responsesSeen + " responses seen)";
+    }
+
     private void addPlaceholder(JTextField field, String placeholder) {
         field.setForeground(Color.GRAY);
         field.setText(placeholder);
@@ -1920,188 +1946,21 @@ public class GripMainTab extends JPanel {
         }
     }
 
-    private static class SchemaTreeNode {
-        private final GripField field;
-        private final String operationType;
-        private final GripSchema schema;
-
-        public SchemaTreeNode(GripField field, String operationType, GripSchema schema) {
-            this.field = field;
-            this.operationType = operationType;
-            this.schema = schema;
-        }
-
-        public String getDisplayName() {
-            StringBuilder sb = new StringBuilder(field.getName());
-            if (!field.getArguments().isEmpty()) {
-                sb.append("(");
-                for (int i = 0; i < field.getArguments().size(); i++) {
-                    if (i > 0) sb.append(", ");
-                    GripArgument arg = field.getArguments().get(i);
-                    sb.append(arg.getName()).append(": ");
-                    sb.append(arg.getType() != null ? arg.getType().toGraphQLString() : "Unknown");
-                }
-                sb.append(")");
-            }
-            sb.append(": ").append(field.getType() != null ? field.getType().toGraphQLString() : "Unknown");
-            return sb.toString();
-        }
-
-        public boolean isQuery() { return "Query".equals(operationType); }
-        public boolean isMutation() { return "Mutation".equals(operationType); }
-        public boolean isSubscription() { return "Subscription".equals(operationType); }
-
-        public String generateQuery() {
-            StringBuilder sb = new StringBuilder();
-            String opKeyword = operationType.toLowerCase();
-            sb.append(opKeyword).append(" {\n");
-            sb.append("  ").append(field.getName());
-
-            if (!field.getArguments().isEmpty()) {
-                sb.append("(");
-                for (int i = 0; i < field.getArguments().size(); i++) {
-                    if (i > 0) sb.append(", ");
-                    GripArgument arg = field.getArguments().get(i);
-                    sb.append(arg.getName()).append(": ");
-                    sb.append(arg.getType() != null ? getPlaceholderValue(arg.getType()) : "\"placeholder\"");
-                }
-                sb.append(")");
-            }
-
-            boolean needsSelection = true;
-            if (field.getType() != null) {
-                String rtName = field.getType().getName();
-                if (rtName != null) {
-                    GripType rt = schema.getType(rtName);
-                    needsSelection = rt != null && rt.getKind() != GripTypeKind.SCALAR && rt.getKind() != GripTypeKind.ENUM;
-                }
-            }
-
-            if (needsSelection) {
-                sb.append(" {\n");
-                if (field.getType() != null) {
-                    java.util.Set<String> visited = new java.util.HashSet<>();
-                    addReturnFields(sb, field.getType(), 2, visited);
-                } else {
-                    sb.append("    __typename\n");
-                }
-                sb.append("  }\n");
-            } else {
-                sb.append("\n");
-            }
-            sb.append("}\n");
-
-            return sb.toString();
-        }
-
-        private String getPlaceholderValue(GripTypeRef type) {
-            if (type == null) return "\"placeholder\"";
-            String name = type.getName();
-            if (name == null) name = "String";
-
-            if (type.isList()) {
-                String itemValue = getScalarPlaceholder(name);
-                return "[" + itemValue + "]";
-            }
-
-            GripType inputType = schema.getType(name);
-            if (inputType != null && (inputType.getKind() == GripTypeKind.INPUT_OBJECT ||
-                    name.endsWith("Input"))) {
-                return buildInputPlaceholder(inputType);
-            }
-
-            return getScalarPlaceholder(name);
-        }
-
-        private String getScalarPlaceholder(String typeName) {
-
-            return switch (typeName) {
-                case "String" -> "\"example\"";
-                case "ID" -> "\"1\"";
-                case "Int" -> "0";
-                case "Float" -> "0.0";
-                case "Boolean" -> "true";
-                default -> "\"placeholder\"";
-            };
-        }
-
-        private String buildInputPlaceholder(GripType inputType) {
-            StringBuilder sb = new StringBuilder("{ ");
-            List<GripField> fields = inputType.getFields();
-            for (int i = 0; i < Math.min(fields.size(), 3); i++) {
-                if (i > 0) sb.append(", ");
-                GripField f = fields.get(i);
-                sb.append(f.getName()).append(": ");
-                String tn = (f.getType() != null && f.getType().getName() != null) ? f.getType().getName() : "String";
-                sb.append(getScalarPlaceholder(tn));
-            }
-            sb.append(" }");
-            return sb.toString();
-        }
-
-        private void addReturnFields(StringBuilder sb, GripTypeRef typeRef, int depth, java.util.Set<String> visited) {
-            String indent = "  ".repeat(depth);
-            if (typeRef == null) {
-                sb.append(indent).append("__typename\n");
-                return;
-            }
-
-            String typeName = typeRef.getName();
-            if (typeName == null || visited.contains(typeName)) {
-                sb.append(indent).append("__typename\n");
-                return;
-            }
-
-            GripType type = schema.getType(typeName);
-            if (type == null) {
-                sb.append(indent).append("__typename\n");
-                return;
-            }
-
-            visited.add(typeName);
-
-            int count = 0;
-            int nestedCount = 0;
-            for (GripField f : type.getFields()) {
-                String fieldType = f.getType().getName();
-                GripType subType = schema.getType(fieldType);
-
-                if (subType == null || subType.getKind() == GripTypeKind.SCALAR ||
-                        subType.getKind() == GripTypeKind.ENUM) {
-
-                    sb.append(indent).append(f.getName()).append("\n");
-                    count++;
-                } else if (depth < 3 && nestedCount < 3) {
-
-                    sb.append(indent).append(f.getName()).append(" {\n");
-                    addReturnFields(sb, f.getType(), depth + 1, visited);
-                    sb.append(indent).append("}\n");
-                    count++;
-                    nestedCount++;
-                }
-            }
-
-            if (count == 0) {
-                sb.append(indent).append("__typename\n");
-            }
-
-            visited.remove(typeName);
-        }
-
-        @Override
-        public String toString() {
-            return getDisplayName();
-        }
-    }
-
     private static class SchemaTabData {
         String endpoint = "";
         GripSchema schema;
         boolean filtered;
+        boolean live;
+
+        CompletableFuture<GripSchemaIndex> index;
+        GripSchema indexedSchema;
+        long indexedVersion;
+        volatile long searchGeneration;
+        String searchText = "";
+        boolean searchStale;
 
         JTree tree;
-        DefaultMutableTreeNode rootNode;
-        DefaultTreeModel treeModel;
+        SchemaTreeModel treeModel;
         JTextArea queryPreviewArea;
 
         SchemaGraphPanel graphPanel;
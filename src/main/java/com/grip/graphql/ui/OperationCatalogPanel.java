@@ -0,0 +1,329 @@
+package com.grip.graphql.ui;
+
+import burp.api.montoya.http.message.requests.HttpRequest;
+import com.google.gson.JsonObject;
+import com.grip.graphql.GripCore;
+import com.grip.graphql.event.OperationCatalogedEvent;
+import com.grip.graphql.traffic.GripBundleMiner;
+import com.grip.graphql.traffic.GripOperationCatalog;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableRowSorter;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class OperationCatalogPanel extends JPanel {
+
+    private static final int REFRESH_INTERVAL_MS = 1000;
+
+    private final GripCore core;
+    private final GripOperationCatalog catalog;
+    private final OperationTableModel model = new OperationTableModel();
+    private final JTable table;
+    private final TableRowSorter<OperationTableModel> sorter;
+    private final JTextArea documentArea;
+    private final JLabel statusLabel;
+    private long lastVersion = -1;
+
+    private static class OperationTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Type", "Operation", "Hits", "Endpoints", "Last Seen", "Source"};
+        private final List<GripOperationCatalog.Operation> rows = new ArrayList<>();
+        private final Set<String> signatures = new HashSet<>();
+        private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+
+        void add(GripOperationCatalog.Operation operation) {
+            if (signatures.add(operation.signature)) {
+                rows.add(operation);
+                fireTableRowsInserted(rows.size() - 1, rows.size() - 1);
+            }
+        }
+
+        void clear() {
+            rows.clear();
+            signatures.clear();
+            fireTableDataChanged();
+        }
+
+        GripOperationCatalog.Operation get(int row) {
+            return rows.get(row);
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column == 2 || column == 3 ? Long.class : String.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            GripOperationCatalog.Operation operation = rows.get(row);
+            switch (column) {
+                case 0: return operation.operationType;
+                case 1: return operation.getDisplayName();
+                case 2: return operation.getHits();
+                case 3: return (long) operation.getEndpoints().size();
+                case 4: return timeFormat.format(new Date(operation.getLastSeen()));
+                default: return operation.source;
+            }
+        }
+    }
+
+    @SuppressWarnings("this-escape")
+    public OperationCatalogPanel(GripCore core) {
+        super(new BorderLayout(10, 10));
+        this.core = core;
+        this.catalog = core.getModule(GripOperationCatalog.class);
+        GripTheme theme = core.getTheme();
+        setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        JTextField filterField = new JTextField(24);
+        filterField.setFont(theme.getNormalFont());
+        filterField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            @Override
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { applyFilter(filterField.getText()); }
+            @Override
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { applyFilter(filterField.getText()); }
+            @Override
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { applyFilter(filterField.getText()); }
+        });
+
+        JButton repeaterBtn = new JButton("Send to Repeater");
+        theme.stylePrimaryButton(repeaterBtn);
+        repeaterBtn.addActionListener(e -> sendToRepeater());
+
+        JButton intruderBtn = new JButton("Send to Intruder");
+        intruderBtn.addActionListener(e -> sendToIntruder());
+
+        JButton scanBtn = new JButton("Scan Endpoint");
+        scanBtn.addActionListener(e -> scanEndpoint());
+
+        JButton mineBtn = new JButton("Mine JS Bundles");
+        mineBtn.setToolTipText("Extract GraphQL operations from JavaScript in proxy history and the site map");
+        mineBtn.addActionListener(e -> mineBundles(mineBtn));
+
+        JButton clearBtn = new JButton("Clear");
+        clearBtn.addActionListener(e -> clear());
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(theme.getNormalFont());
+        statusLabel.setForeground(theme.getSecondaryText());
+
+        JPanel toolbar = new JPanel(new FlowLayout(FlowLayout.LEFT, GripTheme.SPACING_SM, GripTheme.SPACING_SM));
+        toolbar.add(new JLabel("Filter:"));
+        toolbar.add(filterField);
+        toolbar.add(repeaterBtn);
+        toolbar.add(intruderBtn);
+        toolbar.add(scanBtn);
+        toolbar.add(mineBtn);
+        toolbar.add(clearBtn);
+        toolbar.add(Box.createHorizontalStrut(GripTheme.SPACING_MD));
+        toolbar.add(statusLabel);
+
+        table = new JTable(model);
+        table.setFont(theme.getNormalFont());
+        table.setRowHeight(22);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        sorter = new TableRowSorter<>(model);
+        table.setRowSorter(sorter);
+        table.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) showSelected();
+        });
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) sendToRepeater();
+            }
+        });
+
+        JScrollPane tableScroll = new JScrollPane(table);
+        tableScroll.setBorder(theme.createTitledBorder("Observed Operations (double-click to send to Repeater)"));
+
+        documentArea = new JTextArea();
+        documentArea.setFont(theme.getCodeFont());
+        documentArea.setEditable(false);
+        JScrollPane documentScroll = new JScrollPane(documentArea);
+        documentScroll.setBorder(theme.createTitledBorder("Document"));
+
+        JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, tableScroll, documentScroll);
+        split.setResizeWeight(0.55);
+
+        add(toolbar, BorderLayout.NORTH);
+        add(split, BorderLayout.CENTER);
+
+        if (catalog == null) {
+            statusLabel.setText("Operation catalog is not available");
+        } else {
+            List<GripOperationCatalog.Operation> existing = catalog.getOperations();
+            existing.sort(Comparator.comparingLong(operation -> operation.firstSeen));
+            existing.forEach(model::add);
+            core.getEventBus().subscribe(OperationCatalogedEvent.class, event -> SwingUtilities.invokeLater(() -> {
+                GripOperationCatalog.Operation operation = catalog.getOperation(event.getSignature());
+                if (operation != null) model.add(operation);
+            }));
+            Timer refresh = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+            refresh.start();
+        }
+
+        core.getApi().userInterface().applyThemeToComponent(this);
+    }
+
+    private void refresh() {
+        long version = catalog.getVersion();
+        if (version == lastVersion || !isShowing()) {
+            return;
+        }
+        lastVersion = version;
+        if (model.getRowCount() > 0) {
+            model.fireTableRowsUpdated(0, model.getRowCount() - 1);
+        }
+        long requests = 0;
+        for (int row = 0; row < model.getRowCount(); row++) {
+            requests += model.get(row).getHits();
+        }
+        statusLabel.setText(model.getRowCount() + " operation(s) from " + requests + " request(s)");
+    }
+
+    private void applyFilter(String text) {
+        if (text == null || text.isBlank()) {
+            sorter.setRowFilter(null);
+        } else {
+            sorter.setRowFilter(RowFilter.regexFilter("(?i)" + Pattern.quote(text.trim()), 0, 1, 5));
+        }
+    }
+
+    private GripOperationCatalog.Operation selected() {
+        int row = table.getSelectedRow();
+        return row >= 0 ? model.get(table.convertRowIndexToModel(row)) : null;
+    }
+
+    private void showSelected() {
+        GripOperationCatalog.Operation operation = selected();
+        if (operation == null) {
+            documentArea.setText("");
+            return;
+        }
+        StringBuilder text = new StringBuilder(operation.document.trim()).append("\n\n");
+        text.append("# Signature: ").append(operation.signature).append('\n');
+        text.append("# Normalized: ").append(operation.canonical).append('\n');
+        for (String endpoint : operation.getEndpoints()) {
+            text.append("# Endpoint: ").append(endpoint).append('\n');
+        }
+        documentArea.setText(text.toString());
+        documentArea.setCaretPosition(0);
+    }
+
+    private HttpRequest requestFor(GripOperationCatalog.Operation operation) {
+        if (operation.getSampleRequest() != null) {
+            return operation.getSampleRequest();
+        }
+        List<String> endpoints = operation.getEndpoints();
+        String endpoint = endpoints.isEmpty() ? core.getMainTab().getCurrentEndpoint() : endpoints.get(0);
+        if (endpoint == null || endpoint.isEmpty()) {
+            return null;
+        }
+        JsonObject body = new JsonObject();
+        body.addProperty("query", operation.document);
+        if (operation.operationName != null) {
+            body.addProperty("operationName", operation.operationName);
+        }
+        return core.getHttpClient().buildPostRequest(endpoint, body.toString());
+    }
+
+    private void sendToRepeater() {
+        GripOperationCatalog.Operation operation = selected();
+        if (operation == null) {
+            statusLabel.setText("Select an operation first");
+            return;
+        }
+        HttpRequest request = requestFor(operation);
+        if (request == null) {
+            statusLabel.setText("No endpoint known for this operation");
+            return;
+        }
+        String tabName = "GraphQL Grip - " + operation.getDisplayName();
+        core.getApi().repeater().sendToRepeater(request, tabName);
+        statusLabel.setText("Sent to Repeater: " + tabName);
+    }
+
+    private void sendToIntruder() {
+        GripOperationCatalog.Operation operation = selected();
+        if (operation == null) {
+            statusLabel.setText("Select an operation first");
+            return;
+        }
+        HttpRequest request = requestFor(operation);
+        if (request == null) {
+            statusLabel.setText("No endpoint known for this operation");
+            return;
+        }
+        core.getApi().intruder().sendToIntruder(request);
+        statusLabel.setText("Sent to Intruder: " + operation.getDisplayName());
+    }
+
+    private void scanEndpoint() {
+        GripOperationCatalog.Operation operation = selected();
+        if (operation == null || operation.getEndpoints().isEmpty()) {
+            statusLabel.setText("Select an operation with a known endpoint");
+            return;
+        }
+        if (operation.getSampleRequest() != null) {
+            core.getHttpClient().setRequestTemplate(operation.getSampleRequest());
+        }
+        core.getMainTab().setTargetEndpoint(operation.getEndpoints().get(0));
+        core.getMainTab().selectTab(0);
+    }
+
+    private void mineBundles(JButton mineBtn) {
+        GripBundleMiner miner = core.getModule(GripBundleMiner.class);
+        if (miner == null) {
+            statusLabel.setText("Bundle miner is not available");
+            return;
+        }
+        mineBtn.setEnabled(false);
+        statusLabel.setText("Mining JavaScript bundles...");
+        miner.mine(msg -> core.log(msg)).whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            mineBtn.setEnabled(true);
+            if (error != null) {
+                statusLabel.setText("Bundle mining failed: " + error.getMessage());
+                core.logError("Bundle mining failed: " + error.getMessage());
+                return;
+            }
+            statusLabel.setText("Scanned " + result.bundles + " bundle(s) (" + (result.bytes / 1024) + " KB): " +
+                result.documents + " new document(s), " + result.operations + " operation name(s), " +
+                result.fieldNames + " field name(s)");
+        }));
+    }
+
+    private void clear() {
+        model.clear();
+        documentArea.setText("");
+        if (catalog != null) {
+            catalog.clear();
+        }
+        statusLabel.setText(" ");
+    }
+}
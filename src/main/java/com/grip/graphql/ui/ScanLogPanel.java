@@ -0,0 +1,515 @@
+package com.grip.graphql.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+public class ScanLogPanel extends JPanel {
+
+    private static final int CAPACITY = 20_000;
+    private static final int FRAME_MS = 40;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final String[] LEVEL_FILTERS = {"All levels", "Success", "Errors", "Info"};
+
+    enum Level {
+        NORMAL, HEADER, TITLE, INFO, SUCCESS, WARNING, ERROR, SEPARATOR
+    }
+
+    static final class Entry {
+        long seq;
+        final long time;
+        final Level level;
+        final String text;
+        final boolean timestamped;
+
+        Entry(long time, Level level, String text, boolean timestamped) {
+            this.time = time;
+            this.level = level;
+            this.text = text;
+            this.timestamped = timestamped;
+        }
+
+        @Override
+        public String toString() {
+            if (!timestamped) {
+                return text;
+            }
+            return "[" + LocalTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault()).format(TIME_FORMAT) + "] " + text;
+        }
+    }
+
+    static final class LogModel extends AbstractListModel<Entry> {
+        private final Entry[] ring = new Entry[CAPACITY];
+        private int head;
+        private int size;
+        private Predicate<Entry> filter;
+        private ArrayList<Entry> filtered = new ArrayList<>();
+
+        @Override
+        public int getSize() {
+            return filter == null ? size : filtered.size();
+        }
+
+        @Override
+        public Entry getElementAt(int index) {
+            return filter == null ? ring[(head + index) % CAPACITY] : filtered.get(index);
+        }
+
+        List<Entry> append(List<Entry> batch) {
+            List<Entry> evicted = new ArrayList<>();
+            int overflow = size + batch.size() - CAPACITY;
+            if (overflow > 0) {
+                int fromRing = Math.min(overflow, size);
+                for (int i = 0; i < fromRing; i++) {
+                    evicted.add(ring[(head + i) % CAPACITY]);
+                    ring[(head + i) % CAPACITY] = null;
+                }
+                head = (head + fromRing) % CAPACITY;
+                size -= fromRing;
+                if (overflow > fromRing) {
+                    evicted.addAll(batch.subList(0, overflow - fromRing));
+                    batch = batch.subList(overflow - fromRing, batch.size());
+                }
+                if (filter == null) {
+                    if (fromRing > 0) fireIntervalRemoved(this, 0, fromRing - 1);
+                } else {
+                    trimFiltered();
+                }
+            }
+
+            int start = getSize();
+            for (Entry entry : batch) {
+                ring[(head + size) % CAPACITY] = entry;
+                size++;
+                if (filter != null && filter.test(entry)) {
+                    filtered.add(entry);
+                }
+            }
+            if (getSize() > start) {
+                fireIntervalAdded(this, start, getSize() - 1);
+            }
+            return evicted;
+        }
+
+        private void trimFiltered() {
+            long oldest = size > 0 ? ring[head].seq : Long.MAX_VALUE;
+            int drop = 0;
+            while (drop < filtered.size() && filtered.get(drop).seq < oldest) {
+                drop++;
+            }
+            if (drop > 0) {
+                filtered.subList(0, drop).clear();
+                fireIntervalRemoved(this, 0, drop - 1);
+            }
+        }
+
+        Entry[] snapshot() {
+            Entry[] copy = new Entry[size];
+            for (int i = 0; i < size; i++) {
+                copy[i] = ring[(head + i) % CAPACITY];
+            }
+            return copy;
+        }
+
+        void applyFilter(Predicate<Entry> predicate, ArrayList<Entry> matches, long lastSeq) {
+            int previous = getSize();
+            filter = predicate;
+            filtered = new ArrayList<>();
+            if (predicate != null) {
+                long oldest = size > 0 ? ring[head].seq : Long.MAX_VALUE;
+                for (Entry entry : matches) {
+                    if (entry.seq >= oldest) filtered.add(entry);
+                }
+                for (int i = 0; i < size; i++) {
+                    Entry entry = ring[(head + i) % CAPACITY];
+                    if (entry.seq > lastSeq && predicate.test(entry)) filtered.add(entry);
+                }
+            }
+            if (previous > 0) fireIntervalRemoved(this, 0, previous - 1);
+            if (getSize() > 0) fireIntervalAdded(this, 0, getSize() - 1);
+        }
+
+        void clear() {
+            int previous = getSize();
+            java.util.Arrays.fill(ring, null);
+            head = 0;
+            size = 0;
+            filtered = new ArrayList<>();
+            if (previous > 0) fireIntervalRemoved(this, 0, previous - 1);
+        }
+    }
+
+    private static final Entry CLEAR = new Entry(0, Level.NORMAL, "", false);
+
+    private final LogModel model = new LogModel();
+    private final JList<Entry> list;
+    private final JScrollPane scroll;
+    private final JComboBox<String> levelBox;
+    private final JTextField searchField;
+    private final JLabel countLabel;
+    private final ConcurrentLinkedQueue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Timer flushTimer;
+    private final Timer searchTimer;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "grip-scan-log");
+        t.setDaemon(true);
+        return t;
+    });
+    private long nextSeq;
+    private long spilledLines;
+    private int filterGeneration;
+    private File spillFile;
+    private Writer spillWriter;
+    private volatile String spillError;
+
+    @SuppressWarnings("this-escape")
+    public ScanLogPanel(GripTheme theme) {
+        super(new BorderLayout(5, 5));
+
+        list = new JList<>(model);
+        list.setFont(theme.getCodeFont());
+        list.setFixedCellHeight(theme.getCodeFont().getSize() + 6);
+        list.setLayoutOrientation(JList.VERTICAL);
+        list.setCellRenderer(new EntryRenderer());
+
+        scroll = new JScrollPane(list);
+        scroll.getVerticalScrollBar().setUnitIncrement(16);
+
+        levelBox = new JComboBox<>(LEVEL_FILTERS);
+        levelBox.addActionListener(e -> refilter());
+
+        searchField = new JTextField(18);
+        searchField.setFont(theme.getNormalFont());
+        searchField.setToolTipText("Show only lines containing this text");
+        searchTimer = new Timer(200, e -> refilter());
+        searchTimer.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            @Override
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+        });
+
+        JButton saveBtn = new JButton("Save Log...");
+        saveBtn.setToolTipText("Save the full log, including lines no longer held in memory");
+        saveBtn.addActionListener(e -> saveLog());
+
+        countLabel = new JLabel(" ");
+        countLabel.setFont(theme.getNormalFont());
+        countLabel.setForeground(theme.getSecondaryText());
+
+        JPanel toolbar = new JPanel(new FlowLayout(FlowLayout.LEFT, GripTheme.SPACING_SM, 0));
+        toolbar.add(levelBox);
+        toolbar.add(new JLabel("Search:"));
+        toolbar.add(searchField);
+        toolbar.add(saveBtn);
+        toolbar.add(countLabel);
+
+        add(toolbar, BorderLayout.NORTH);
+        add(scroll, BorderLayout.CENTER);
+
+        flushTimer = new Timer(FRAME_MS, e -> flush());
+        flushTimer.setRepeats(false);
+    }
+
+    public void append(String message) {
+        Level level = Level.NORMAL;
+        boolean timestamped = true;
+        if (message.startsWith("[+]")) {
+            level = Level.SUCCESS;
+        } else if (message.startsWith("[-]") || message.startsWith("[!]")) {
+            level = Level.ERROR;
+        } else if (message.startsWith("[*]")) {
+            level = Level.INFO;
+        } else if (message.startsWith("===") || message.contains("====")) {
+            level = Level.HEADER;
+            timestamped = false;
+        }
+        enqueue(level, message, timestamped);
+    }
+
+    public void appendAll(List<String> messages) {
+        for (String message : messages) {
+            append(message);
+        }
+    }
+
+    public void appendStyled(String message, String style) {
+        Level level;
+        try {
+            level = Level.valueOf(style.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            level = Level.NORMAL;
+        }
+        enqueue(level, message, false);
+    }
+
+    public void clear() {
+        pending.add(CLEAR);
+        scheduleFlush();
+    }
+
+    private void enqueue(Level level, String text, boolean timestamped) {
+        for (String line : text.split("\n", -1)) {
+            pending.add(new Entry(System.currentTimeMillis(), level, line, timestamped));
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(flushTimer::restart);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        List<Entry> batch = new ArrayList<>();
+        Entry entry;
+        boolean cleared = false;
+        while ((entry = pending.poll()) != null) {
+            if (entry == CLEAR) {
+                batch.clear();
+                cleared = true;
+                continue;
+            }
+            entry.seq = nextSeq++;
+            batch.add(entry);
+        }
+        if (cleared) {
+            model.clear();
+            spilledLines = 0;
+            worker.execute(this::resetSpill);
+            updateCount();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        JScrollBar bar = scroll.getVerticalScrollBar();
+        boolean following = bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - list.getFixedCellHeight();
+
+        List<Entry> evicted = model.append(batch);
+        if (!evicted.isEmpty()) {
+            spilledLines += evicted.size();
+            worker.execute(() -> spill(evicted));
+        }
+        if (following && model.getSize() > 0) {
+            list.ensureIndexIsVisible(model.getSize() - 1);
+        }
+        updateCount();
+    }
+
+    private void updateCount() {
+        String text = model.size + " line(s)";
+        if (model.filter != null) {
+            text = model.getSize() + " of " + text;
+        }
+        if (spillError != null) {
+            text += ", older lines dropped (spill failed: " + spillError + ")";
+        } else if (spilledLines > 0) {
+            text += ", " + spilledLines + " older line(s) on disk";
+        }
+        countLabel.setText(text);
+    }
+
+    private void refilter() {
+        String level = (String) levelBox.getSelectedItem();
+        String query = searchField.getText().trim().toLowerCase(Locale.ROOT);
+        Predicate<Entry> predicate = null;
+        if (!LEVEL_FILTERS[0].equals(level)) {
+            Level wanted = "Success".equals(level) ? Level.SUCCESS : "Errors".equals(level) ? Level.ERROR : Level.INFO;
+            predicate = entry -> entry.level == wanted;
+        }
+        if (!query.isEmpty()) {
+            Predicate<Entry> text = entry -> entry.text.toLowerCase(Locale.ROOT).contains(query);
+            predicate = predicate == null ? text : predicate.and(text);
+        }
+
+        int generation = ++filterGeneration;
+        if (predicate == null) {
+            model.applyFilter(null, null, 0);
+            updateCount();
+            return;
+        }
+
+        Entry[] snapshot = model.snapshot();
+        long lastSeq = snapshot.length > 0 ? snapshot[snapshot.length - 1].seq : -1;
+        Predicate<Entry> filter = predicate;
+        countLabel.setText("Searching...");
+        CompletableFuture.supplyAsync(() -> {
+            ArrayList<Entry> matches = new ArrayList<>();
+            for (Entry entry : snapshot) {
+                if (filter.test(entry)) matches.add(entry);
+            }
+            return matches;
+        }, worker).thenAccept(matches -> SwingUtilities.invokeLater(() -> {
+            if (generation == filterGeneration) {
+                model.applyFilter(filter, matches, lastSeq);
+                updateCount();
+            }
+        }));
+    }
+
+    private void spill(List<Entry> evicted) {
+        if (spillError != null) {
+            return;
+        }
+        try {
+            if (spillWriter == null) {
+                spillFile = File.createTempFile("grip-scan-log", ".log");
+                spillFile.deleteOnExit();
+                spillWriter = Files.newBufferedWriter(spillFile.toPath(), StandardCharsets.UTF_8);
+            }
+            for (Entry entry : evicted) {
+                spillWriter.write(entry.toString());
+                spillWriter.write('\n');
+            }
+            spillWriter.flush();
+        } catch (IOException e) {
+            spillError = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            closeSpillWriter();
+            SwingUtilities.invokeLater(this::updateCount);
+        }
+    }
+
+    private void closeSpillWriter() {
+        try {
+            if (spillWriter != null) {
+                spillWriter.close();
+            }
+        } catch (IOException e) {
+
+        }
+        spillWriter = null;
+    }
+
+    private void resetSpill() {
+        closeSpillWriter();
+        try {
+            if (spillFile != null) {
+                Files.deleteIfExists(spillFile.toPath());
+            }
+        } catch (IOException e) {
+
+        }
+        spillFile = null;
+        spillError = null;
+    }
+
+    public void dispose() {
+        flushTimer.stop();
+        searchTimer.stop();
+        worker.execute(this::resetSpill);
+        worker.shutdown();
+    }
+
+    private void saveLog() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Save Scan Log");
+        fileChooser.setSelectedFile(new File("grip-scan.log"));
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File target = fileChooser.getSelectedFile();
+        Entry[] snapshot = model.snapshot();
+        CompletableFuture.runAsync(() -> {
+            try {
+                if (spillFile != null) {
+                    Files.copy(spillFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    Files.deleteIfExists(target.toPath());
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(target.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (Entry entry : snapshot) {
+                        writer.write(entry.toString());
+                        writer.write('\n');
+                    }
+                }
+            } catch (IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+        }, worker).whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> countLabel.setText(
+            error != null ? "Save failed: " + error.getCause().getMessage() : "Saved to " + target.getName())));
+    }
+
+    private static final Color SUCCESS_COLOR = new Color(46, 160, 67);
+    private static final Color ERROR_COLOR = new Color(220, 53, 69);
+    private static final Color WARNING_COLOR = new Color(255, 193, 7);
+    private static final Color INFO_COLOR = new Color(13, 110, 253);
+    private static final Color SEPARATOR_COLOR = new Color(108, 117, 125);
+
+    private static class EntryRenderer extends DefaultListCellRenderer {
+        private long stampSecond = -1;
+        private String stamp = "";
+        private Font plainFont;
+        private Font boldFont;
+
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+            Entry entry = (Entry) value;
+            if (entry.timestamped) {
+                long second = entry.time / 1000;
+                if (second != stampSecond) {
+                    stampSecond = second;
+                    stamp = "[" + LocalTime.ofInstant(Instant.ofEpochMilli(entry.time), ZoneId.systemDefault())
+                        .format(TIME_FORMAT) + "] ";
+                }
+                setText(stamp + entry.text);
+            } else {
+                setText(entry.text.isEmpty() ? " " : entry.text);
+            }
+
+            if (plainFont != list.getFont()) {
+                plainFont = list.getFont();
+                boldFont = plainFont.deriveFont(Font.BOLD);
+            }
+            boolean bold = entry.level == Level.TITLE || entry.level == Level.SUCCESS || entry.level == Level.ERROR;
+            setFont(bold ? boldFont : plainFont);
+            if (!isSelected) {
+                Color color = colorFor(entry.level);
+                if (color != null) setForeground(color);
+            }
+            return this;
+        }
+
+        private Color colorFor(Level level) {
+            switch (level) {
+                case HEADER:
+                case TITLE: return GripTheme.Colors.ACCENT;
+                case SUCCESS: return SUCCESS_COLOR;
+                case ERROR: return ERROR_COLOR;
+                case WARNING: return WARNING_COLOR;
+                case INFO: return INFO_COLOR;
+                case SEPARATOR: return SEPARATOR_COLOR;
+                default: return null;
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.grip.graphql.ui;
 
 import com.grip.graphql.GripCore;
 import com.grip.graphql.model.schema.*;
+import com.grip.graphql.schema.GripQueryGenerator;
 import com.google.gson.JsonObject;
 import burp.api.montoya.http.message.requests.HttpRequest;
 import javax.swing.*;
@@ -768,19 +769,10 @@ public class SchemaGraphPanel extends JPanel {
             return;
         }
 
-        StringBuilder queryBuilder = new StringBuilder();
-        String opType = node.name.equals(schema.getMutationTypeName()) ? "mutation" : "query";
-        queryBuilder.append(opType).append(" {\n");
+        GripQueryGenerator generator = GripQueryGenerator.forSchema(schema, core.getConfig());
+        String query = generator.generateOperation(generator.operationKeyword(node.name), node.type.getFields());
 
-        for (GripField field : node.type.getFields()) {
-            queryBuilder.append("  ").append(field.getName());
-            appendArgs(queryBuilder, field);
-            appendSelection(queryBuilder, field, 2);
-            queryBuilder.append("\n");
-        }
-        queryBuilder.append("}");
-
-        executeRepeaterSend(queryBuilder.toString(), node.name);
+        executeRepeaterSend(query, node.name);
     }
 
     private void sendFieldToRepeater(GraphNode parentNode, GripField field) {
@@ -790,78 +782,10 @@ public class SchemaGraphPanel extends JPanel {
             return;
         }
 
-        StringBuilder queryBuilder = new StringBuilder();
-        String opType = parentNode.name.equals(schema.getMutationTypeName()) ? "mutation" : "query";
-        queryBuilder.append(opType).append(" {\n");
-        queryBuilder.append("  ").append(field.getName());
-        appendArgs(queryBuilder, field);
-        appendSelection(queryBuilder, field, 2);
-        queryBuilder.append("\n}");
-
-        executeRepeaterSend(queryBuilder.toString(), field.getName());
-    }
+        GripQueryGenerator generator = GripQueryGenerator.forSchema(schema, core.getConfig());
+        String query = generator.generateOperation(generator.operationKeyword(parentNode.name), field);
 
-    private void appendArgs(StringBuilder sb, GripField field) {
-        if (field.getArguments().isEmpty()) return;
-
-        sb.append("(");
-        for (int i = 0; i < field.getArguments().size(); i++) {
-            if (i > 0) sb.append(", ");
-            GripArgument arg = field.getArguments().get(i);
-            sb.append(arg.getName()).append(": ").append(generatePlaceholder(arg.getType()));
-        }
-        sb.append(")");
-    }
-
-    private void appendSelection(StringBuilder sb, GripField field, int depth) {
-        String typeName = field.getType().getName();
-        if (typeName == null) return;
-
-        GripType fieldType = schema.getType(typeName);
-        if (fieldType == null || fieldType.getKind() == GripTypeKind.SCALAR ||
-                fieldType.getKind() == GripTypeKind.ENUM) {
-            return;
-        }
-
-        if (depth > 3) {
-            sb.append(" { __typename }");
-            return;
-        }
-
-        sb.append(" {\n");
-        String indent = "  ".repeat(depth + 1);
-        int count = 0;
-
-        for (GripField f : fieldType.getFields()) {
-            if (count >= 6) {
-                sb.append(indent).append("__typename\n");
-                break;
-            }
-            sb.append(indent).append(f.getName());
-
-            String subTypeName = f.getType().getName();
-            GripType subType = subTypeName != null ? schema.getType(subTypeName) : null;
-            if (subType != null && subType.getKind() == GripTypeKind.OBJECT && depth < 2) {
-                sb.append(" { __typename }");
-            }
-            sb.append("\n");
-            count++;
-        }
-
-        sb.append("  ".repeat(depth)).append("}");
-    }
-
-    private String generatePlaceholder(GripTypeRef typeRef) {
-        String name = typeRef.getName();
-        if (name == null) name = "String";
-
-        return switch (name) {
-            case "String", "ID" -> "\"<VALUE>\"";
-            case "Int" -> "0";
-            case "Float" -> "0.0";
-            case "Boolean" -> "true";
-            default -> "\"<" + name.toUpperCase() + ">\"";
-        };
+        executeRepeaterSend(query, field.getName());
     }
 
     private void executeRepeaterSend(String query, String tabName) {
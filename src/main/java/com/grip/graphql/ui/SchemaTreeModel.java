@@ -0,0 +1,488 @@
+package com.grip.graphql.ui;
+
+import com.grip.graphql.model.schema.*;
+import com.grip.graphql.schema.GripSchemaIndex;
+
+import javax.swing.event.EventListenerList;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class SchemaTreeModel implements TreeModel {
+
+    public static final String QUERIES = "Queries";
+    public static final String MUTATIONS = "Mutations";
+    public static final String SUBSCRIPTIONS = "Subscriptions";
+    public static final String TYPES = "Types";
+    public static final String MATCHES = "Matches";
+
+    private static final String[] BROWSE_CATEGORIES = {QUERIES, MUTATIONS, SUBSCRIPTIONS, TYPES};
+    private static final String[] SEARCH_CATEGORIES = {MATCHES};
+
+    public enum Kind { ROOT, CATEGORY, OPERATION, TYPE, MEMBER }
+
+    public static final class Node {
+        private final Kind kind;
+        private final String category;
+        private final String typeName;
+        private final String name;
+        private final int index;
+        private final Node parent;
+        private final GripType type;
+        private final GripField field;
+        private final String operation;
+        private final String label;
+
+        Node(Kind kind, String category, String typeName, String name, int index, Node parent,
+             GripType type, GripField field, String label) {
+            this(kind, category, typeName, name, index, parent, type, field, null, label);
+        }
+
+        Node(Kind kind, String category, String typeName, String name, int index, Node parent,
+             GripType type, GripField field, String operation, String label) {
+            this.kind = kind;
+            this.category = category;
+            this.typeName = typeName;
+            this.name = name;
+            this.index = index;
+            this.parent = parent;
+            this.type = type;
+            this.field = field;
+            this.operation = operation;
+            this.label = label;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public GripType getType() {
+            return type;
+        }
+
+        public GripField getField() {
+            return field;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public boolean isOperation() {
+            return kind == Kind.OPERATION;
+        }
+
+        public TreePath getPath() {
+            List<Node> nodes = new ArrayList<>();
+            for (Node node = this; node != null; node = node.parent) {
+                nodes.add(node);
+            }
+            Collections.reverse(nodes);
+            return new TreePath(nodes.toArray());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Node other)) return false;
+            return kind == other.kind && index == other.index &&
+                Objects.equals(category, other.category) &&
+                Objects.equals(typeName, other.typeName) &&
+                Objects.equals(name, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, category, typeName, name, index);
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private final EventListenerList listeners = new EventListenerList();
+    private final Map<Node, Integer> reportedCounts = new HashMap<>();
+    private GripSchema schema;
+    private GripSchemaIndex.Result search;
+    private Node root = new Node(Kind.ROOT, null, null, null, 0, null, null, null, "Schema (not loaded)");
+    private List<GripType> types = Collections.emptyList();
+    private long typesVersion = -1;
+
+    private final Map<GripField, String> operationLabels = new IdentityHashMap<>();
+    private final Map<GripField, String> memberLabels = new IdentityHashMap<>();
+    private final Map<GripType, String> typeLabels = new IdentityHashMap<>();
+    private final String[] categoryLabels = new String[BROWSE_CATEGORIES.length];
+    private String[] matchLabels = new String[0];
+    private long labelsVersion = -1;
+
+    public GripSchema getSchema() {
+        return schema;
+    }
+
+    public boolean isSearching() {
+        return search != null;
+    }
+
+    public void setSchema(GripSchema schema) {
+        this.schema = schema;
+        this.search = null;
+        this.typesVersion = -1;
+        this.labelsVersion = -1;
+        this.root = new Node(Kind.ROOT, null, null, null, 0, null, null, null,
+            "Schema: " + schema.getSourceEndpoint());
+        reportedCounts.clear();
+        fireStructureChanged(new TreePath(root));
+    }
+
+    public void showSearch(GripSchemaIndex.Result result) {
+        this.search = result;
+        this.matchLabels = new String[result.size()];
+        Arrays.fill(categoryLabels, null);
+        this.root = new Node(Kind.ROOT, null, null, null, 0, null, null, null,
+            "Schema (search: \"" + result.getQuery() + "\")");
+        reportedCounts.clear();
+        fireStructureChanged(new TreePath(root));
+    }
+
+    public TreePath getCategoryPath(String category) {
+        String[] categories = categories();
+        for (int i = 0; i < categories.length; i++) {
+            if (categories[i].equals(category)) {
+                return ((Node) getChild(root, i)).getPath();
+            }
+        }
+        return null;
+    }
+
+    public void refresh(Enumeration<TreePath> expanded) {
+        if (schema == null) return;
+
+        List<Node> open = new ArrayList<>();
+        while (expanded != null && expanded.hasMoreElements()) {
+            Object last = expanded.nextElement().getLastPathComponent();
+            if (last instanceof Node node && node.kind != Kind.ROOT && reportedCounts.containsKey(node)) {
+                open.add(node);
+            }
+        }
+        reportedCounts.keySet().retainAll(open);
+        open.sort((a, b) -> Integer.compare(depth(a), depth(b)));
+
+        TreePath rootPath = new TreePath(root);
+        fire(childEvent(root, rootPath, 0, categories().length), EventType.CHANGED);
+
+        for (Node node : open) {
+            int before = reportedCounts.get(node);
+            int now = countChildren(node);
+            TreePath path = node.getPath();
+            reportedCounts.put(node, now);
+
+            if (now < before) {
+                fireStructureChanged(path);
+                continue;
+            }
+            if (before > 0) {
+                fire(childEvent(node, path, 0, before), EventType.CHANGED);
+            }
+            if (now > before) {
+                fire(childEvent(node, path, before, now), EventType.INSERTED);
+            }
+        }
+    }
+
+    @Override
+    public Object getRoot() {
+        return root;
+    }
+
+    @Override
+    public Object getChild(Object parent, int index) {
+        Node node = (Node) parent;
+        switch (node.kind) {
+            case ROOT: {
+                String category = categories()[index];
+                return new Node(Kind.CATEGORY, category, null, null, index, node, null, null,
+                    categoryLabel(category, index));
+            }
+            case CATEGORY:
+                return categoryChild(node, index);
+            case TYPE:
+                return memberChild(node, index);
+            default:
+                throw new IndexOutOfBoundsException("Leaf node has no children");
+        }
+    }
+
+    @Override
+    public int getChildCount(Object parent) {
+        Node node = (Node) parent;
+        int count = countChildren(node);
+        if (node.kind != Kind.ROOT) {
+            reportedCounts.put(node, count);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isLeaf(Object value) {
+        Node node = (Node) value;
+        return switch (node.kind) {
+            case ROOT -> false;
+            case CATEGORY, TYPE -> countChildren(node) == 0;
+            default -> true;
+        };
+    }
+
+    @Override
+    public int getIndexOfChild(Object parent, Object child) {
+        if (!(parent instanceof Node) || !(child instanceof Node node)) return -1;
+        int count = countChildren((Node) parent);
+        if (node.index >= 0 && node.index < count && getChild(parent, node.index).equals(node)) {
+            return node.index;
+        }
+        for (int i = 0; i < count; i++) {
+            if (getChild(parent, i).equals(node)) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public void valueForPathChanged(TreePath path, Object newValue) {
+    }
+
+    @Override
+    public void addTreeModelListener(TreeModelListener listener) {
+        listeners.add(TreeModelListener.class, listener);
+    }
+
+    @Override
+    public void removeTreeModelListener(TreeModelListener listener) {
+        listeners.remove(TreeModelListener.class, listener);
+    }
+
+    private String[] categories() {
+        if (schema == null) return new String[0];
+        return search != null ? SEARCH_CATEGORIES : BROWSE_CATEGORIES;
+    }
+
+    private int countChildren(Node node) {
+        return switch (node.kind) {
+            case ROOT -> categories().length;
+            case CATEGORY -> categoryCount(node.category);
+            case TYPE -> memberCount(node.type);
+            default -> 0;
+        };
+    }
+
+    private int categoryCount(String category) {
+        if (schema == null) return 0;
+        return switch (category) {
+            case QUERIES -> schema.getQueries().size();
+            case MUTATIONS -> schema.getMutations().size();
+            case SUBSCRIPTIONS -> schema.getSubscriptions().size();
+            case TYPES -> types().size();
+            case MATCHES -> search != null ? search.size() : 0;
+            default -> 0;
+        };
+    }
+
+    private Node categoryChild(Node category, int index) {
+        switch (category.category) {
+            case QUERIES:
+                return operationNode(category, schema.getQueryType(), schema.getQueries().get(index), index, "Query");
+            case MUTATIONS:
+                return operationNode(category, schema.getMutationType(), schema.getMutations().get(index), index,
+                    "Mutation");
+            case SUBSCRIPTIONS:
+                return operationNode(category, schema.getSubscriptionType(), schema.getSubscriptions().get(index), index,
+                    "Subscription");
+            case TYPES:
+                GripType type = types().get(index);
+                return typeNode(category, type, index, typeLabel(type));
+            case MATCHES: {
+                GripSchemaIndex.Hit hit = search.get(index);
+                if (hit.isOperation()) {
+                    return operationNode(category, hit.type, hit.field, index, hit.operation);
+                }
+                String label = matchLabels[index];
+                if (label == null) {
+                    label = typeLabel(hit.type);
+                    if (hit.match != GripSchemaIndex.MatchKind.TYPE || hit.fuzzy) {
+                        label += "  - " + hit.match.getLabel() + " " + hit.matched + (hit.fuzzy ? " (fuzzy)" : "");
+                    }
+                    matchLabels[index] = label;
+                }
+                return typeNode(category, hit.type, index, label);
+            }
+            default:
+                throw new IndexOutOfBoundsException(category.category);
+        }
+    }
+
+    private Node operationNode(Node category, GripType owner, GripField field, int index, String operation) {
+        return new Node(Kind.OPERATION, category.category, owner != null ? owner.getName() : null,
+            field.getName(), index, category, owner, field, operation, operationLabel(field));
+    }
+
+    private Node typeNode(Node category, GripType type, int index, String label) {
+        return new Node(Kind.TYPE, category.category, type.getName(), type.getName(), index, category,
+            type, null, label);
+    }
+
+    private Node memberChild(Node typeNode, int index) {
+        GripType type = typeNode.type;
+        List<GripField> fields = type.getFields();
+        if (index < fields.size()) {
+            return memberNode(typeNode, fields.get(index), index);
+        }
+        List<GripField> inputFields = type.getInputFields();
+        int offset = index - fields.size();
+        if (offset < inputFields.size()) {
+            return memberNode(typeNode, inputFields.get(offset), index);
+        }
+        GripEnumValue value = type.getEnumValues().get(offset - inputFields.size());
+        return new Node(Kind.MEMBER, typeNode.category, type.getName(), value.getName(), index, typeNode,
+            type, null, value.getName());
+    }
+
+    private Node memberNode(Node typeNode, GripField field, int index) {
+        return new Node(Kind.MEMBER, typeNode.category, typeNode.typeName, field.getName(), index, typeNode,
+            typeNode.type, field, memberLabel(field));
+    }
+
+    private void validateLabels() {
+        long version = schema != null ? schema.getVersion() : -1;
+        if (version != labelsVersion) {
+            operationLabels.clear();
+            memberLabels.clear();
+            typeLabels.clear();
+            Arrays.fill(categoryLabels, null);
+            labelsVersion = version;
+        }
+    }
+
+    private String categoryLabel(String category, int index) {
+        validateLabels();
+        String label = categoryLabels[index];
+        if (label == null) {
+            label = category + " (" + categoryCount(category) + ")";
+            categoryLabels[index] = label;
+        }
+        return label;
+    }
+
+    private String operationLabel(GripField field) {
+        validateLabels();
+        String label = operationLabels.get(field);
+        if (label == null) {
+            label = displayName(field);
+            operationLabels.put(field, label);
+        }
+        return label;
+    }
+
+    private String memberLabel(GripField field) {
+        validateLabels();
+        String label = memberLabels.get(field);
+        if (label == null) {
+            label = field.getName() + ": " + (field.getType() != null ? field.getType().toGraphQLString() : "Unknown");
+            memberLabels.put(field, label);
+        }
+        return label;
+    }
+
+    private String typeLabel(GripType type) {
+        validateLabels();
+        String label = typeLabels.get(type);
+        if (label == null) {
+            label = type.getName() + " (" + type.getKind() + ")";
+            typeLabels.put(type, label);
+        }
+        return label;
+    }
+
+    private static int memberCount(GripType type) {
+        if (type == null) return 0;
+        return type.getFields().size() + type.getInputFields().size() + type.getEnumValues().size();
+    }
+
+    private List<GripType> types() {
+        if (schema != null && typesVersion != schema.getVersion()) {
+            List<GripType> visible = new ArrayList<>();
+            for (GripType type : schema.getAllTypes()) {
+                if (!type.getName().startsWith("__")) visible.add(type);
+            }
+            types = visible;
+            typesVersion = schema.getVersion();
+        }
+        return types;
+    }
+
+    static String displayName(GripField field) {
+        StringBuilder sb = new StringBuilder(field.getName());
+        if (!field.getArguments().isEmpty()) {
+            sb.append("(");
+            for (int i = 0; i < field.getArguments().size(); i++) {
+                if (i > 0) sb.append(", ");
+                GripArgument arg = field.getArguments().get(i);
+                sb.append(arg.getName()).append(": ");
+                sb.append(arg.getType() != null ? arg.getType().toGraphQLString() : "Unknown");
+            }
+            sb.append(")");
+        }
+        sb.append(": ").append(field.getType() != null ? field.getType().toGraphQLString() : "Unknown");
+        return sb.toString();
+    }
+
+    private static int depth(Node node) {
+        int depth = 0;
+        for (Node n = node.parent; n != null; n = n.parent) depth++;
+        return depth;
+    }
+
+    private static TreeModelEvent childEvent(Node node, TreePath path, int from, int to) {
+        int[] indices = new int[to - from];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = from + i;
+        }
+        return new TreeModelEvent(node, path, indices, null);
+    }
+
+    private enum EventType { CHANGED, INSERTED }
+
+    private void fire(TreeModelEvent event, EventType type) {
+        for (TreeModelListener listener : listeners.getListeners(TreeModelListener.class)) {
+            if (type == EventType.CHANGED) {
+                listener.treeNodesChanged(event);
+            } else {
+                listener.treeNodesInserted(event);
+            }
+        }
+    }
+
+    private void fireStructureChanged(TreePath path) {
+        TreeModelEvent event = new TreeModelEvent(this, path);
+        for (TreeModelListener listener : listeners.getListeners(TreeModelListener.class)) {
+            listener.treeStructureChanged(event);
+        }
+    }
+}
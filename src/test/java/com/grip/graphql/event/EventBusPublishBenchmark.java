@@ -0,0 +1,53 @@
+package com.grip.graphql.event;
+
+import com.grip.graphql.api.GripEventListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class EventBusPublishBenchmark {
+
+    private static final int WARMUP_PUBLISHES = 500_000;
+    private static final int MEASURED_PUBLISHES = 2_000_000;
+    private static final int RUNS = 5;
+    private static final int BUFFER_SIZE = 8192;
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int run = 1; run <= RUNS; run++) {
+            double none = measure(null);
+            double exact = measure(ProgressEvent.class);
+            double supertype = measure(GripEvent.class);
+            System.out.printf("run %d: no subscribers %.1f ns/publish, exact-class listener %.1f ns/publish, " +
+                "GripEvent listener %.1f ns/publish%n", run, none, exact, supertype);
+        }
+    }
+
+    private static double measure(Class<? extends GripEvent> subscribedType) throws InterruptedException {
+        GripEventBus bus = new GripEventBus();
+        LongAdder delivered = new LongAdder();
+        if (subscribedType != null) {
+            subscribe(bus, subscribedType, event -> delivered.increment());
+        }
+        ProgressEvent event = new ProgressEvent("benchmark", "line");
+        try {
+            for (int i = 0; i < WARMUP_PUBLISHES; i++) {
+                bus.publish(event);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_PUBLISHES; i++) {
+                bus.publish(event);
+            }
+            long nanos = System.nanoTime() - start;
+            Thread.sleep(100);
+            if (subscribedType != null && delivered.sum() == 0) {
+                System.out.println("  " + subscribedType.getSimpleName() + " listener received no events");
+            }
+            return (double) nanos / MEASURED_PUBLISHES;
+        } finally {
+            bus.shutdown();
+        }
+    }
+
+    private static <T extends GripEvent> void subscribe(GripEventBus bus, Class<T> type, GripEventListener<T> listener) {
+        bus.subscribe(type, listener, BUFFER_SIZE, GripEventBus.OverflowPolicy.DROP_OLDEST);
+    }
+}
@@ -0,0 +1,92 @@
+package com.grip.graphql.schema.regex;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ErrorClassifierBenchmark {
+
+    private static final String CORPUS = "/error-corpus/messages.txt";
+    private static final Pattern QUOTED_NAME = Pattern.compile("([\"'`])(\\w+)([\"'`])");
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 1000;
+    private static final int RUNS = 10;
+
+    private static long sink;
+
+    public static void main(String[] args) throws IOException {
+        List<String> corpus = loadCorpus();
+        System.out.println("Corpus: " + corpus.size() + " messages");
+
+        for (int run = 1; run <= RUNS; run++) {
+            double repeated = measure(corpus, false);
+            double unique = measure(corpus, true);
+            System.out.printf("run %d: repeated %.0f ns/message, unique %.0f ns/message%n", run, repeated, unique);
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static double measure(List<String> corpus, boolean unique) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runRound(messagesFor(corpus, unique, round));
+        }
+
+        long nanos = 0;
+        long messages = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            List<String> batch = messagesFor(corpus, unique, WARMUP_ROUNDS + round);
+            long start = System.nanoTime();
+            runRound(batch);
+            nanos += System.nanoTime() - start;
+            messages += batch.size();
+        }
+        return (double) nanos / messages;
+    }
+
+    private static List<String> messagesFor(List<String> corpus, boolean unique, int round) {
+        if (!unique) {
+            return corpus;
+        }
+        List<String> renamed = new ArrayList<>(corpus.size());
+        for (String message : corpus) {
+            Matcher matcher = QUOTED_NAME.matcher(message);
+            renamed.add(matcher.replaceAll("$1$2" + round + "$3"));
+        }
+        return renamed;
+    }
+
+    private static void runRound(List<String> messages) {
+        for (String message : messages) {
+            if (GripRegexStore.indicatesValidField(message)) sink++;
+            if (GripRegexStore.extractFieldInfo(message) != null) sink++;
+            sink += GripRegexStore.extractSuggestions(message).size();
+            if (GripRegexStore.extractArgumentInfo(message) != null) sink++;
+            if (GripRegexStore.extractTypeInfo(message) != null) sink++;
+            if (GripRegexStore.indicatesObjectType(message)) sink++;
+            if (GripRegexStore.indicatesScalarType(message)) sink++;
+        }
+    }
+
+    private static List<String> loadCorpus() throws IOException {
+        InputStream stream = ErrorClassifierBenchmark.class.getResourceAsStream(CORPUS);
+        if (stream == null) {
+            throw new IOException("Corpus not found on the classpath: " + CORPUS);
+        }
+        List<String> messages = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    messages.add(line);
+                }
+            }
+        }
+        return messages;
+    }
+}